@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -52,10 +53,28 @@ public class FastFuture<T> {
     private final AtomicInteger max = new AtomicInteger(
                                                         0);
 
+    private final JoinStrategy joinStrategy;
+    /*
+     * Treiber stack of threads parked in join / await, released on completion
+     */
+    private volatile WaitNode waiters;
+    private static final AtomicReferenceFieldUpdater<FastFuture, WaitNode> WAITERS = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                            WaitNode.class, "waiters");
+
+    static final class WaitNode {
+        final Thread thread;
+        WaitNode next;
+
+        WaitNode(final Thread thread) {
+            this.thread = thread;
+        }
+    }
+
     public FastFuture() {
         max.set(0);
         this.doFinally = null;
         this.pipeline = null;
+        this.joinStrategy = JoinStrategy.ADAPTIVE;
     }
 
     private T result() {
@@ -75,25 +94,71 @@ public class FastFuture<T> {
     }
 
     public FastFuture(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally) {
+        this(pipeline, doFinally, JoinStrategy.ADAPTIVE);
+    }
+
+    public FastFuture(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally, final JoinStrategy joinStrategy) {
         this.max.set(0);
         this.pipeline = pipeline;
         this.doFinally = doFinally;
+        this.joinStrategy = joinStrategy;
 
     }
 
     public FastFuture(final FinalPipeline pipeline, final int max) {
+        this(pipeline, max, JoinStrategy.ADAPTIVE);
+    }
+
+    public FastFuture(final FinalPipeline pipeline, final int max, final JoinStrategy joinStrategy) {
         this.max.set(max);
         this.pipeline = pipeline;
         this.doFinally = null;
+        this.joinStrategy = joinStrategy;
     }
 
     public void await() {
+        awaitDone();
+    }
 
-        long spin = 1;
+    /*
+     * Spin, then yield, then park until done. Completing threads unpark any registered waiters,
+     * so the joining thread wakes as soon as the result is available rather than on a timed poll.
+     */
+    private void awaitDone() {
+        if (done)
+            return;
+        for (int i = 0; i < joinStrategy.getSpins(); i++) {
+            if (done)
+                return;
+        }
+        for (int i = 0; i < joinStrategy.getYields(); i++) {
+            if (done)
+                return;
+            Thread.yield();
+        }
+        final WaitNode node = new WaitNode(
+                                           Thread.currentThread());
+        do {
+            node.next = waiters;
+        } while (!WAITERS.compareAndSet(this, node.next, node));
+
+        boolean interrupted = false;
         while (!done) {
-            LockSupport.parkNanos(spin++);
+            LockSupport.park(this);
+            if (Thread.interrupted())
+                interrupted = true;
         }
+        if (interrupted)
+            Thread.currentThread()
+                  .interrupt();
+    }
 
+    private void releaseWaiters() {
+        if (waiters == null)
+            return;
+        for (WaitNode next = WAITERS.getAndSet(this, null); next != null; next = next.next) {
+            LockSupport.unpark(next.thread);
+        }
     }
 
     /**
@@ -104,10 +169,7 @@ public class FastFuture<T> {
     public T join() {
 
         try {
-            long spin = 1;
-            while (!done) {
-                LockSupport.parkNanos(spin++);
-            }
+            awaitDone();
             if (completedExceptionally)
                 throw new SimpleReactCompletionException(
                                                          exception());
@@ -179,6 +241,7 @@ public class FastFuture<T> {
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
         done = true;
+        releaseWaiters();
         return this;
     }
 
@@ -316,6 +379,7 @@ public class FastFuture<T> {
     private boolean done() {
         this.completedExceptionally = false;
         this.done = true;
+        releaseWaiters();
         handleOnComplete(true);
 
         return true;
@@ -330,6 +394,7 @@ public class FastFuture<T> {
         this.count.set(0);
         this.max.set(0);
         this.completedExceptionally = false;
+        this.waiters = null;
         this.done = false;
     }
 
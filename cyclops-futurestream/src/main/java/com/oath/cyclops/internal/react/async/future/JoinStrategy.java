@@ -0,0 +1,45 @@
+package com.oath.cyclops.internal.react.async.future;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Builder;
+import lombok.experimental.Wither;
+
+/**
+ * Controls how a thread joining a FastFuture waits for the result.
+ *
+ * The joining thread first busy spins (checking completion) for the configured number of spins,
+ * then calls Thread.yield for the configured number of yields, before registering itself with the
+ * FastFuture and parking. Completing the FastFuture (either with a result or an error) unparks any
+ * registered waiters.
+ *
+ * <pre>
+ * {@code
+ *  new LazyReact().withJoinStrategy(JoinStrategy.BLOCKING)
+ * }
+ * </pre>
+ *
+ */
+@AllArgsConstructor
+@Getter
+@Wither
+@Builder
+@ToString
+public class JoinStrategy {
+
+    private final int spins;
+    private final int yields;
+
+    /**
+     * Spin briefly, then yield, before parking - suitable for short lived tasks
+     */
+    public static final JoinStrategy ADAPTIVE = new JoinStrategy(
+                                                                 100, 10);
+    /**
+     * Park immediately - frees the CPU at the cost of wake-up latency
+     */
+    public static final JoinStrategy BLOCKING = new JoinStrategy(
+                                                                 0, 0);
+
+}
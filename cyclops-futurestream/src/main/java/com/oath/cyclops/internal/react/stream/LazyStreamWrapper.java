@@ -54,9 +54,9 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         final Function<Object, FastFuture> factory = v -> {
 
             final FastFuture next = pool != null ? pool.next(() -> new FastFuture<>(
-                                                                                    f.getPipeline(), fut -> pool.done(fut)))
+                                                                                    f.getPipeline(), fut -> pool.done(fut), react.getJoinStrategy()))
                     : new FastFuture<>(
-                                       f.getPipeline(), 0);
+                                       f.getPipeline(), 0, react.getJoinStrategy());
             next.set(v);
             return next;
         };
@@ -79,9 +79,9 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
 
     private FastFuture buildPool(final FinalPipeline pipeline) {
         return pool != null ? pool.next(() -> new FastFuture<>(
-                                                               pipeline, fut -> pool.done(fut)))
+                                                               pipeline, fut -> pool.done(fut), react.getJoinStrategy()))
                 : new FastFuture<>(
-                                   pipeline, 0);
+                                   pipeline, 0, react.getJoinStrategy());
     }
 
     public <R> LazyStreamWrapper<R> operation(final Function<PipelineBuilder, PipelineBuilder> action) {
@@ -2,12 +2,15 @@ package com.oath.cyclops.react.collectors.lazy;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.types.futurestream.BlockingStream;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,6 +21,10 @@ import lombok.experimental.Wither;
  * This class allows a Batch of completable futures to be processed before collecting their results, to increase
  * parallelism.
  *
+ * Each accepted future registers a completion callback that decrements an in-flight counter and pushes the future
+ * onto a lock-free completed queue. When more than maxActive futures are in flight the producing thread parks until
+ * completions reduce the in-flight count to reduceTo, so the cost per future is constant regardless of maxActive.
+ *
  * @author johnmcclean
  *
  * @param <T> Result type
@@ -28,7 +35,10 @@ import lombok.experimental.Wither;
 public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
   private final Collection<FastFuture<T>> results;
-  private final List<FastFuture<T>> active = new ArrayList<>();
+  private final Set<FastFuture<T>> active = new LinkedHashSet<>();
+  private final Queue<FastFuture<T>> completed = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger inFlight = new AtomicInteger(0);
+  private final AtomicReference<Thread> waiting = new AtomicReference<>();
   @Getter
   private final MaxActive maxActive;
   @Getter
@@ -50,28 +60,49 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
   public void accept(final FastFuture<T> t) {
 
     active.add(t);
+    inFlight.incrementAndGet();
+    final AtomicInteger count = new AtomicInteger(0);
+    t.onComplete(c -> {
+      if (!count.compareAndSet(0, 1))
+        return;
+      completed.offer(t);
+      if (inFlight.decrementAndGet() <= maxActive.getReduceTo()) {
+        final Thread producer = waiting.get();
+        if (producer != null)
+          LockSupport.unpark(producer);
+      }
+    });
 
-    if (active.size() > maxActive.getMaxActive()) {
-
-      while (active.size() > maxActive.getReduceTo()) {
-
-        final List<FastFuture<T>> toRemove = active.stream()
-          .filter(cf -> cf.isDone())
-          .collect(Collectors.toList());
-        active.removeAll(toRemove);
-        results.addAll(toRemove);
-        if (active.size() > maxActive.getReduceTo()) {
-          final CompletableFuture promise = new CompletableFuture();
-          FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-            promise.complete(true);
-          } , active.toArray(new FastFuture[0]));
+    if (inFlight.get() > maxActive.getMaxActive()) {
+      awaitCapacity();
+    }
+    drainCompleted();
 
-          promise.join();
-        }
+  }
 
+  private void awaitCapacity() {
+    waiting.set(Thread.currentThread());
+    boolean interrupted = false;
+    try {
+      while (inFlight.get() > maxActive.getReduceTo()) {
+        LockSupport.park(this);
+        if (Thread.interrupted())
+          interrupted = true;
       }
+    } finally {
+      waiting.set(null);
     }
+    if (interrupted)
+      Thread.currentThread()
+        .interrupt();
+  }
 
+  private void drainCompleted() {
+    FastFuture<T> next;
+    while ((next = completed.poll()) != null) {
+      if (active.remove(next))
+        results.add(next);
+    }
   }
 
   /* (non-Javadoc)
@@ -102,6 +133,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
    */
   @Override
   public Collection<FastFuture<T>> getAllResults() {
+    drainCompleted();
     results.addAll(active);
     active.clear();
     return results;
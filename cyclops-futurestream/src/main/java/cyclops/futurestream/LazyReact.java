@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.oath.cyclops.async.adapters.Adapter;
+import com.oath.cyclops.internal.react.async.future.JoinStrategy;
 import cyclops.data.Seq;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.Spouts;
@@ -93,6 +94,8 @@ public class LazyReact implements ReactBuilder {
     private final boolean autoMemoize;
     @Getter
     private final Cacheable<?> memoizeCache;
+    @Getter
+    private final JoinStrategy joinStrategy;
 
 
 
@@ -171,6 +174,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        joinStrategy = JoinStrategy.ADAPTIVE;
 
     }
 
@@ -189,6 +193,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        joinStrategy = JoinStrategy.ADAPTIVE;
 
     }
 
@@ -212,6 +217,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        joinStrategy = JoinStrategy.ADAPTIVE;
     }
 
     /**
@@ -570,6 +576,17 @@ public class LazyReact implements ReactBuilder {
     public LazyReact(final Executor executor, final Boolean async, final MaxActive maxActive,
             final boolean streamOfFutures, final boolean objectPoolingActive, final boolean autoOptimize, final boolean autoMemoize,
             final Cacheable memoizeCache) {
+        this(executor, async, maxActive, streamOfFutures, objectPoolingActive, autoOptimize, autoMemoize, memoizeCache, JoinStrategy.ADAPTIVE);
+    }
+
+    /**
+     * @param executor Task Executor for concurrent tasks
+     * @param async If true each task will be submitted to an executor service
+     * @param joinStrategy Determines how threads blocking on a result spin, yield and park
+     */
+    public LazyReact(final Executor executor, final Boolean async, final MaxActive maxActive,
+            final boolean streamOfFutures, final boolean objectPoolingActive, final boolean autoOptimize, final boolean autoMemoize,
+            final Cacheable memoizeCache, final JoinStrategy joinStrategy) {
         super();
         this.executor = executor;
         this.async = Optional.ofNullable(async)
@@ -582,6 +599,8 @@ public class LazyReact implements ReactBuilder {
         this.autoOptimize = autoOptimize;
         this.autoMemoize = autoMemoize;
         this.memoizeCache = memoizeCache;
+        this.joinStrategy = Optional.ofNullable(joinStrategy)
+                                    .orElse(JoinStrategy.ADAPTIVE);
 
     }
 
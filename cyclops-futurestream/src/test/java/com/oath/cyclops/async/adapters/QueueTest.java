@@ -10,6 +10,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -23,6 +25,8 @@ import java.util.stream.Stream;
 import cyclops.futurestream.LazyReact;
 import com.oath.cyclops.async.QueueFactories;
 import cyclops.futurestream.SimpleReact;
+import cyclops.reactive.ReactiveSeq;
+import com.oath.cyclops.react.async.subscription.Subscription;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -522,6 +526,76 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void offerAllDrainToNonBlocking(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		assertTrue(queue.offerAll(Arrays.asList(1,2,null,4,5)));
+		List<Integer> result = new ArrayList<>();
+		assertThat(queue.drainTo(result,3),is(3));
+		assertThat(result,equalTo(Arrays.asList(1,2,null)));
+		assertThat(queue.drainTo(result,10),is(2));
+		assertThat(result,equalTo(Arrays.asList(1,2,null,4,5)));
+		assertThat(queue.drainTo(result,10),is(0));
+	}
+	@Test
+	public void offerAllDrainToBlocking(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedQueue(100).build();
+		assertTrue(queue.offerAll(Arrays.asList(1,2,3)));
+		List<Integer> result = new ArrayList<>();
+		assertThat(queue.drainTo(result,10),is(3));
+		assertThat(result,equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void offerAllWaitsWhenFull() throws InterruptedException {
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(4).build();
+		List<Integer> result = new ArrayList<>();
+		Thread consumer = new Thread(()->{
+			while(result.size()<1000)
+				queue.drainTo(result,10);
+		});
+		consumer.start();
+		assertTrue(queue.offerAll(ReactiveSeq.range(0,1000)));
+		consumer.join();
+		assertThat(result,equalTo(ReactiveSeq.range(0,1000).toList()));
+	}
+	@Test(expected=Queue.ClosedQueueException.class)
+	public void drainToClosed(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		queue.close();
+		queue.drainTo(new ArrayList<>(),10);
+	}
+	@Test(expected=Queue.ClosedQueueException.class)
+	public void offerAllClosed(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		queue.close();
+		queue.offerAll(Arrays.asList(1,2,3));
+	}
+	@Test
+	public void streamBatchChunks(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		ReactiveSeq<Collection<Integer>> batches = queue.streamBatch(new Subscription(),4);
+		queue.offerAll(ReactiveSeq.range(0,10));
+		queue.close();
+		List<Collection<Integer>> result = batches.toList();
+		assertThat(result.size(),is(3));
+		assertThat(result.get(0).size(),is(4));
+		assertThat(ReactiveSeq.fromIterable(result).flatMap(c->c.stream()).toList(),equalTo(ReactiveSeq.range(0,10).toList()));
+	}
+	@Test
+	public void streamBatchAsync(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(16).build();
+		new Thread(()->{
+			for(int i=0;i<10_000;i++)
+				queue.offer(i);
+			queue.close();
+		}).start();
+		List<Integer> result = queue.streamBatch(new Subscription(),100)
+									.peek(c->assertTrue(c.size()<=100))
+									.flatMap(c->c.stream())
+									.toList();
+		assertThat(result,equalTo(ReactiveSeq.range(0,10_000).toList()));
+	}
+
 	boolean called = false;
 	@Test
 	public void stackOverflowQuestion() {
@@ -284,6 +284,93 @@ public class TopicTest {
 
 
 
+	@Test
+	public void ringBufferMultipleSubscribersGetSameMessages() {
+		Topic<String> topic = Topic.ringBuffer(16);
+
+		Stream<String> data1 = topic.stream();
+		Stream<String> data2 = topic.stream();
+		topic.fromStream(Stream.of("hello", "world"));
+
+		assertThat(data1.limit(1).findFirst().get(), is("hello"));
+		assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+	}
+
+	@Test
+	public void ringBufferNullsAndClose() {
+		Topic<String> topic = Topic.ringBuffer(4);
+		ReactiveSeq<String> s1 = topic.stream();
+		ReactiveSeq<String> s2 = topic.stream();
+		topic.offer("hello");
+		topic.offer(null);
+		topic.close();
+
+		assertThat(s1.toList(), is(Arrays.asList("hello", null)));
+		assertThat(s2.toList(), is(Arrays.asList("hello", null)));
+	}
+
+	@Test
+	public void ringBufferReaderIteratorConsumes() {
+		BroadcastRingBuffer<String> ring = new BroadcastRingBuffer<>(4);
+		BroadcastRingBuffer.Reader<String> reader = ring.subscribe();
+		ring.offer("hello");
+		ring.offer("world");
+
+		List<String> read = new ArrayList<>();
+		reader.iterator().forEachRemaining(read::add);
+		assertThat(read, is(Arrays.asList("hello", "world")));
+		assertThat(reader.isEmpty(), is(true));
+		assertThat(reader.iterator().hasNext(), is(false));
+	}
+
+	@Test(expected=Queue.ClosedQueueException.class)
+	public void ringBufferOfferAfterClose() {
+		Topic<String> topic = Topic.ringBuffer(4);
+		topic.stream();
+		topic.close();
+		topic.offer("hello");
+	}
+
+	@Test
+	public void ringBufferGatesOnSlowestSubscriber() throws InterruptedException {
+		Topic<Integer> topic = Topic.ringBuffer(8);
+		ReactiveSeq<Integer> s1 = topic.stream();
+		ReactiveSeq<Integer> s2 = topic.stream();
+		Thread writer = new Thread(()->{
+			for(int i=0;i<10_000;i++)
+				topic.offer(i);
+			topic.close();
+		});
+		writer.start();
+
+		List<Integer> expected = ReactiveSeq.range(0,10_000).toList();
+		List<Integer>[] fast = new List[1];
+		Thread reader = new Thread(()-> fast[0] = s1.toList());
+		reader.start();
+		assertThat(s2.toList(), is(expected));
+		reader.join();
+		writer.join();
+		assertThat(fast[0], is(expected));
+	}
+
+	@Test(timeout=10000)
+	public void ringBufferDisconnectReleasesWriter() throws InterruptedException {
+		Topic<Integer> topic = Topic.ringBuffer(4);
+		ReactiveSeq<Integer> s1 = topic.stream();
+		ReactiveSeq<Integer> s2 = topic.stream();
+		topic.disconnect(s2);
+		assertThat(topic.getDistributor().getSubscribers().size(),is(1));
+
+		List<Integer>[] result = new List[1];
+		Thread reader = new Thread(()-> result[0] = s1.limit(100).toList());
+		reader.start();
+		for(int i=0;i<100;i++)
+			topic.offer(i);
+		reader.join();
+		assertThat(result[0], is(ReactiveSeq.range(0,100).toList()));
+	}
+
 	private Collection<String> extract1(List<Collection<String>> result) {
 		for(Collection next : result){
 			if(next instanceof ArrayList)
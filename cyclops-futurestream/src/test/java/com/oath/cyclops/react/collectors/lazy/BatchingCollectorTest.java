@@ -1,16 +1,20 @@
 package com.oath.cyclops.react.collectors.lazy;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
+import com.oath.cyclops.internal.react.async.future.FinalPipeline;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.BDDMockito;
-import org.mockito.Mockito;
 
 import cyclops.futurestream.LazyReact;
 
@@ -26,68 +30,97 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(FastFuture.completedFuture(10l));
 		}
+		assertThat(collector.getResults().size(),equalTo(1000));
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 	@Test
-	public void testAcceptMock() {
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
-		}
-		Mockito.verify(cf, Mockito.atLeastOnce()).isDone();
-	}
-	@Test
-	public void testAcceptMock495() {
+	public void testAccept495() {
 		collector = new BatchingCollector(new MaxActive(500,5), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(10l));
 		}
-		Mockito.verify(cf, Mockito.times(501)).isDone();
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 	@Test
-	public void testAcceptMock50() {
+	public void testAcceptPreservesOrderWhenCompleted() {
 		collector = new BatchingCollector(new MaxActive(500,450), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
+		List<FastFuture> futures = new ArrayList<>();
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			FastFuture f = FastFuture.completedFuture(i);
+			futures.add(f);
+			collector.accept(f);
 		}
-		Mockito.verify(cf, Mockito.times(501)).isDone();
+		assertThat(new ArrayList<>(collector.getAllResults()),equalTo(futures));
 	}
 
 	@Test
 	public void testBuilder() {
 		collector = BatchingCollector.builder().blocking(LazyReact.sequentialBuilder().of(1)).maxActive(new MaxActive(2,1)).results(new ArrayList<>()).build();
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(10l));
 		}
-		Mockito.verify(cf, Mockito.times(999)).isDone();
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 
 	@Test
 	public void testWithMaxActive() {
 		collector = collector.withMaxActive(new MaxActive(10000,5));
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(new FastFuture(FinalPipeline.empty(),0));
 		}
-		Mockito.verify(cf, Mockito.times(0)).isDone();
+		assertThat(collector.getResults().size(),equalTo(0));
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 
 	@Test
 	public void testBatchingCollectorMaxActive() {
 		collector = new BatchingCollector(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1)).withResults(new HashSet<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		BDDMockito.given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(10l));
+		}
+		assertThat(collector.getAllResults().size(),equalTo(1000));
+	}
+
+	@Test
+	public void acceptBlocksUntilReducedTo() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		List<FastFuture> futures = new ArrayList<>();
+		for(int i=0;i<11;i++){
+			futures.add(new FastFuture(FinalPipeline.empty(),0));
+		}
+		CountDownLatch accepted = new CountDownLatch(1);
+		Thread producer = new Thread(()->{
+			futures.forEach(collector::accept);
+			accepted.countDown();
+		});
+		producer.start();
+		assertFalse(accepted.await(100, TimeUnit.MILLISECONDS));
+		for(int i=0;i<5;i++){
+			futures.get(i).set(i);
+		}
+		assertFalse(accepted.await(100, TimeUnit.MILLISECONDS));
+		futures.get(5).set(5);
+		assertTrue(accepted.await(1, TimeUnit.SECONDS));
+		producer.join();
+		assertThat(collector.getResults().size(),equalTo(6));
+		assertThat(collector.getAllResults().size(),equalTo(11));
+	}
+
+	@Test
+	public void largeMaxActiveCompletedAsync() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(5000,4000), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		List<FastFuture> futures = new ArrayList<>();
+		for(int i=0;i<100_000;i++){
+			futures.add(new FastFuture(FinalPipeline.empty(),0));
 		}
-		Mockito.verify(cf, Mockito.times(990)).isDone();
+		Thread completer = new Thread(()->{
+			for(FastFuture f : futures)
+				f.set(10);
+		});
+		completer.start();
+		futures.forEach(collector::accept);
+		completer.join();
+		assertThat(collector.getAllResults().size(),equalTo(100_000));
 	}
 
 
@@ -2,6 +2,7 @@ package cyclops.futurestream.react.async.future;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -13,12 +14,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.oath.cyclops.internal.react.async.future.FinalPipeline;
+import com.oath.cyclops.internal.react.async.future.JoinStrategy;
 import com.oath.cyclops.internal.react.async.future.PipelineBuilder;
 
 
@@ -522,4 +525,88 @@ public class FastFutureTest {
 
 	}
 
+	@Test
+	public void joinWakesOnSet() throws InterruptedException {
+		for (int i = 0; i < 1000; i++) {
+			FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(), 0, JoinStrategy.BLOCKING);
+			CountDownLatch started = new CountDownLatch(1);
+			Thread t1 = new Thread(() -> {
+				started.countDown();
+				f.set(10);
+			});
+			t1.start();
+			started.await();
+			assertThat(f.join(), equalTo(10));
+			t1.join();
+		}
+	}
+
+	@Test
+	public void joinWakesOnSetAdaptive() throws InterruptedException {
+		for (int i = 0; i < 1000; i++) {
+			FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(), 0, JoinStrategy.ADAPTIVE);
+			Thread t1 = new Thread(() -> f.set(10));
+			t1.start();
+			assertThat(f.join(), equalTo(10));
+			t1.join();
+		}
+	}
+
+	@Test
+	public void parkedJoinWakesPromptly() throws InterruptedException {
+		FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(), 0, JoinStrategy.BLOCKING);
+		CountDownLatch joined = new CountDownLatch(1);
+		Thread t1 = new Thread(() -> {
+			f.join();
+			joined.countDown();
+		});
+		t1.start();
+		Thread.sleep(100);
+		assertFalse(f.isDone());
+		f.set(10);
+		assertTrue(joined.await(500, TimeUnit.MILLISECONDS));
+		t1.join();
+	}
+
+	@Test
+	public void parkedJoinWakesOnException() throws InterruptedException {
+		FastFuture f = future.thenApply(v -> {
+			throw new RuntimeException();
+		}).build();
+		CountDownLatch joined = new CountDownLatch(1);
+		Thread t1 = new Thread(() -> {
+			try {
+				f.join();
+				fail("exception expected");
+			} catch (RuntimeException e) {
+				joined.countDown();
+			}
+		});
+		t1.start();
+		Thread.sleep(100);
+		f.set("boo!");
+		assertTrue(joined.await(500, TimeUnit.MILLISECONDS));
+		assertTrue(f.isCompletedExceptionally());
+		t1.join();
+	}
+
+	@Test
+	public void joinPreservesInterruptStatus() throws InterruptedException {
+		FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(), 0, JoinStrategy.BLOCKING);
+		CountDownLatch joined = new CountDownLatch(1);
+		Thread t1 = new Thread(() -> {
+			f.join();
+			if (Thread.currentThread().isInterrupted())
+				joined.countDown();
+		});
+		t1.start();
+		Thread.sleep(100);
+		t1.interrupt();
+		Thread.sleep(50);
+		assertFalse(f.isDone());
+		f.set(10);
+		assertTrue(joined.await(500, TimeUnit.MILLISECONDS));
+		t1.join();
+	}
+
 }
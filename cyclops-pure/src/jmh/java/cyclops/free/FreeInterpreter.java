@@ -0,0 +1,65 @@
+package cyclops.free;
+
+import com.oath.cyclops.hkt.DataWitness.supplier;
+import cyclops.function.Function0;
+import cyclops.instances.jdk.SupplierInstances;
+import cyclops.kinds.SupplierKind;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interpreting large Free programs via the resume based go and the constant stack runTailRec.
+ *
+ * Run selectively via gradle :cyclops-pure:jmh -PjmhInclude=cyclops.free.FreeInterpreter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FreeInterpreter {
+
+    @Param({"1000", "100000"})
+    int instructions;
+
+    Free<supplier, Integer> leftNested;
+    Free<supplier, Integer> rightNested;
+
+    @Setup
+    public void setup(){
+        Free<supplier, Integer> program = Free.done(0);
+        for(int i = 0; i < instructions; i++)
+            program = program.flatMap(x -> SupplierKind.free(() -> x + 1));
+        leftNested = program;
+        rightNested = countDown(instructions);
+    }
+
+    private static Free<supplier, Integer> countDown(int n){
+        if(n == 0)
+            return Free.done(0);
+        return SupplierKind.suspend(() -> countDown(n - 1).map(x -> x + 1));
+    }
+
+    @Benchmark
+    public void goLeftNested(Blackhole bh){
+        bh.consume(leftNested.go(s -> ((Function0<Free<supplier, Integer>>)s).apply(), SupplierInstances.functor));
+    }
+
+    @Benchmark
+    public void runTailRecLeftNested(Blackhole bh){
+        bh.consume(leftNested.runTailRec(s -> ((Function0<Free<supplier, ?>>)s).apply()));
+    }
+
+    @Benchmark
+    public void goRightNested(Blackhole bh){
+        bh.consume(rightNested.go(s -> ((Function0<Free<supplier, Integer>>)s).apply(), SupplierInstances.functor));
+    }
+
+    @Benchmark
+    public void runTailRecRightNested(Blackhole bh){
+        bh.consume(rightNested.runTailRec(s -> ((Function0<Free<supplier, ?>>)s).apply()));
+    }
+}
@@ -10,11 +10,16 @@ import cyclops.function.Function3;
 import cyclops.function.Function4;
 import cyclops.function.Function5;
 import com.oath.cyclops.hkt.DataWitness.free;
+import cyclops.data.NaturalTransformation;
+import cyclops.typeclasses.InstanceDefinitions;
 import cyclops.typeclasses.functor.Functor;
+import cyclops.typeclasses.monad.Monad;
+import cyclops.typeclasses.monad.MonadRec;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
+import java.util.Arrays;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -408,6 +413,93 @@ public abstract class Free<F, T> implements Higher2<free,F,T> {
     }
 
 
+    /**
+     * Run this Free program, extracting the next step from each suspension with the supplied function. Unlike
+     * {@link #go(Function, Functor)} no intermediate Either / LazyEither3 is created per step and the Functor is not
+     * used to push continuations into each suspension, left nested binds are reassociated on the fly by pushing
+     * their continuations onto a mutable stack, so programs of any size run in constant call stack depth.
+     *
+     * <pre>
+     * {@code
+     *  Long result = program.runTailRec(s -> ((Function0<Free<supplier, ?>>)s).apply());
+     * }
+     * </pre>
+     *
+     * @param extract Function that extracts the next Free from a suspension
+     * @return Result of the program
+     */
+    public final T runTailRec(final Function<? super Higher<F, Free<F, ?>>, ? extends Free<F, ?>> extract){
+        Free<F, Object> current = (Free<F, Object>)this;
+        Function<Object, Free<F, Object>>[] stack = null;
+        int size = 0;
+        for(;;){
+            if(current instanceof FlatMapped){
+                FlatMapped<F, Object, Object> bind = (FlatMapped<F, Object, Object>)current;
+                if(stack == null)
+                    stack = new Function[16];
+                else if(size == stack.length)
+                    stack = Arrays.copyOf(stack, size * 2);
+                stack[size++] = bind.narrowFn();
+                current = bind.free;
+            } else if(current instanceof Suspend){
+                Higher<F, Free<F, ?>> suspended = (Higher)((Suspend<F, Object>)current).suspended;
+                current = (Free<F, Object>)extract.apply(suspended);
+            } else {
+                Object value = ((Pure<F, Object>)current).value;
+                if(size == 0)
+                    return (T)value;
+                Function<Object, Free<F, Object>> next = stack[--size];
+                stack[size] = null;
+                current = next.apply(value);
+            }
+        }
+    }
+
+    /**
+     * Interpret this Free program into the target Monad, each suspension is translated via the supplied
+     * NaturalTransformation and the program is stepped through the stack safe {@link MonadRec#tailRec} of the target.
+     * Left nested binds are reassociated on the fly between steps. Continuations are held in the Free structure
+     * rather than a mutable stack, so target Monads that invoke a continuation more than once (e.g. List) are supported.
+     *
+     * @param nt Translation from the instruction set to the target Monad
+     * @param monad Monad for the target
+     * @param rec Stack safe recursion for the target
+     * @return Program result in the target Monad
+     */
+    public final <G> Higher<G, T> foldMap(final NaturalTransformation<F, G> nt, final Monad<G> monad, final MonadRec<G> rec){
+        return rec.<Free<F, T>, T>tailRec(this, free -> free.step(nt, monad));
+    }
+
+    /**
+     * @see Free#foldMap(NaturalTransformation, Monad, MonadRec)
+     */
+    public final <G> Higher<G, T> foldMap(final NaturalTransformation<F, G> nt, final InstanceDefinitions<G> defs){
+        return foldMap(nt, defs.monad(), defs.monadRec());
+    }
+
+    private <G> Higher<G, Either<Free<F, T>, T>> step(final NaturalTransformation<F, G> nt, final Monad<G> monad){
+        Free<F, T> current = this;
+        for(;;){
+            if(current instanceof Pure)
+                return monad.unit(Either.right(((Pure<F, T>)current).value));
+            if(current instanceof Suspend)
+                return monad.map(next -> Either.left(next), nt.apply(((Suspend<F, T>)current).suspended));
+            FlatMapped<F, Object, T> bind = (FlatMapped<F, Object, T>)current;
+            Free<F, Object> inner = bind.free;
+            if(inner instanceof Pure){
+                current = bind.narrowFn().apply(((Pure<F, Object>)inner).value);
+            } else if(inner instanceof Suspend){
+                Function<Object, Free<F, T>> fn = bind.narrowFn();
+                return monad.map(next -> Either.left(next.flatMap(fn)), nt.apply(((Suspend<F, Object>)inner).suspended));
+            } else {
+                FlatMapped<F, Object, Object> nested = (FlatMapped<F, Object, Object>)inner;
+                Function<Object, Free<F, Object>> first = nested.narrowFn();
+                Function<Object, Free<F, T>> second = bind.narrowFn();
+                current = new FlatMapped<F, Object, T>(nested.free, x -> new FlatMapped<>(first.apply(x), second));
+            }
+        }
+    }
+
     public abstract <R> R visit(Function<? super Pure<F,T>, ? extends R> done,
                             Function<? super Suspend<F,T>, ? extends R> suspend,
                             Function<? super FlatMapped<F,?,T>,? extends R> flatMapped);
@@ -604,7 +696,8 @@ public abstract class Free<F, T> implements Higher2<free,F,T> {
         }
         @Override
         public <R> Free<F, R> flatMap(final Function<? super T,? extends Free<F, ? extends R>> g) {
-            return new FlatMapped<F, IN, R>(free, aa -> new FlatMapped<F,T, R>(narrowFn().apply(aa), g));
+            //left nested binds are reassociated by the interpreters as they are run
+            return new FlatMapped<>(this, g);
         }
         <T1, U> LazyEither3<Higher<F, Free<F, T>>, T, Free<F, T>> resumeInternal(final Functor<F> functor){
             return   resumeNestedFree(functor).flatMap(cur->cur.resumeInternal(functor));
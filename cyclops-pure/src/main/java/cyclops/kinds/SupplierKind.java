@@ -5,7 +5,6 @@ import com.oath.cyclops.hkt.Higher;
 import cyclops.control.Future;
 import cyclops.free.Free;
 import cyclops.function.Function0;
-import cyclops.instances.jdk.SupplierInstances;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.collections.immutable.LinkedListX;
 import cyclops.reactive.collections.immutable.VectorX;
@@ -27,7 +26,7 @@ public interface SupplierKind<R> extends Function0<R>, Higher<supplier,R> {
     return Free.suspend(f);
   }
   public static <A> A run(final Free<supplier, A> f){
-    return f.go(a -> ((Function0<Free<supplier, A>>)a).apply(), SupplierInstances.functor);
+    return f.runTailRec(a -> ((Function0<Free<supplier, ?>>)a).apply());
   }
   default <R1> R1 kindTo(Function<? super SupplierKind<R>,? extends R1> reduce){
     return reduce.apply(this);
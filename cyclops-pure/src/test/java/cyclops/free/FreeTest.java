@@ -11,9 +11,16 @@ import cyclops.function.Function0;
 import com.oath.cyclops.hkt.DataWitness.supplier;
 import cyclops.data.tuple.Tuple2;
 import cyclops.instances.jdk.SupplierInstances;
+import cyclops.kinds.OptionalKind;
 import cyclops.kinds.SupplierKind;
+import com.oath.cyclops.hkt.DataWitness.optional;
+import com.oath.cyclops.hkt.Higher;
+import cyclops.data.NaturalTransformation;
+import cyclops.instances.jdk.OptionalInstances;
 import org.junit.Test;
 
+import java.util.Optional;
+
 import cyclops.free.CharToy.*;
 import static cyclops.function.Lambda.*;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -51,6 +58,37 @@ public final class FreeTest {
         System.out.println("Taken "  +(System.currentTimeMillis()-time));
     }
 
+    @Test
+    public void runTailRec(){
+        assertThat(fib(17L).runTailRec(s -> ((Function0<Free<supplier, ?>>)s).apply()),
+                   equalTo(fib(17L).go(s -> ((Function0<Free<supplier, Long>>)s).apply(), SupplierInstances.functor)));
+    }
+
+    @Test
+    public void deepLeftNestedProgram(){
+        Free<supplier, Integer> program = Free.done(0);
+        for(int i = 0; i < 200_000; i++)
+            program = program.flatMap(x -> SupplierKind.free(() -> x + 1));
+        assertThat(SupplierKind.run(program), equalTo(200_000));
+    }
+
+    @Test
+    public void foldMap(){
+        NaturalTransformation<supplier, optional> toOptional = new NaturalTransformation<supplier, optional>() {
+            @Override
+            public <T> Higher<optional, T> apply(Higher<supplier, T> a) {
+                return OptionalKind.of(((Function0<T>)a).apply());
+            }
+        };
+        Free<supplier, Integer> program = Free.done(0);
+        for(int i = 0; i < 100_000; i++)
+            program = program.flatMap(x -> SupplierKind.free(() -> x + 1));
+        assertThat(OptionalKind.narrowK(program.foldMap(toOptional, OptionalInstances.definitions())),
+                   equalTo(Optional.of(100_000)));
+        assertThat(OptionalKind.narrowK(fib(10L).foldMap(toOptional, OptionalInstances.definitions())),
+                   equalTo(Optional.of(SupplierKind.run(fib(10L)))));
+    }
+
     @Test
     public void interpreter(){
         String expected = "emitted A\n" +
@@ -0,0 +1,64 @@
+package com.oath.cyclops.async;
+
+import com.oath.cyclops.async.adapters.Queue;
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares transferring data through an async.Queue one element at a time (offer / get) against
+ * the batch offerAll / drainTo operations.
+ */
+@State(Scope.Thread)
+public class QueueBatch {
+
+    @Param({"agrona", "linked"})
+    String type;
+
+    @Param({"1000"})
+    int batch;
+
+    Queue<Integer> queue;
+    List<Integer> data;
+    List<Integer> out;
+
+    @Setup
+    public void setup(){
+        queue = type.equals("agrona") ? QueueFactories.<Integer>boundedNonBlockingQueue(batch).build()
+                                      : QueueFactories.<Integer>boundedQueue(batch).build();
+        data = ReactiveSeq.range(0,batch).toList();
+        out = new ArrayList<>(batch);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void offerGet(Blackhole bh){
+        for(Integer next : data){
+            queue.offer(next);
+        }
+        for(int i=0;i<batch;i++){
+            bh.consume(queue.get());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void offerAllDrainTo(Blackhole bh){
+        queue.offerAll(data);
+        out.clear();
+        queue.drainTo(out,batch);
+        bh.consume(out);
+    }
+}
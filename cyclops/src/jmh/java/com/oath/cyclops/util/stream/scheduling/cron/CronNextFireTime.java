@@ -0,0 +1,51 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computing the next fire time of a cron expression with the Calendar based CronExpression and the bitset based
+ * CompiledCronExpression.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=com.oath.cyclops.util.stream.scheduling.cron.CronNextFireTime
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CronNextFireTime {
+
+    @Param({"* * * * * ?", "0 0/5 14,18 * * ?", "0 15 10 ? * MON-FRI", "0 15 10 ? * 6L"})
+    String expression;
+
+    CronExpression cron;
+    CompiledCronExpression compiled;
+    Date now;
+
+    @Setup
+    public void setup() throws ParseException {
+        cron = new CronExpression(expression);
+        compiled = CompiledCronExpression.compile(expression);
+        now = new Date(1_500_000_000_000L);
+    }
+
+    @Benchmark
+    public Date calendar(){
+        return cron.getNextValidTimeAfter(now);
+    }
+
+    @Benchmark
+    public long compiled(){
+        return compiled.nextFireTimeAfter(now.getTime());
+    }
+
+    @Benchmark
+    public long parseAndCompute() throws ParseException {
+        return CompiledCronExpression.compile(expression).nextFireTimeAfter(now.getTime());
+    }
+}
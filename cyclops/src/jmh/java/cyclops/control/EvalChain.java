@@ -0,0 +1,47 @@
+package cyclops.control;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and evaluating Eval.later chains of map / flatMap stages.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=cyclops.control.EvalChain
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EvalChain {
+
+    @Param({"1", "10", "100"})
+    int depth;
+
+    @Benchmark
+    public void laterMap(Blackhole bh){
+        Eval<Integer> eval = Eval.later(()->0);
+        for(int i=0;i<depth;i++)
+            eval = eval.map(x->x+1);
+        bh.consume(eval.get());
+    }
+
+    @Benchmark
+    public void laterFlatMap(Blackhole bh){
+        Eval<Integer> eval = Eval.later(()->0);
+        for(int i=0;i<depth;i++)
+            eval = eval.flatMap(x->Eval.now(x+1));
+        bh.consume(eval.get());
+    }
+
+    @Benchmark
+    public void alwaysMap(Blackhole bh){
+        Eval<Integer> eval = Eval.always(()->0);
+        for(int i=0;i<depth;i++)
+            eval = eval.map(x->x+1);
+        bh.consume(eval.get());
+    }
+}
@@ -0,0 +1,53 @@
+package cyclops.control;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running deep left and right associated chains of Trampoline flatMap stages.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=cyclops.control.TrampolineBind
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TrampolineBind {
+
+    @Param({"1000", "1000000"})
+    int depth;
+
+    @Benchmark
+    public void leftAssociated(Blackhole bh){
+        Trampoline<Integer> t = Trampoline.done(0);
+        for(int i=0;i<depth;i++)
+            t = t.flatMap(x->Trampoline.done(x+1));
+        bh.consume(t.result());
+    }
+
+    @Benchmark
+    public void rightAssociated(Blackhole bh){
+        bh.consume(countDown(depth).result());
+    }
+
+    @Benchmark
+    public void more(Blackhole bh){
+        bh.consume(loop(depth, 0).result());
+    }
+
+    private Trampoline<Integer> countDown(int n){
+        if(n==0)
+            return Trampoline.done(0);
+        return Trampoline.done(n).flatMap(x->countDown(x-1).map(r->r+1));
+    }
+
+    private Trampoline<Integer> loop(int times, int sum){
+        if(times==0)
+            return Trampoline.done(sum);
+        return Trampoline.more(()->loop(times-1, sum+1));
+    }
+}
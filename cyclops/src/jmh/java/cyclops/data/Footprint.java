@@ -0,0 +1,72 @@
+package cyclops.data;
+
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Retained heap size (measured with JOL) of the persistent collections and their java.util equivalents at
+ * 10 / 1k / 1M Integer elements. The boxed Integers are shared with the source data and are counted
+ * in every structure, so the difference between structures is the per element overhead.
+ *
+ * Run via the jmh source set classpath e.g. java -cp ... cyclops.data.Footprint
+ */
+public class Footprint {
+
+    static final int[] SIZES = {10, 1000, 1000000};
+
+    public static void main(String[] args){
+        System.out.println(String.format("%-20s %10s %15s %12s", "Structure", "Size", "Bytes", "Bytes/elem"));
+        for(int size : SIZES){
+            List<Integer> values = new ArrayList<>(size);
+            List<Tuple2<Integer, Integer>> entries = new ArrayList<>(size);
+            for(int i=0;i<size;i++) {
+                values.add(i);
+                entries.add(Tuple.tuple(i, i));
+            }
+
+            report("Vector", size, values, Vector::fromIterable);
+            report("Seq", size, values, Seq::fromIterable);
+            report("LazySeq", size, values, l -> {
+                LazySeq<Integer> res = LazySeq.fromIterable(l);
+                res.size();
+                return res;
+            });
+            report("LazySeq (per elem)", size, values, l -> {
+                LazySeq<Integer> res = LazySeq.fromIterator(l.iterator());
+                res.size();
+                return res;
+            });
+            report("IntMap", size, values, IntMap::fromIterable);
+            report("BankersQueue", size, values, BankersQueue::fromIterable);
+            report("java.util.ArrayList", size, values, ArrayList::new);
+
+            report("HashSet", size, values, HashSet::fromIterable);
+            report("TreeSet", size, values, l -> TreeSet.fromIterable(l, Comparator.<Integer>naturalOrder()));
+            report("java.util.HashSet", size, values, java.util.HashSet::new);
+            report("java.util.TreeSet", size, values, java.util.TreeSet::new);
+
+            report("HashMap", size, entries, l -> HashMap.fromStream(l.stream()));
+            report("TrieMap", size, entries, l -> TrieMap.fromStream(l.stream()));
+            report("TreeMap", size, entries, l -> TreeMap.fromStream(l.stream(), Comparator.<Integer>naturalOrder()));
+            report("java.util.HashMap", size, entries, l -> toMap(new java.util.HashMap<>(), l));
+            report("java.util.TreeMap", size, entries, l -> toMap(new java.util.TreeMap<>(), l));
+        }
+    }
+
+    private static java.util.Map<Integer, Integer> toMap(java.util.Map<Integer, Integer> map, List<Tuple2<Integer, Integer>> entries){
+        for(Tuple2<Integer, Integer> next : entries)
+            map.put(next._1(), next._2());
+        return map;
+    }
+
+    private static <T> void report(String name, int size, List<T> source, Function<List<T>, Object> builder){
+        long bytes = GraphLayout.parseInstance(builder.apply(source)).totalSize();
+        System.out.println(String.format("%-20s %10d %15d %12.1f", name, size, bytes, (double) bytes / size));
+    }
+}
@@ -0,0 +1,63 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and traversing LazySeqs with a memoized Cons cell per element against LazySeqs forced in array chunks.
+ * Retained heap sizes of both representations are reported by {@link Footprint}.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=cyclops.data.LazySeqChunks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazySeqChunks {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    @Param({"1", "32", "64"})
+    int chunk;
+
+    LazySeq<Integer> forced;
+
+    @Setup
+    public void setup(){
+        forced = build();
+        forced.size();
+    }
+
+    private LazySeq<Integer> build(){
+        return chunk == 1 ? LazySeq.fromIterator(ReactiveSeq.range(0, size).iterator())
+                          : LazySeq.fromIterator(ReactiveSeq.range(0, size).iterator(), chunk);
+    }
+
+    @Benchmark
+    public void buildAndTraverse(Blackhole bh){
+        for(Integer next : build())
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public void traverseForced(Blackhole bh){
+        for(Integer next : forced)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int sizeForced(){
+        return forced.size();
+    }
+
+    @Benchmark
+    public int sizeFresh(){
+        return build().size();
+    }
+}
@@ -0,0 +1,209 @@
+package cyclops.data;
+
+import com.oath.cyclops.types.persistent.PersistentCollection;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Indexed / sequential persistent collections compared against java.util.ArrayList.
+ * The java.util operations are the (in place) mutable equivalents, e.g. append is add followed by a remove to restore the list.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=cyclops.data.ListOps
+ */
+@State(Scope.Benchmark)
+public class ListOps {
+
+    @Param({"10", "1000", "1000000"})
+    int size;
+
+    @Param({"Vector", "Seq", "LazySeq", "IntMap", "BankersQueue", "ArrayList"})
+    String type;
+
+    List<Integer> source;
+    Ops ops;
+    Object collection;
+    Object copy;
+    int mid;
+
+    @Setup
+    public void setup(){
+        source = new ArrayList<>(size);
+        for(int i=0;i<size;i++)
+            source.add(i);
+        mid = size/2;
+        ops = ops(type);
+        collection = ops.build(source);
+        copy = ops.build(source);
+    }
+
+    static Ops ops(String type){
+        switch(type){
+            case "Vector":
+                return new PersistentOps<Vector<Integer>>(Vector::fromIterable, (c, i) -> c.getOrElse(i, null));
+            case "Seq":
+                return new PersistentOps<Seq<Integer>>(Seq::fromIterable, (c, i) -> c.getOrElse(i, null));
+            case "LazySeq":
+                return new PersistentOps<LazySeq<Integer>>(LazySeq::fromIterable, (c, i) -> c.getOrElse(i, null));
+            case "IntMap":
+                return new PersistentOps<IntMap<Integer>>(IntMap::fromIterable, (c, i) -> c.getOrElse(i, null));
+            case "BankersQueue":
+                return new PersistentOps<BankersQueue<Integer>>(BankersQueue::fromIterable, (c, i) -> c.getOrElse(i, null));
+            default:
+                return new JavaOps();
+        }
+    }
+
+    interface Ops {
+        Object build(List<Integer> source);
+        Object get(Object c, int index);
+        Object append(Object c, Integer value);
+        Object remove(Object c, Integer value);
+        long iterate(Object c);
+    }
+
+    static class PersistentOps<C extends PersistentCollection<Integer>> implements Ops {
+        private final Function<Iterable<Integer>, C> builder;
+        private final BiFunction<C, Integer, Integer> getter;
+
+        PersistentOps(Function<Iterable<Integer>, C> builder, BiFunction<C, Integer, Integer> getter) {
+            this.builder = builder;
+            this.getter = getter;
+        }
+
+        @Override
+        public Object build(List<Integer> source) {
+            C res = builder.apply(source);
+            res.size(); //force lazy structures
+            return res;
+        }
+
+        @Override
+        public Object get(Object c, int index) {
+            return getter.apply((C) c, index);
+        }
+
+        @Override
+        public Object append(Object c, Integer value) {
+            return ((PersistentCollection<Integer>) c).plus(value);
+        }
+
+        @Override
+        public Object remove(Object c, Integer value) {
+            return ((PersistentCollection<Integer>) c).removeValue(value);
+        }
+
+        @Override
+        public long iterate(Object c) {
+            long total = 0;
+            for(Integer next : (PersistentCollection<Integer>) c)
+                total += next;
+            return total;
+        }
+    }
+
+    static class JavaOps implements Ops {
+        @Override
+        public Object build(List<Integer> source) {
+            List<Integer> res = new ArrayList<>();
+            for(Integer next : source)
+                res.add(next);
+            return res;
+        }
+
+        @Override
+        public Object get(Object c, int index) {
+            return ((List<Integer>) c).get(index);
+        }
+
+        @Override
+        public Object append(Object c, Integer value) {
+            List<Integer> list = (List<Integer>) c;
+            list.add(value);
+            return list.remove(list.size()-1);
+        }
+
+        @Override
+        public Object remove(Object c, Integer value) {
+            List<Integer> list = (List<Integer>) c;
+            int index = list.indexOf(value);
+            list.remove(index);
+            list.add(index,value);
+            return list;
+        }
+
+        @Override
+        public long iterate(Object c) {
+            long total = 0;
+            for(Integer next : (List<Integer>) c)
+                total += next;
+            return total;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void get(Blackhole bh){
+        bh.consume(ops.get(collection,mid));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void append(Blackhole bh){
+        bh.consume(ops.append(collection,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void remove(Blackhole bh){
+        bh.consume(ops.remove(collection,mid));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public long iterate(){
+        return ops.iterate(collection);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void build(Blackhole bh){
+        bh.consume(ops.build(source));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void equalsHashCode(Blackhole bh){
+        bh.consume(collection.equals(copy));
+        bh.consume(collection.hashCode());
+    }
+}
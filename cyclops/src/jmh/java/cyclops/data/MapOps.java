@@ -0,0 +1,210 @@
+package cyclops.data;
+
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Persistent maps compared against java.util.HashMap and java.util.TreeMap.
+ * The java.util operations are the (in place) mutable equivalents, e.g. put is put followed by a remove to restore the map.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=cyclops.data.MapOps
+ */
+@State(Scope.Benchmark)
+public class MapOps {
+
+    @Param({"10", "1000", "1000000"})
+    int size;
+
+    @Param({"HashMap", "TrieMap", "TreeMap", "java.util.HashMap", "java.util.TreeMap"})
+    String type;
+
+    List<Tuple2<Integer, Integer>> source;
+    Ops ops;
+    Object map;
+    Object copy;
+    Integer mid;
+
+    @Setup
+    public void setup(){
+        source = new ArrayList<>(size);
+        for(int i=0;i<size;i++)
+            source.add(Tuple.tuple(i,i));
+        mid = size/2;
+        ops = ops(type);
+        map = ops.build(source);
+        copy = ops.build(source);
+    }
+
+    static Ops ops(String type){
+        switch(type){
+            case "HashMap":
+                return new PersistentOps(HashMap::fromStream);
+            case "TrieMap":
+                return new PersistentOps(TrieMap::fromStream);
+            case "TreeMap":
+                return new PersistentOps(s -> TreeMap.fromStream(s, Comparator.naturalOrder()));
+            case "java.util.TreeMap":
+                return new JavaOps(java.util.TreeMap::new);
+            default:
+                return new JavaOps(java.util.HashMap::new);
+        }
+    }
+
+    interface Ops {
+        Object build(List<Tuple2<Integer, Integer>> source);
+        Object get(Object m, Integer key);
+        Object put(Object m, Integer key, Integer value);
+        Object remove(Object m, Integer key);
+        long iterate(Object m);
+    }
+
+    static class PersistentOps implements Ops {
+        private final Function<Stream<Tuple2<Integer, Integer>>, ImmutableMap<Integer, Integer>> builder;
+
+        PersistentOps(Function<Stream<Tuple2<Integer, Integer>>, ImmutableMap<Integer, Integer>> builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public Object build(List<Tuple2<Integer, Integer>> source) {
+            return builder.apply(source.stream());
+        }
+
+        @Override
+        public Object get(Object m, Integer key) {
+            return ((ImmutableMap<Integer, Integer>) m).getOrElse(key, null);
+        }
+
+        @Override
+        public Object put(Object m, Integer key, Integer value) {
+            return ((ImmutableMap<Integer, Integer>) m).put(key, value);
+        }
+
+        @Override
+        public Object remove(Object m, Integer key) {
+            return ((ImmutableMap<Integer, Integer>) m).remove(key);
+        }
+
+        @Override
+        public long iterate(Object m) {
+            long total = 0;
+            for(Tuple2<Integer, Integer> next : (ImmutableMap<Integer, Integer>) m)
+                total += next._2();
+            return total;
+        }
+    }
+
+    static class JavaOps implements Ops {
+        private final java.util.function.Supplier<Map<Integer, Integer>> factory;
+
+        JavaOps(java.util.function.Supplier<Map<Integer, Integer>> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object build(List<Tuple2<Integer, Integer>> source) {
+            Map<Integer, Integer> res = factory.get();
+            for(Tuple2<Integer, Integer> next : source)
+                res.put(next._1(), next._2());
+            return res;
+        }
+
+        @Override
+        public Object get(Object m, Integer key) {
+            return ((Map<Integer, Integer>) m).get(key);
+        }
+
+        @Override
+        public Object put(Object m, Integer key, Integer value) {
+            Map<Integer, Integer> map = (Map<Integer, Integer>) m;
+            map.put(key, value);
+            return map.remove(key);
+        }
+
+        @Override
+        public Object remove(Object m, Integer key) {
+            Map<Integer, Integer> map = (Map<Integer, Integer>) m;
+            Integer value = map.remove(key);
+            return map.put(key, value);
+        }
+
+        @Override
+        public long iterate(Object m) {
+            long total = 0;
+            for(Map.Entry<Integer, Integer> next : ((Map<Integer, Integer>) m).entrySet())
+                total += next.getValue();
+            return total;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void get(Blackhole bh){
+        bh.consume(ops.get(map,mid));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void put(Blackhole bh){
+        bh.consume(ops.put(map,-1,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void remove(Blackhole bh){
+        bh.consume(ops.remove(map,mid));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public long iterate(){
+        return ops.iterate(map);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void build(Blackhole bh){
+        bh.consume(ops.build(source));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void equalsHashCode(Blackhole bh){
+        bh.consume(map.equals(copy));
+        bh.consume(map.hashCode());
+    }
+}
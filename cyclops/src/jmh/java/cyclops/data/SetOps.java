@@ -0,0 +1,206 @@
+package cyclops.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Persistent sets compared against java.util.HashSet and java.util.TreeSet.
+ * The java.util operations are the (in place) mutable equivalents, e.g. add is add followed by a remove to restore the set.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=cyclops.data.SetOps
+ */
+@State(Scope.Benchmark)
+public class SetOps {
+
+    @Param({"10", "1000", "1000000"})
+    int size;
+
+    @Param({"HashSet", "TreeSet", "java.util.HashSet", "java.util.TreeSet"})
+    String type;
+
+    List<Integer> source;
+    Ops ops;
+    Object set;
+    Object copy;
+    Integer mid;
+
+    @Setup
+    public void setup(){
+        source = new ArrayList<>(size);
+        for(int i=0;i<size;i++)
+            source.add(i);
+        mid = size/2;
+        ops = ops(type);
+        set = ops.build(source);
+        copy = ops.build(source);
+    }
+
+    static Ops ops(String type){
+        switch(type){
+            case "HashSet":
+                return new PersistentOps(HashSet::fromIterable);
+            case "TreeSet":
+                return new PersistentOps(s -> TreeSet.fromIterable(s, Comparator.naturalOrder()));
+            case "java.util.TreeSet":
+                return new JavaOps(java.util.TreeSet::new);
+            default:
+                return new JavaOps(java.util.HashSet::new);
+        }
+    }
+
+    interface Ops {
+        Object build(List<Integer> source);
+        boolean contains(Object s, Integer value);
+        Object add(Object s, Integer value);
+        Object remove(Object s, Integer value);
+        long iterate(Object s);
+    }
+
+    static class PersistentOps implements Ops {
+        private final Function<Iterable<Integer>, ImmutableSet<Integer>> builder;
+
+        PersistentOps(Function<Iterable<Integer>, ImmutableSet<Integer>> builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public Object build(List<Integer> source) {
+            return builder.apply(source);
+        }
+
+        @Override
+        public boolean contains(Object s, Integer value) {
+            return ((ImmutableSet<Integer>) s).containsValue(value);
+        }
+
+        @Override
+        public Object add(Object s, Integer value) {
+            return ((ImmutableSet<Integer>) s).plus(value);
+        }
+
+        @Override
+        public Object remove(Object s, Integer value) {
+            return ((ImmutableSet<Integer>) s).removeValue(value);
+        }
+
+        @Override
+        public long iterate(Object s) {
+            long total = 0;
+            for(Integer next : (ImmutableSet<Integer>) s)
+                total += next;
+            return total;
+        }
+    }
+
+    static class JavaOps implements Ops {
+        private final Supplier<Set<Integer>> factory;
+
+        JavaOps(Supplier<Set<Integer>> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object build(List<Integer> source) {
+            Set<Integer> res = factory.get();
+            for(Integer next : source)
+                res.add(next);
+            return res;
+        }
+
+        @Override
+        public boolean contains(Object s, Integer value) {
+            return ((Set<Integer>) s).contains(value);
+        }
+
+        @Override
+        public Object add(Object s, Integer value) {
+            Set<Integer> set = (Set<Integer>) s;
+            set.add(value);
+            return set.remove(value);
+        }
+
+        @Override
+        public Object remove(Object s, Integer value) {
+            Set<Integer> set = (Set<Integer>) s;
+            set.remove(value);
+            return set.add(value);
+        }
+
+        @Override
+        public long iterate(Object s) {
+            long total = 0;
+            for(Integer next : (Set<Integer>) s)
+                total += next;
+            return total;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public boolean contains(){
+        return ops.contains(set,mid);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void add(Blackhole bh){
+        bh.consume(ops.add(set,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void remove(Blackhole bh){
+        bh.consume(ops.remove(set,mid));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public long iterate(){
+        return ops.iterate(set);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void build(Blackhole bh){
+        bh.consume(ops.build(source));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void equalsHashCode(Blackhole bh){
+        bh.consume(set.equals(copy));
+        bh.consume(set.hashCode());
+    }
+}
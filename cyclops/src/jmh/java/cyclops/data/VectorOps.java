@@ -0,0 +1,134 @@
+package cyclops.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the RRB based Vector operations against rebuilding the Vector via its Stream
+ * (which is how insertAt / removeAt / updateAt / appendAll / take / drop were previously implemented).
+ */
+@State(Scope.Benchmark)
+public class VectorOps {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    Vector<Integer> vector;
+    Vector<Integer> other;
+    int mid;
+
+    @Setup
+    public void setup(){
+        vector = Vector.range(0,size);
+        other = Vector.range(size,size*2);
+        mid = size/2;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void insertAt(Blackhole bh){
+        bh.consume(vector.insertAt(mid,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void insertAtRebuild(Blackhole bh){
+        bh.consume(Vector.fromStream(vector.stream().insertAt(mid,-1)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void removeAt(Blackhole bh){
+        bh.consume(vector.removeAt(mid));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void removeAtRebuild(Blackhole bh){
+        bh.consume(Vector.fromStream(vector.stream().removeAt(mid)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void updateAt(Blackhole bh){
+        bh.consume(vector.updateAt(mid,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void updateAtRebuild(Blackhole bh){
+        bh.consume(Vector.fromStream(vector.stream().updateAt(mid,-1)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void appendAll(Blackhole bh){
+        bh.consume(vector.appendAll(other));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void appendAllRebuild(Blackhole bh){
+        Vector<Integer> res = vector;
+        for(Integer next : other){
+            res = res.plus(next);
+        }
+        bh.consume(res);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void splitAt(Blackhole bh){
+        bh.consume(vector.take(mid));
+        bh.consume(vector.drop(mid));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Fork(1)
+    public void splitAtRebuild(Blackhole bh){
+        bh.consume(Vector.fromStream(vector.stream().take(mid)));
+        bh.consume(Vector.fromStream(vector.stream().drop(mid)));
+    }
+}
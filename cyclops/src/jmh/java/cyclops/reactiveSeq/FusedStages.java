@@ -0,0 +1,79 @@
+package cyclops.reactiveSeq;
+
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive Streams chains of 1, 5 and 20 map / filter / peek / takeWhile / skip stages, which are fused into a single
+ * push operator, against the same chain on a synchronous ReactiveSeq.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=cyclops.reactiveSeq.FusedStages
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FusedStages {
+
+    @Param({"1", "5", "20"})
+    int stages;
+
+    static final int SIZE = 10_000;
+
+    ReactiveSeq<Integer> prebuilt;
+
+    @Setup
+    public void setup(){
+        prebuilt = stages(Spouts.range(0, SIZE));
+    }
+
+    //cycles through each stage type, all stages pass every element except a single leading skip
+    private ReactiveSeq<Integer> stages(ReactiveSeq<Integer> seq){
+        for(int i = 0; i < stages; i++){
+            switch(i % 5){
+                case 0:
+                    seq = seq.map(n -> n + 1);
+                    break;
+                case 1:
+                    seq = seq.filter(n -> n >= 0);
+                    break;
+                case 2:
+                    seq = seq.peek(n -> { });
+                    break;
+                case 3:
+                    seq = seq.takeWhile(n -> n < Integer.MAX_VALUE);
+                    break;
+                default:
+                    seq = seq.skip(i == 4 ? 1 : 0);
+            }
+        }
+        return seq;
+    }
+
+    @Benchmark
+    public void spoutsPrebuilt(Blackhole bh){
+        bh.consume(prebuilt.collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public void spouts(Blackhole bh){
+        bh.consume(stages(Spouts.range(0, SIZE)).collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public void spoutsForEach(Blackhole bh){
+        stages(Spouts.range(0, SIZE)).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void reactiveSeq(Blackhole bh){
+        bh.consume(stages(ReactiveSeq.range(0, SIZE)).collect(Collectors.toList()));
+    }
+}
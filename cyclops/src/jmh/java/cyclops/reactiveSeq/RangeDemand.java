@@ -0,0 +1,63 @@
+package cyclops.reactiveSeq;
+
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of Spouts.range(0, 10_000_000) for a Subscriber requesting Long.MAX_VALUE up front, against one
+ * replenishing its demand in batches of 128 (and of 1, as a worst case) as elements arrive.
+ *
+ * Run selectively via gradle jmh -PjmhInclude=cyclops.reactiveSeq.RangeDemand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RangeDemand {
+
+    static final int SIZE = 10_000_000;
+
+    @Param({"1", "128", "9223372036854775807"})
+    long batch;
+
+    @Benchmark
+    public void range(Blackhole bh){
+        Spouts.range(0, SIZE).subscribe(new Subscriber<Integer>() {
+            Subscription sub;
+            long remaining;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                sub = s;
+                remaining = batch;
+                s.request(batch);
+            }
+
+            @Override
+            public void onNext(Integer next) {
+                bh.consume(next);
+                if(batch != Long.MAX_VALUE && --remaining == 0){
+                    remaining = batch;
+                    sub.request(batch);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                bh.consume(t);
+            }
+
+            @Override
+            public void onComplete() {
+
+            }
+        });
+    }
+}
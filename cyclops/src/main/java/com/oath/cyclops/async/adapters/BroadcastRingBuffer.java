@@ -0,0 +1,263 @@
+package com.oath.cyclops.async.adapters;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A single writer, multiple reader ring buffer used to back a broadcasting Topic.
+ *
+ * All subscribers share one array of published elements, each Reader tracks its own sequence cursor.
+ * The writer may not overwrite a slot until every registered Reader has moved past it (it is gated on
+ * the slowest reader), offer returns false when the buffer is full so a WaitStrategy can be applied.
+ *
+ * @param <T> Data type of elements in the ring buffer
+ */
+class BroadcastRingBuffer<T> {
+
+    private static final Reader[] NO_READERS = new Reader[0];
+
+    private final Object[] buffer;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong(0);
+    private final AtomicReference<Reader<T>[]> readers = new AtomicReference<>(NO_READERS);
+    private long cachedGatingSequence = 0;
+
+    BroadcastRingBuffer(final int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be greater than zero " + capacity);
+        final int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Publish the next element, may only be called from a single thread at a time
+     *
+     * @param e Element to publish
+     * @return false if the slowest reader has not yet consumed the slot to be overwritten
+     */
+    boolean offer(final T e) {
+        final long sequence = cursor.get();
+        final long wrapPoint = sequence - buffer.length;
+        if (cachedGatingSequence <= wrapPoint) {
+            cachedGatingSequence = minimumSequence(sequence);
+            if (cachedGatingSequence <= wrapPoint)
+                return false;
+        }
+        buffer[(int) sequence & mask] = e;
+        cursor.lazySet(sequence + 1);
+        return true;
+    }
+
+    private long minimumSequence(final long minimum) {
+        long min = minimum;
+        for (final Reader<T> next : readers.get()) {
+            min = Math.min(min, next.sequence.get());
+        }
+        return min;
+    }
+
+    /**
+     * @return A new Reader that will see all elements published from now on
+     */
+    Reader<T> subscribe() {
+        final Reader<T> reader = new Reader<>(
+                                              this, cursor.get());
+        Reader<T>[] current;
+        Reader<T>[] updated;
+        do {
+            current = readers.get();
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = reader;
+        } while (!readers.compareAndSet(current, updated));
+        //the writer may have moved on without gating on this reader while it was being registered
+        reader.sequence.set(cursor.get());
+        return reader;
+    }
+
+    /**
+     * Stop gating the writer on the supplied reader
+     *
+     * @param reader Reader to remove
+     */
+    void unsubscribe(final Reader<T> reader) {
+        Reader<T>[] current;
+        Reader<T>[] updated;
+        do {
+            current = readers.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == reader) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index == -1)
+                return;
+            updated = new Reader[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        } while (!readers.compareAndSet(current, updated));
+    }
+
+    int subscribers() {
+        return readers.get().length;
+    }
+
+    /**
+     * A per subscriber view of the ring buffer. Elements offered directly to a Reader (such as the poison pills
+     * used to signal closure) are only visible to that Reader and are returned after all published elements
+     * available to it.
+     *
+     * @param <T> Data type of elements in the ring buffer
+     */
+    static final class Reader<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+        private final BroadcastRingBuffer<T> ring;
+        private final AtomicLong sequence;
+        private final java.util.Queue<T> local = new ConcurrentLinkedQueue<>();
+
+        Reader(final BroadcastRingBuffer<T> ring, final long sequence) {
+            this.ring = ring;
+            this.sequence = new AtomicLong(
+                                           sequence);
+        }
+
+        /*
+         * The writer can not overwrite the slot at sequence until sequence has been advanced past it,
+         * so an element read before a successful CAS is valid.
+         * Local elements (e.g. poison pills on close) may have been offered after elements published to the ring,
+         * so the cursor is checked again once a local element is visible.
+         */
+        @Override
+        public T poll() {
+            for (;;) {
+                final long next = sequence.get();
+                if (next < ring.cursor.get()) {
+                    final T e = (T) ring.buffer[(int) next & ring.mask];
+                    if (sequence.compareAndSet(next, next + 1))
+                        return e;
+                    continue;
+                }
+                if (local.peek() == null)
+                    return null;
+                if (sequence.get() < ring.cursor.get())
+                    continue;
+                return local.poll();
+            }
+        }
+
+        @Override
+        public T peek() {
+            final long next = sequence.get();
+            if (next < ring.cursor.get())
+                return (T) ring.buffer[(int) next & ring.mask];
+            final T e = local.peek();
+            if (e != null && next < ring.cursor.get())
+                return (T) ring.buffer[(int) next & ring.mask];
+            return e;
+        }
+
+        @Override
+        public boolean offer(final T e) {
+            return local.offer(e);
+        }
+
+        @Override
+        public int size() {
+            return (int) (ring.cursor.get() - sequence.get()) + local.size();
+        }
+
+        @Override
+        public void clear() {
+            sequence.set(ring.cursor.get());
+            local.clear();
+        }
+
+        /**
+         * @return Iterator that consumes the elements available to this Reader via poll, it completes once no further
+         *         elements are available (so bulk Collection operations that iterate, such as contains, also consume)
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                T next;
+
+                @Override
+                public boolean hasNext() {
+                    if (next == null)
+                        next = poll();
+                    return next != null;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    final T result = next;
+                    next = null;
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "Reader[sequence=" + sequence.get() + ", available=" + size() + "]";
+        }
+
+        @Override
+        public void put(final T e) throws InterruptedException {
+            offer(e);
+        }
+
+        @Override
+        public boolean offer(final T e, final long timeout, final TimeUnit unit) throws InterruptedException {
+            return offer(e);
+        }
+
+        @Override
+        public T take() throws InterruptedException {
+            return poll();
+        }
+
+        @Override
+        public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return poll();
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int drainTo(final Collection<? super T> c) {
+            return drainTo(c, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int drainTo(final Collection<? super T> c, final int maxElements) {
+            int count = 0;
+            T next;
+            while (count < maxElements && (next = poll()) != null) {
+                c.add(next);
+                count++;
+            }
+            return count;
+        }
+
+    }
+}
@@ -250,6 +250,45 @@ public class Queue<T> implements Adapter<T> {
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStreamBatch(batcher.apply((timeout, timeUnit) -> ensureOpen(timeout, timeUnit)), s));
     }
+    /**
+     * Stream data from this Queue in chunks of up to maxBatch elements. Each chunk contains all the data available
+     * in the Queue (up to maxBatch) when it is read, transferred via {@link Queue#drainTo(Collection, int)}, if no data is
+     * available this Stream blocks (according to the consumer WaitStrategy) until at least one element is.
+     *
+     * <pre>
+     * {@code
+     *   Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(1000)
+     *                                    .build();
+     *   q.streamBatch(new Subscription(),100)
+     *    .forEach(batch->process(batch));
+     * }
+     * </pre>
+     *
+     * @param s Subscription / Continueable for the Stream
+     * @param maxBatch Maximum number of elements per chunk
+     * @return Infinite (until Queue is closed) Stream of chunks of data from this Queue
+     */
+    public ReactiveSeq<Collection<T>> streamBatch(final Continueable s, final int maxBatch) {
+        this.sub = s;
+        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
+        return ReactiveSeq.fromStream(closingStreamBatch(() -> drainOrBlock(maxBatch), s));
+    }
+
+    private Collection<T> drainOrBlock(final int maxBatch) {
+        final List<T> batch = new ArrayList<>();
+        if (drainTo(batch, maxBatch) > 0)
+            return batch;
+        batch.add(ensureOpen(this.timeout, this.timeUnit));
+        try {
+            drainTo(batch, maxBatch - 1);
+        } catch (final ClosedQueueException e) {
+            final List list = new ArrayList<>();
+            list.add(batch);
+            throw new ClosedQueueException(list);
+        }
+        return batch;
+    }
+
     public ReactiveSeq<Seq<T>> streamGroupedByTime(long time, TimeUnit t){
         return streamGroupedBySizeAndTime(Integer.MAX_VALUE,time,t);
 
@@ -569,6 +608,76 @@ public class Queue<T> implements Adapter<T> {
 
     }
 
+    /**
+     * Offer all the supplied data to this Queue. Each element is offered directly to the underlying queue, the
+     * producer WaitStrategy is only applied (as per {@link Queue#offer(Object)}) when the underlying queue is full.
+     *
+     * @param data data to add
+     * @return true if all data was added, false if an offer timed out
+     */
+    public boolean offerAll(final Iterable<? extends T> data) {
+
+        if (!open) {
+            throw new ClosedQueueException();
+        }
+
+        try {
+            for (final T next : data) {
+                final T value = nullSafe(next);
+                if (!queue.offer(value) && !producerWait.offer(() -> this.queue.offer(value, this.offerTimeout, this.offerTimeUnit)))
+                    return false;
+            }
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            if (sizeSignal != null)
+                this.sizeSignal.set(queue.size());
+        }
+
+    }
+
+    /**
+     * Transfer up to max elements currently available in this Queue to the supplied Collection, without waiting
+     * for more data to arrive. Queues backed by Agrona queues (e.g. via QueueFactories#boundedNonBlockingQueue)
+     * drain natively in a single batch.
+     *
+     * @param c Collection to add data to
+     * @param max Maximum number of elements to transfer
+     * @return Number of elements transferred
+     * @throws ClosedQueueException if this Queue is closed and no data remains
+     */
+    public int drainTo(final Collection<? super T> c, final int max) {
+
+        if (!open && queue.size() == 0)
+            throw new ClosedQueueException();
+
+        final List<T> drained = new ArrayList<>(Math.min(Math.max(max, 0), 1024));
+        queue.drainTo(drained, max);
+        int count = 0;
+        boolean closed = false;
+        for (final T next : drained) {
+            if (CLEAR_PILL == next) {
+                queue.clear();
+                closed = true;
+                break;
+            }
+            if (next instanceof PoisonPill) {
+                closed = true;
+            } else {
+                c.add(nillSafe(next));
+                count++;
+            }
+        }
+        if (sizeSignal != null && drained.size() > 0)
+            this.sizeSignal.set(queue.size());
+        if (closed && count == 0)
+            throw new ClosedQueueException();
+        return count;
+    }
+
     private boolean timeout(final SimpleTimer timer) {
 
         if (timer.getElapsedNanoseconds() >= offerTimeUnit.toNanos(this.offerTimeout))
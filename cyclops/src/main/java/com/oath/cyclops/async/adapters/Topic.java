@@ -7,8 +7,11 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.oath.cyclops.async.wait.NoWaitRetry;
+import com.oath.cyclops.async.wait.WaitStrategy;
 import com.oath.cyclops.types.futurestream.Continuation;
 import com.oath.cyclops.async.QueueFactories;
+import com.oath.cyclops.util.ExceptionSoftener;
 
 
 import cyclops.control.Option;
@@ -32,7 +35,7 @@ import lombok.Synchronized;
 public class Topic<T> implements Adapter<T> {
 
     @Getter(AccessLevel.PACKAGE)
-    private final DistributingCollection<T> distributor = new DistributingCollection<T>();
+    private final DistributingCollection<T> distributor;
     @Getter(AccessLevel.PACKAGE)
     private volatile HashMap<ReactiveSeq<?>, Queue<T>> streamToQueue = HashMap.empty();
     private final Object lock = new Object();
@@ -45,6 +48,7 @@ public class Topic<T> implements Adapter<T> {
     public Topic() {
         final Queue<T> q = new Queue<T>();
         factory = QueueFactories.unboundedQueue();
+        distributor = new DistributingCollection<T>();
         distributor.addQueue(q);
     }
 
@@ -54,13 +58,65 @@ public class Topic<T> implements Adapter<T> {
      */
     public Topic(final Queue<T> q) {
         factory = QueueFactories.unboundedQueue();
+        distributor = new DistributingCollection<T>();
         distributor.addQueue(q);
     }
     public Topic(final Queue<T> q,QueueFactory<T> factory) {
         this.factory = factory;
+        distributor = new DistributingCollection<T>();
         distributor.addQueue(q);
     }
 
+    private Topic(final BroadcastRingBuffer<T> ring, final WaitStrategy<T> consumer, final WaitStrategy<T> producer) {
+        this.factory = () -> new Queue<T>(
+                                          ring.subscribe(), consumer, producer);
+        distributor = new RingBufferDistributingCollection<T>(
+                                                             ring, producer);
+        distributor.addQueue(factory.build());
+    }
+
+    /**
+     * Create a Topic backed by a single shared ring buffer, rather than a Queue per subscriber.
+     *
+     * Each subscribing Stream reads from the ring buffer via its own sequence cursor, so offering a message is a
+     * single write regardless of the number of subscribers. The buffer is bounded - when it is full the writer waits
+     * (via NoWaitRetry) for the slowest connected subscriber to move on. Messages must be offered from a single thread at a time,
+     * and Streams that are finished with the Topic should be disconnected so they no longer hold up the writer.
+     *
+     * <pre>
+     * {@code
+     *   Topic<Integer> topic = Topic.ringBuffer(1024);
+     *   ReactiveSeq<Integer> s1 = topic.stream();
+     *   ReactiveSeq<Integer> s2 = topic.stream();
+     *   topic.offer(1);
+     * }
+     * </pre>
+     *
+     * @param capacity Size of the ring buffer (rounded up to the next power of 2)
+     * @return Topic backed by a ring buffer
+     */
+    public static <T> Topic<T> ringBuffer(final int capacity) {
+        return ringBuffer(capacity, new NoWaitRetry<>(), new NoWaitRetry<>());
+    }
+
+    /**
+     * Create a Topic backed by a single shared ring buffer, using the supplied WaitStrategies when a subscriber
+     * has no data available (consumer) or when the ring buffer is full (producer).
+     * {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#yieldWait() }
+     *
+     * @see Topic#ringBuffer(int)
+     * @param capacity Size of the ring buffer (rounded up to the next power of 2)
+     * @param consumer Strategy to be employed by subscribers when there is no data available
+     * @param producer Strategy to be employed by the writer when the ring buffer is full
+     * @return Topic backed by a ring buffer
+     */
+    public static <T> Topic<T> ringBuffer(final int capacity, final WaitStrategy<T> consumer, final WaitStrategy<T> producer) {
+        return new Topic<T>(
+                            new BroadcastRingBuffer<T>(
+                                                       capacity),
+                            consumer, producer);
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic
@@ -73,7 +129,8 @@ public class Topic<T> implements Adapter<T> {
 
       Option<Queue<T>> o = streamToQueue.get(stream);
 
-        distributor.removeQueue(streamToQueue.getOrElse(stream, new Queue<>()));
+        final Queue<T> queue = streamToQueue.getOrElse(stream, new Queue<>());
+        distributor.removeQueue(queue);
         this.streamToQueue = streamToQueue.remove(stream);
         this.index--;
     }
@@ -147,6 +204,8 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean close() {
+        if (distributor instanceof RingBufferDistributingCollection)
+            ((RingBufferDistributingCollection<T>) distributor).close();
         this.distributor.getSubscribers()
                         .forEach(it -> it.close());
         return true;
@@ -218,6 +277,54 @@ public class Topic<T> implements Adapter<T> {
 
     }
 
+    /*
+     * Publishes each message once to a shared ring buffer, subscriber Queues read from it via their own cursor
+     */
+    static class RingBufferDistributingCollection<T> extends DistributingCollection<T> {
+
+        private static final long serialVersionUID = 1L;
+        private final BroadcastRingBuffer<T> ring;
+        private final WaitStrategy<T> producer;
+        private volatile boolean open = true;
+
+        RingBufferDistributingCollection(final BroadcastRingBuffer<T> ring, final WaitStrategy<T> producer) {
+            this.ring = ring;
+            this.producer = producer;
+        }
+
+        @Override
+        public void removeQueue(final Queue<T> q) {
+            super.removeQueue(q);
+            if (q.getQueue() instanceof BroadcastRingBuffer.Reader)
+                ring.unsubscribe((BroadcastRingBuffer.Reader<T>) q.getQueue());
+        }
+
+        @Override
+        public boolean add(final T e) {
+            if (!open)
+                throw new Queue.ClosedQueueException();
+            try {
+                final T next = Queue.nullSafe(e);
+                return producer.offer(() -> ring.offer(next));
+            } catch (final InterruptedException ex) {
+                Thread.currentThread()
+                      .interrupt();
+                throw ExceptionSoftener.throwSoftenedException(ex);
+            }
+        }
+
+        @Override
+        public boolean addAll(final Collection<? extends T> c) {
+            c.forEach(this::add);
+            return true;
+        }
+
+        void close() {
+            open = false;
+        }
+
+    }
+
     @Override
     public <R> R visit(final Function<? super Queue<T>, ? extends R> caseQueue, final Function<? super Topic<T>, ? extends R> caseTopic) {
         return caseTopic.apply(this);
@@ -14,6 +14,7 @@ import cyclops.reactive.ReactiveSeq;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.*;
 import java.util.stream.*;
@@ -283,15 +284,56 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
 
 
 
+    //close handlers registered on this Stream or the Streams it was derived from, null if there are none
+    private CloseHandler closeHandler;
+
+    /**
+     * Streams derived from this one via createSeq share its close handlers, so closing any Stream in a pipeline
+     * closes its upstream resources.
+     */
+    <X, S extends BaseExtendedStream<X>> S inheritClose(final S derived) {
+        ((BaseExtendedStream<X>) derived).closeHandler = closeHandler;
+        return derived;
+    }
+
+    //a new Stream over the same source and close handlers as this one
+    abstract BaseExtendedStream<T> sameSource();
+
     @Override
     public ReactiveSeq<T> onClose(final Runnable closeHandler) {
-
-        return this;
+        BaseExtendedStream<T> next = sameSource();
+        next.closeHandler = new CloseHandler(this.closeHandler, closeHandler);
+        return next;
     }
 
     @Override
     public void close() {
+        if(closeHandler != null)
+            closeHandler.run();
+    }
+
+    //handlers run at most once, in the order they were registered
+    private static final class CloseHandler implements Runnable {
+        private final CloseHandler previous;
+        private final Runnable handler;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        CloseHandler(final CloseHandler previous, final Runnable handler){
+            this.previous = previous;
+            this.handler = handler;
+        }
 
+        @Override
+        public void run() {
+            if(!closed.compareAndSet(false, true))
+                return;
+            try {
+                if(previous != null)
+                    previous.run();
+            } finally {
+                handler.run();
+            }
+        }
     }
     @Override
     public ReactiveSeq<T> xPer(final int x, final long time, final TimeUnit t) {
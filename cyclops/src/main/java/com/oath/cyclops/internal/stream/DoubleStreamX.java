@@ -0,0 +1,87 @@
+package com.oath.cyclops.internal.stream;
+
+import cyclops.reactive.DoubleSeq;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AllArgsConstructor;
+
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * Synchronous DoubleSeq, backed by a primitive DoubleStream pipeline over a Spliterator.OfDouble
+ */
+@AllArgsConstructor
+public class DoubleStreamX implements DoubleSeq {
+
+    private final DoubleStream stream;
+
+    @Override
+    public DoubleSeq map(DoubleUnaryOperator fn) {
+        return new DoubleStreamX(stream.map(fn));
+    }
+
+    @Override
+    public DoubleSeq filter(DoublePredicate predicate) {
+        return new DoubleStreamX(stream.filter(predicate));
+    }
+
+    @Override
+    public DoubleSeq peek(DoubleConsumer c) {
+        return new DoubleStreamX(stream.peek(c));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn) {
+        return ReactiveSeq.fromStream(stream.mapToObj(fn));
+    }
+
+    @Override
+    public ReactiveSeq<Double> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public double reduce(double identity, DoubleBinaryOperator accumulator) {
+        return stream.reduce(identity,accumulator);
+    }
+
+    @Override
+    public double sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public OptionalDouble min() {
+        return stream.min();
+    }
+
+    @Override
+    public OptionalDouble max() {
+        return stream.max();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    @Override
+    public double[] toArray() {
+        return stream.toArray();
+    }
+}
@@ -0,0 +1,305 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.SpillConfig;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * External merge sort. Input is sorted in bounded runs, full runs are spilled to temporary files and the runs are
+ * lazily k-way merged back together. Runs are merged in input order with ties resolved in favour of the earlier run, so
+ * the sort is stable.
+ *
+ * Each spill file is deleted as soon as its run has been merged, any remaining files (e.g. when the sorted Stream is
+ * only partially consumed) are deleted when the sorted Stream is closed, or if the sort fails.
+ *
+ * @param <T> Type of the elements being sorted
+ */
+public final class ExternalSort<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SpillConfig<T> config;
+    private final List<T> buffer = new ArrayList<>();
+    private final List<Run> spilled = new ArrayList<>();
+    private final Resources resources;
+
+    private ExternalSort(Comparator<? super T> comparator, SpillConfig<T> config, Resources resources){
+        this.comparator = comparator;
+        this.config = config;
+        this.resources = resources;
+    }
+
+    /**
+     * @return Lazily sorted Stream, closing it releases any spill files that have not yet been merged
+     */
+    public static <T> ReactiveSeq<T> sorted(ReactiveSeq<T> input, Comparator<? super T> comparator, SpillConfig<T> config){
+        Resources resources = new Resources();
+        return input.coflatMap(r -> new ExternalSort<>(comparator, config, resources).sort(r))
+                    .concatMap(i -> i)
+                    .onClose(resources::release);
+    }
+
+    /**
+     * Consume and sort the input, the returned Iterable may only be iterated once.
+     */
+    private Iterable<T> sort(ReactiveSeq<T> input){
+        try {
+            input.forEach(this::add);
+            return finish();
+        } catch (Throwable t) {
+            resources.release();
+            throw t;
+        }
+    }
+
+    private void add(T next){
+        buffer.add(next);
+        if(buffer.size() >= config.getRunSize()){
+            T[] run = sortBuffer();
+            spilled.add(spill(Arrays.asList(run).iterator(), run.length));
+        }
+    }
+
+    private T[] sortBuffer(){
+        T[] run = (T[]) buffer.toArray();
+        buffer.clear();
+        if(config.isParallelRunSort())
+            Arrays.parallelSort(run, comparator);
+        else
+            Arrays.sort(run, comparator);
+        return run;
+    }
+
+    private Iterable<T> finish(){
+        T[] remaining = sortBuffer();
+        if(spilled.isEmpty())
+            return Arrays.asList(remaining);
+        int fanIn = config.getMergeFactor() - (remaining.length > 0 ? 1 : 0);
+        List<Run> runs = new ArrayList<>(spilled);
+        while(runs.size() > fanIn){
+            runs = mergePass(runs);
+            config.recordMergePass();
+        }
+        List<Run> finalRuns = runs;
+        return () -> {
+            List<Cursor<T>> cursors = new ArrayList<>(finalRuns.size() + 1);
+            for(Run next : finalRuns){
+                cursors.add(new FileCursor<>(next, config, resources));
+            }
+            if(remaining.length > 0)
+                cursors.add(new ArrayCursor<>(remaining));
+            return new MergingIterator<>(cursors, comparator);
+        };
+    }
+
+    private List<Run> mergePass(List<Run> runs){
+        List<Run> merged = new ArrayList<>();
+        int factor = config.getMergeFactor();
+        for(int i = 0; i < runs.size(); i += factor){
+            List<Run> group = runs.subList(i, Math.min(runs.size(), i + factor));
+            if(group.size() == 1){
+                merged.add(group.get(0));
+                continue;
+            }
+            List<Cursor<T>> cursors = new ArrayList<>(group.size());
+            long count = 0;
+            for(Run next : group){
+                cursors.add(new FileCursor<>(next, config, resources));
+                count += next.count;
+            }
+            merged.add(spill(new MergingIterator<>(cursors, comparator), count));
+        }
+        return merged;
+    }
+
+    private Run spill(Iterator<T> sorted, long count){
+        try {
+            Path path = Files.createTempFile(config.getDirectory(), "cyclops-sort-", ".run");
+            resources.files.add(path);
+            try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), config.getBufferSize()))){
+                SpillConfig.Serializer<T> serializer = config.getSerializer();
+                while(sorted.hasNext()){
+                    serializer.write(sorted.next(), out);
+                }
+            }
+            config.recordSpill(count, Files.size(path));
+            return new Run(path, count);
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    //spill files and open run readers of a sort, each is removed as its run is exhausted
+    private static final class Resources {
+        final Set<Path> files = ConcurrentHashMap.newKeySet();
+        final Set<FileCursor<?>> cursors = ConcurrentHashMap.newKeySet();
+
+        void release(){
+            IOException error = null;
+            for(FileCursor<?> next : cursors){
+                try {
+                    next.close();
+                } catch (IOException e) {
+                    error = error == null ? e : error;
+                }
+            }
+            for(Path next : files){
+                try {
+                    Files.deleteIfExists(next);
+                    files.remove(next);
+                } catch (IOException e) {
+                    error = error == null ? e : error;
+                }
+            }
+            if(error != null)
+                throw ExceptionSoftener.throwSoftenedException(error);
+        }
+    }
+
+    private static final class Run {
+        final Path path;
+        final long count;
+
+        Run(Path path, long count){
+            this.path = path;
+            this.count = count;
+        }
+    }
+
+    private interface Cursor<T> {
+        T head();
+
+        /**
+         * @return false (and release any resources) once the cursor is exhausted
+         */
+        boolean advance();
+    }
+
+    private static final class ArrayCursor<T> implements Cursor<T> {
+        private final T[] values;
+        private int index = -1;
+
+        ArrayCursor(T[] values){
+            this.values = values;
+        }
+
+        @Override
+        public T head() {
+            return values[index];
+        }
+
+        @Override
+        public boolean advance() {
+            return ++index < values.length;
+        }
+    }
+
+    private static final class FileCursor<T> implements Cursor<T> {
+        private final Run run;
+        private final SpillConfig<T> config;
+        private final Resources resources;
+        private DataInputStream in;
+        private long remaining;
+        private T head;
+
+        FileCursor(Run run, SpillConfig<T> config, Resources resources){
+            this.run = run;
+            this.config = config;
+            this.resources = resources;
+            this.remaining = run.count;
+        }
+
+        @Override
+        public T head() {
+            return head;
+        }
+
+        @Override
+        public boolean advance() {
+            try {
+                if(remaining == 0){
+                    close();
+                    return false;
+                }
+                if(in == null){
+                    in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path), config.getBufferSize()));
+                    resources.cursors.add(this);
+                }
+                head = config.getSerializer().read(in);
+                remaining--;
+                return true;
+            } catch (IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+
+        void close() throws IOException {
+            head = null;
+            remaining = 0;
+            resources.cursors.remove(this);
+            if(in != null)
+                in.close();
+            in = null;
+            Files.deleteIfExists(run.path);
+            resources.files.remove(run.path);
+        }
+    }
+
+    private static final class MergingIterator<T> implements Iterator<T> {
+        private final PriorityQueue<Indexed<T>> queue;
+
+        MergingIterator(List<Cursor<T>> cursors, Comparator<? super T> comparator){
+            this.queue = new PriorityQueue<>(Math.max(1, cursors.size()), (a, b) -> {
+                int result = comparator.compare(a.cursor.head(), b.cursor.head());
+                return result != 0 ? result : Integer.compare(a.index, b.index);
+            });
+            for(int i = 0; i < cursors.size(); i++){
+                Cursor<T> next = cursors.get(i);
+                if(next.advance())
+                    queue.add(new Indexed<>(next, i));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            Indexed<T> smallest = queue.poll();
+            if(smallest == null)
+                throw new NoSuchElementException();
+            T result = smallest.cursor.head();
+            if(smallest.cursor.advance())
+                queue.add(smallest);
+            return result;
+        }
+    }
+
+    private static final class Indexed<T> {
+        final Cursor<T> cursor;
+        final int index;
+
+        Indexed(Cursor<T> cursor, int index){
+            this.cursor = cursor;
+            this.index = index;
+        }
+    }
+}
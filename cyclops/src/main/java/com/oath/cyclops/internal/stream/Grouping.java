@@ -0,0 +1,185 @@
+package com.oath.cyclops.internal.stream;
+
+import cyclops.data.HashMap;
+import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Grouping engine for ReactiveSeq. Elements are accumulated into mutable per key buffers (Vector Builders or reduction
+ * cells) and the result is frozen into a persistent HashMap once, with a single insertion per distinct key.
+ */
+public final class Grouping {
+
+    private Grouping(){
+    }
+
+    public static <T, K> HashMap<K, Vector<T>> groupBy(ReactiveSeq<T> stream, Function<? super T, ? extends K> classifier){
+        java.util.HashMap<K, Vector.Builder<T>> buffers = stream.collect(java.util.HashMap::new,
+                                                                         (m, t) -> m.computeIfAbsent(classifier.apply(t), k -> Vector.builder()).append(t),
+                                                                         Grouping::mergeBuffers);
+        return freeze(buffers);
+    }
+
+    public static <T, K, R> HashMap<K, R> groupingReduce(ReactiveSeq<T> stream, Function<? super T, ? extends K> classifier,
+                                                        R identity, BiFunction<? super R, ? super T, ? extends R> accumulator){
+        //partial results can't be combined, so elements are folded into the cells in encounter order
+        java.util.HashMap<K, Cell<R>> cells = stream.reduce(new java.util.HashMap<>(),
+                                                            (m, t) -> {
+                                                                accumulate(m, classifier, identity, accumulator, t);
+                                                                return m;
+                                                            });
+        return freezeCells(cells);
+    }
+
+    public static <T, K, R> HashMap<K, R> groupingReduce(ReactiveSeq<T> stream, Function<? super T, ? extends K> classifier,
+                                                        R identity, BiFunction<? super R, ? super T, ? extends R> accumulator,
+                                                        BinaryOperator<R> combiner){
+        java.util.HashMap<K, Cell<R>> cells = stream.collect(java.util.HashMap::new,
+                                                             (m, t) -> accumulate(m, classifier, identity, accumulator, t),
+                                                             (a, b) -> b.forEach((k, c) -> a.merge(k, c, (x, y) -> new Cell<>(combiner.apply(x.value, y.value)))));
+        return freezeCells(cells);
+    }
+
+    private static <T, K, R> void accumulate(java.util.HashMap<K, Cell<R>> cells, Function<? super T, ? extends K> classifier,
+                                             R identity, BiFunction<? super R, ? super T, ? extends R> accumulator, T next){
+        Cell<R> cell = cells.computeIfAbsent(classifier.apply(next), k -> new Cell<>(identity));
+        cell.value = accumulator.apply(cell.value, next);
+    }
+
+    private static <K, R> HashMap<K, R> freezeCells(java.util.HashMap<K, Cell<R>> cells){
+        HashMap<K, R> result = HashMap.empty();
+        for(Map.Entry<K, Cell<R>> next : cells.entrySet()){
+            result = result.put(next.getKey(), next.getValue().value);
+        }
+        return result;
+    }
+
+    public static <T, K> HashMap<K, Long> countBy(ReactiveSeq<T> stream, Function<? super T, ? extends K> classifier){
+        java.util.HashMap<K, long[]> counts = stream.collect(java.util.HashMap::new,
+                                                             (m, t) -> m.computeIfAbsent(classifier.apply(t), k -> new long[1])[0]++,
+                                                             (a, b) -> b.forEach((k, c) -> a.computeIfAbsent(k, x -> new long[1])[0] += c[0]));
+        HashMap<K, Long> result = HashMap.empty();
+        for(Map.Entry<K, long[]> next : counts.entrySet()){
+            result = result.put(next.getKey(), next.getValue()[0]);
+        }
+        return result;
+    }
+
+    /**
+     * Parallel groupBy. The input is buffered and split into one contiguous chunk per worker, each worker classifies
+     * its chunk and routes the elements into partitions by key hash. Each partition is then grouped and frozen by a
+     * single worker, as no key is shared between partitions the frozen results are combined with a structural union.
+     * Encounter order is retained within each group.
+     */
+    public static <T, K> HashMap<K, Vector<T>> groupByParallel(ReactiveSeq<T> stream, Function<? super T, ? extends K> classifier,
+                                                              ForkJoinPool pool){
+        List<T> input = stream.collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        int partitions = Math.max(1, Math.min(pool.getParallelism(), input.size()));
+        if(partitions == 1)
+            return groupBy(ReactiveSeq.fromList(input), classifier);
+
+        //routed[chunk][partition] holds alternating key, element pairs
+        Object[][][] routed = new Object[partitions][][];
+        List<Callable<Void>> classify = new ArrayList<>(partitions);
+        for(int c = 0; c < partitions; c++){
+            int chunk = c;
+            int from = (int) ((long) input.size() * c / partitions);
+            int to = (int) ((long) input.size() * (c + 1) / partitions);
+            classify.add(() -> {
+                List<Object>[] byPartition = new List[partitions];
+                for(int p = 0; p < partitions; p++){
+                    byPartition[p] = new ArrayList<>();
+                }
+                for(int i = from; i < to; i++){
+                    T next = input.get(i);
+                    K key = classifier.apply(next);
+                    List<Object> target = byPartition[partition(key, partitions)];
+                    target.add(key);
+                    target.add(next);
+                }
+                Object[][] res = new Object[partitions][];
+                for(int p = 0; p < partitions; p++){
+                    res[p] = byPartition[p].toArray();
+                }
+                routed[chunk] = res;
+                return null;
+            });
+        }
+        await(pool.invokeAll(classify));
+
+        HashMap<K, Vector<T>>[] frozen = new HashMap[partitions];
+        List<Callable<Void>> group = new ArrayList<>(partitions);
+        for(int p = 0; p < partitions; p++){
+            int partition = p;
+            group.add(() -> {
+                java.util.HashMap<K, Vector.Builder<T>> buffers = new java.util.HashMap<>();
+                for(int c = 0; c < partitions; c++){
+                    Object[] pairs = routed[c][partition];
+                    for(int i = 0; i < pairs.length; i += 2){
+                        buffers.computeIfAbsent((K) pairs[i], k -> Vector.builder()).append((T) pairs[i + 1]);
+                    }
+                }
+                frozen[partition] = freeze(buffers);
+                return null;
+            });
+        }
+        await(pool.invokeAll(group));
+
+        HashMap<K, Vector<T>> result = frozen[0];
+        for(int p = 1; p < partitions; p++){
+            result = result.union(frozen[p]);
+        }
+        return result;
+    }
+
+    private static int partition(Object key, int partitions){
+        int h = Objects.hashCode(key);
+        return Math.floorMod(h ^ (h >>> 16), partitions);
+    }
+
+    private static void await(List<Future<Void>> tasks){
+        for(Future<Void> next : tasks){
+            try {
+                next.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            } catch (ExecutionException e) {
+                throw ExceptionSoftener.throwSoftenedException(e.getCause());
+            }
+        }
+    }
+
+    private static <K, T> void mergeBuffers(java.util.HashMap<K, Vector.Builder<T>> a, java.util.HashMap<K, Vector.Builder<T>> b){
+        b.forEach((k, v) -> a.computeIfAbsent(k, x -> Vector.builder()).appendAll(v.build()));
+    }
+
+    private static <K, T> HashMap<K, Vector<T>> freeze(java.util.HashMap<K, Vector.Builder<T>> buffers){
+        HashMap<K, Vector<T>> result = HashMap.empty();
+        for(Map.Entry<K, Vector.Builder<T>> next : buffers.entrySet()){
+            result = result.put(next.getKey(), next.getValue().build());
+        }
+        return result;
+    }
+
+    private static final class Cell<R>{
+        R value;
+
+        Cell(R value){
+            this.value = value;
+        }
+    }
+}
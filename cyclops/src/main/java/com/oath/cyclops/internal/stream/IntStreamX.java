@@ -0,0 +1,88 @@
+package com.oath.cyclops.internal.stream;
+
+import cyclops.reactive.IntSeq;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AllArgsConstructor;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Synchronous IntSeq, backed by a primitive IntStream pipeline over a Spliterator.OfInt
+ */
+@AllArgsConstructor
+public class IntStreamX implements IntSeq {
+
+    private final IntStream stream;
+
+    @Override
+    public IntSeq map(IntUnaryOperator fn) {
+        return new IntStreamX(stream.map(fn));
+    }
+
+    @Override
+    public IntSeq filter(IntPredicate predicate) {
+        return new IntStreamX(stream.filter(predicate));
+    }
+
+    @Override
+    public IntSeq peek(IntConsumer c) {
+        return new IntStreamX(stream.peek(c));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn) {
+        return ReactiveSeq.fromStream(stream.mapToObj(fn));
+    }
+
+    @Override
+    public ReactiveSeq<Integer> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public int reduce(int identity, IntBinaryOperator accumulator) {
+        return stream.reduce(identity,accumulator);
+    }
+
+    @Override
+    public int sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public OptionalInt min() {
+        return stream.min();
+    }
+
+    @Override
+    public OptionalInt max() {
+        return stream.max();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    @Override
+    public int[] toArray() {
+        return stream.toArray();
+    }
+}
@@ -1,10 +1,10 @@
 package com.oath.cyclops.internal.stream;
 
-import java.util.Date;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -13,7 +13,7 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.companion.Eithers;
 import cyclops.function.FluentFunctions;
-import com.oath.cyclops.util.stream.scheduling.cron.CronExpression;
+import com.oath.cyclops.util.stream.scheduling.cron.CompiledCronExpression;
 
 public class IteratorHotStream<T> {
 
@@ -41,13 +41,19 @@ public class IteratorHotStream<T> {
     }
 
     protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
-        final Date now = new Date();
-        final Date d = ExceptionSoftener.softenSupplier(() -> new CronExpression(
-                                                                                 cron))
-                                        .get()
-                                        .getNextValidTimeAfter(now);
+        scheduleInternal(it, ExceptionSoftener.softenSupplier(() -> CompiledCronExpression.compile(cron))
+                                              .get(), ex);
+    }
+
+    private void scheduleInternal(final Iterator<T> it, final CompiledCronExpression cron, final ScheduledExecutorService ex) {
+        final long now = System.currentTimeMillis();
+        final long nextFire = cron.nextFireTimeAfter(now);
+        if (nextFire < 0) {
+            open.set(false);
+            return;
+        }
 
-        final long delay = d.getTime() - now.getTime();
+        final long delay = nextFire - now;
 
         ex.schedule(() -> {
             synchronized (it) {
@@ -79,7 +85,8 @@ public class IteratorHotStream<T> {
     }
 
     protected IteratorHotStream<T> scheduleFixedDelayInternal(final Iterator<T> it, final long delay, final ScheduledExecutorService ex) {
-        ex.scheduleWithFixedDelay(() -> {
+        final ScheduledFuture<?>[] task = {null};
+        task[0] = ex.scheduleWithFixedDelay(() -> {
             synchronized (it) {
                 if (it.hasNext()) {
 
@@ -99,6 +106,9 @@ public class IteratorHotStream<T> {
 
                 } else {
                     open.set(false);
+                    //stop the periodic task once the source is exhausted, a run that races the assignment retries
+                    if (task[0] != null)
+                        task[0].cancel(false);
                 }
             }
         } , delay, delay, TimeUnit.MILLISECONDS);
@@ -107,7 +117,8 @@ public class IteratorHotStream<T> {
     }
 
     protected IteratorHotStream<T> scheduleFixedRate(final Iterator<T> it, final long rate, final ScheduledExecutorService ex) {
-        ex.scheduleAtFixedRate(() -> {
+        final ScheduledFuture<?>[] task = {null};
+        task[0] = ex.scheduleAtFixedRate(() -> {
             synchronized (it) {
                 if (it.hasNext()) {
 
@@ -126,6 +137,9 @@ public class IteratorHotStream<T> {
 
                 } else {
                     open.set(false);
+                    //stop the periodic task once the source is exhausted, a run that races the assignment retries
+                    if (task[0] != null)
+                        task[0].cancel(false);
                 }
             }
         } , 0, rate, TimeUnit.MILLISECONDS);
@@ -0,0 +1,88 @@
+package com.oath.cyclops.internal.stream;
+
+import cyclops.reactive.LongSeq;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AllArgsConstructor;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * Synchronous LongSeq, backed by a primitive LongStream pipeline over a Spliterator.OfLong
+ */
+@AllArgsConstructor
+public class LongStreamX implements LongSeq {
+
+    private final LongStream stream;
+
+    @Override
+    public LongSeq map(LongUnaryOperator fn) {
+        return new LongStreamX(stream.map(fn));
+    }
+
+    @Override
+    public LongSeq filter(LongPredicate predicate) {
+        return new LongStreamX(stream.filter(predicate));
+    }
+
+    @Override
+    public LongSeq peek(LongConsumer c) {
+        return new LongStreamX(stream.peek(c));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn) {
+        return ReactiveSeq.fromStream(stream.mapToObj(fn));
+    }
+
+    @Override
+    public ReactiveSeq<Long> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public long reduce(long identity, LongBinaryOperator accumulator) {
+        return stream.reduce(identity,accumulator);
+    }
+
+    @Override
+    public long sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public OptionalLong min() {
+        return stream.min();
+    }
+
+    @Override
+    public OptionalLong max() {
+        return stream.max();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    @Override
+    public long[] toArray() {
+        return stream.toArray();
+    }
+}
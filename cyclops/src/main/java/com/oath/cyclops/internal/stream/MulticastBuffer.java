@@ -0,0 +1,201 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.types.reactive.BoundedBufferPolicy;
+import cyclops.data.Seq;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Shares a single pass over a source Iterator between a fixed number of readers. Each element is stored once, in a
+ * linked list of array segments, and each reader keeps its own cursor into the segments. The buffer only references
+ * the segment currently being written, so a segment becomes garbage as soon as every reader has moved past it.
+ *
+ * Optionally the number of elements the fastest reader may be ahead of the slowest can be bounded, once the bound is
+ * reached the fastest reader either blocks (see {@link BoundedBufferPolicy#BLOCK}) or fails fast
+ * (see {@link BoundedBufferPolicy#ERROR}). Readers may be used from different threads.
+ *
+ * @param <T> Data type of elements
+ */
+public final class MulticastBuffer<T> {
+
+    static final int MIN_SEGMENT = 16;
+    static final int MAX_SEGMENT = 1024;
+
+    private final Iterator<T> source;
+    private final List<Reader> readers;
+    private final long bound;
+    private final BoundedBufferPolicy policy;
+
+    private Segment tail;
+    private long written = 0;
+    private boolean waiting = false;
+
+    private MulticastBuffer(Iterator<T> source, int copies, long bound, BoundedBufferPolicy policy){
+        if(bound < 1)
+            throw new IllegalArgumentException("Buffer bound must be positive");
+        this.source = source;
+        this.bound = bound;
+        this.policy = policy;
+        this.tail = new Segment(0, MIN_SEGMENT);
+        this.readers = new ArrayList<>(copies);
+        for(int i = 0; i < copies; i++){
+            readers.add(new Reader(tail));
+        }
+    }
+
+    /**
+     * @param source Iterator to share
+     * @param copies Number of readers
+     * @return Readers that each see every element of the source
+     */
+    public static <T> Seq<Iterator<T>> readers(Iterator<T> source, int copies){
+        return readers(source, copies, Long.MAX_VALUE, BoundedBufferPolicy.BLOCK);
+    }
+
+    /**
+     * @param source Iterator to share
+     * @param copies Number of readers
+     * @param bound Maximum number of elements the fastest reader may be ahead of the slowest
+     * @param policy Behaviour when the bound is reached
+     * @return Readers that each see every element of the source
+     */
+    public static <T> Seq<Iterator<T>> readers(Iterator<T> source, int copies, long bound, BoundedBufferPolicy policy){
+        MulticastBuffer<T> buffer = new MulticastBuffer<>(source, copies, bound, policy);
+        Seq<Iterator<T>> result = Seq.empty();
+        for(int i = copies - 1; i >= 0; i--){
+            result = result.prepend(buffer.readers.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Share an Iterable between a fixed number of copies. The first traversal of each copy shares a single pass over
+     * the source, traversing a copy again starts a new shared pass for all copies.
+     *
+     * @param source Iterable to share
+     * @param copies Number of copies
+     * @param bound Maximum number of elements the fastest reader may be ahead of the slowest
+     * @param policy Behaviour when the bound is reached
+     * @return Iterables that each see every element of the source
+     */
+    public static <T> Seq<Iterable<T>> iterables(Iterable<T> source, int copies, long bound, BoundedBufferPolicy policy){
+        Generation<T> generation = new Generation<>(source, copies, bound, policy);
+        Seq<Iterable<T>> result = Seq.empty();
+        for(int i = copies - 1; i >= 0; i--){
+            int index = i;
+            result = result.prepend(() -> generation.reader(index));
+        }
+        return result;
+    }
+
+    private static final class Generation<T> {
+        private final Iterable<T> source;
+        private final int copies;
+        private final long bound;
+        private final BoundedBufferPolicy policy;
+        private MulticastBuffer<T> current;
+        private boolean[] taken;
+
+        Generation(Iterable<T> source, int copies, long bound, BoundedBufferPolicy policy){
+            this.source = source;
+            this.copies = copies;
+            this.bound = bound;
+            this.policy = policy;
+        }
+
+        synchronized Iterator<T> reader(int index){
+            if(current == null || taken[index]){
+                current = new MulticastBuffer<>(source.iterator(), copies, bound, policy);
+                taken = new boolean[copies];
+            }
+            taken[index] = true;
+            return current.readers.get(index);
+        }
+    }
+
+    private static final class Segment {
+        final long base;
+        final Object[] values;
+        Segment next;
+
+        Segment(long base, int size){
+            this.base = base;
+            this.values = new Object[size];
+        }
+    }
+
+    private void append(T value){
+        if(written - tail.base == tail.values.length){
+            Segment next = new Segment(written, Math.min(MAX_SEGMENT, tail.values.length * 2));
+            tail.next = next;
+            tail = next;
+        }
+        tail.values[(int) (written - tail.base)] = value;
+        written++;
+    }
+
+    private long slowest(){
+        long min = written;
+        for(Reader next : readers){
+            min = Math.min(min, next.position);
+        }
+        return min;
+    }
+
+    private void awaitCapacity(long position){
+        //once another reader has pulled further elements this reader can consume them without waiting
+        while(position == written && written - slowest() >= bound){
+            if(policy == BoundedBufferPolicy.ERROR)
+                throw new IllegalStateException("Multicast buffer bound of " + bound + " elements exceeded");
+            waiting = true;
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private final class Reader implements Iterator<T> {
+        private Segment segment;
+        private long position = 0;
+
+        Reader(Segment segment){
+            this.segment = segment;
+        }
+
+        @Override
+        public boolean hasNext() {
+            synchronized (MulticastBuffer.this) {
+                return position < written || source.hasNext();
+            }
+        }
+
+        @Override
+        public T next() {
+            synchronized (MulticastBuffer.this) {
+                if(position == written){
+                    if(!source.hasNext())
+                        throw new NoSuchElementException();
+                    if(bound != Long.MAX_VALUE)
+                        awaitCapacity(position);
+                    if(position == written)
+                        append(source.next());
+                }
+                if(position - segment.base == segment.values.length)
+                    segment = segment.next;
+                T value = (T) segment.values[(int) (position - segment.base)];
+                position++;
+                if(waiting){
+                    waiting = false;
+                    MulticastBuffer.this.notifyAll();
+                }
+                return value;
+            }
+        }
+    }
+}
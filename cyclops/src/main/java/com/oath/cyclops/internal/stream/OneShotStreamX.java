@@ -172,12 +172,17 @@ public class OneShotStreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new OneShotStreamX<X>(stream,reversible);
+        return inheritClose(new OneShotStreamX<X>(stream,reversible));
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new OneShotStreamX<X>(stream,reversible);
+        return inheritClose(new OneShotStreamX<X>(stream,reversible));
+    }
+
+    @Override
+    OneShotStreamX<T> sameSource() {
+        return inheritClose(new OneShotStreamX<T>(stream,reversible));
     }
 
     Spliterator<T> get() {
@@ -0,0 +1,142 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleToObjOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.control.Future;
+import cyclops.reactive.DoubleSeq;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Push based DoubleSeq, each stage is a DoubleOperator so values stay unboxed from the source to the terminal operation
+ */
+@AllArgsConstructor
+public class ReactiveDoubleStreamX implements DoubleSeq {
+
+    @Getter
+    private final DoubleOperator source;
+    private final ReactiveStreamX.Type async;
+
+    public ReactiveDoubleStreamX(DoubleOperator source) {
+        this(source,ReactiveStreamX.Type.SYNC);
+    }
+
+    @Override
+    public DoubleSeq map(DoubleUnaryOperator fn) {
+        if(source instanceof DoubleMapOperator)
+            return new ReactiveDoubleStreamX(((DoubleMapOperator)source).compose(fn),async);
+        return new ReactiveDoubleStreamX(new DoubleMapOperator(source,fn),async);
+    }
+
+    @Override
+    public DoubleSeq filter(DoublePredicate predicate) {
+        return new ReactiveDoubleStreamX(new DoubleFilterOperator(source,predicate),async);
+    }
+
+    @Override
+    public DoubleSeq peek(DoubleConsumer c) {
+        return map(i->{
+            c.accept(i);
+            return i;
+        });
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn) {
+        return new ReactiveStreamX<R>(new DoubleToObjOperator<R>(source,fn),async);
+    }
+
+    @Override
+    public ReactiveSeq<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        Future<Boolean> complete = Future.future();
+        if (async == ReactiveStreamX.Type.NO_BACKPRESSURE) {
+            source.subscribeAll(action, complete::completeExceptionally, () -> complete.complete(true));
+        } else {
+            source.subscribe(action, complete::completeExceptionally, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get().visit(s->s,e->{throw ExceptionSoftener.throwSoftenedException(e);});
+    }
+
+    @Override
+    public double reduce(double identity, DoubleBinaryOperator accumulator) {
+        double[] result = {identity};
+        forEach(i->result[0]=accumulator.applyAsDouble(result[0],i));
+        return result[0];
+    }
+
+    @Override
+    public double sum() {
+        double[] sum = {0};
+        forEach(i->sum[0]+=i);
+        return sum[0];
+    }
+
+    @Override
+    public long count() {
+        long[] count = {0};
+        forEach(i->count[0]++);
+        return count[0];
+    }
+
+    @Override
+    public OptionalDouble min() {
+        long[] count = {0};
+        double[] min = {Double.POSITIVE_INFINITY};
+        forEach(i->{
+            count[0]++;
+            min[0] = Math.min(min[0],i);
+        });
+        return count[0]==0 ? OptionalDouble.empty() : OptionalDouble.of(min[0]);
+    }
+
+    @Override
+    public OptionalDouble max() {
+        long[] count = {0};
+        double[] max = {Double.NEGATIVE_INFINITY};
+        forEach(i->{
+            count[0]++;
+            max[0] = Math.max(max[0],i);
+        });
+        return count[0]==0 ? OptionalDouble.empty() : OptionalDouble.of(max[0]);
+    }
+
+    @Override
+    public OptionalDouble average() {
+        long[] count = {0};
+        double[] sum = {0};
+        forEach(i->{
+            count[0]++;
+            sum[0]+=i;
+        });
+        return count[0]==0 ? OptionalDouble.empty() : OptionalDouble.of(sum[0]/count[0]);
+    }
+
+    @Override
+    public double[] toArray() {
+        double[][] buffer = {new double[16]};
+        int[] size = {0};
+        forEach(i->{
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],buffer[0].length*2);
+            buffer[0][size[0]++]=i;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+}
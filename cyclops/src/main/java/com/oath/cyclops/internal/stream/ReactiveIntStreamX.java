@@ -0,0 +1,143 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.internal.stream.spliterators.push.IntFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntToObjOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.control.Future;
+import cyclops.reactive.IntSeq;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Push based IntSeq, each stage is an IntOperator so values stay unboxed from the source to the terminal operation
+ */
+@AllArgsConstructor
+public class ReactiveIntStreamX implements IntSeq {
+
+    @Getter
+    private final IntOperator source;
+    private final ReactiveStreamX.Type async;
+
+    public ReactiveIntStreamX(IntOperator source) {
+        this(source,ReactiveStreamX.Type.SYNC);
+    }
+
+    @Override
+    public IntSeq map(IntUnaryOperator fn) {
+        if(source instanceof IntMapOperator)
+            return new ReactiveIntStreamX(((IntMapOperator)source).compose(fn),async);
+        return new ReactiveIntStreamX(new IntMapOperator(source,fn),async);
+    }
+
+    @Override
+    public IntSeq filter(IntPredicate predicate) {
+        return new ReactiveIntStreamX(new IntFilterOperator(source,predicate),async);
+    }
+
+    @Override
+    public IntSeq peek(IntConsumer c) {
+        return map(i->{
+            c.accept(i);
+            return i;
+        });
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn) {
+        return new ReactiveStreamX<R>(new IntToObjOperator<R>(source,fn),async);
+    }
+
+    @Override
+    public ReactiveSeq<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        Future<Boolean> complete = Future.future();
+        if (async == ReactiveStreamX.Type.NO_BACKPRESSURE) {
+            source.subscribeAll(action, complete::completeExceptionally, () -> complete.complete(true));
+        } else {
+            source.subscribe(action, complete::completeExceptionally, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get().visit(s->s,e->{throw ExceptionSoftener.throwSoftenedException(e);});
+    }
+
+    @Override
+    public int reduce(int identity, IntBinaryOperator accumulator) {
+        int[] result = {identity};
+        forEach(i->result[0]=accumulator.applyAsInt(result[0],i));
+        return result[0];
+    }
+
+    @Override
+    public int sum() {
+        int[] sum = {0};
+        forEach(i->sum[0]+=i);
+        return sum[0];
+    }
+
+    @Override
+    public long count() {
+        long[] count = {0};
+        forEach(i->count[0]++);
+        return count[0];
+    }
+
+    @Override
+    public OptionalInt min() {
+        long[] count = {0};
+        int[] min = {Integer.MAX_VALUE};
+        forEach(i->{
+            count[0]++;
+            min[0] = Math.min(min[0],i);
+        });
+        return count[0]==0 ? OptionalInt.empty() : OptionalInt.of(min[0]);
+    }
+
+    @Override
+    public OptionalInt max() {
+        long[] count = {0};
+        int[] max = {Integer.MIN_VALUE};
+        forEach(i->{
+            count[0]++;
+            max[0] = Math.max(max[0],i);
+        });
+        return count[0]==0 ? OptionalInt.empty() : OptionalInt.of(max[0]);
+    }
+
+    @Override
+    public OptionalDouble average() {
+        long[] count = {0};
+        long[] sum = {0};
+        forEach(i->{
+            count[0]++;
+            sum[0]+=i;
+        });
+        return count[0]==0 ? OptionalDouble.empty() : OptionalDouble.of((double)sum[0]/count[0]);
+    }
+
+    @Override
+    public int[] toArray() {
+        int[][] buffer = {new int[16]};
+        int[] size = {0};
+        forEach(i->{
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],buffer[0].length*2);
+            buffer[0][size[0]++]=i;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+}
@@ -0,0 +1,143 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.internal.stream.spliterators.push.LongFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongToObjOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.control.Future;
+import cyclops.reactive.LongSeq;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Push based LongSeq, each stage is a LongOperator so values stay unboxed from the source to the terminal operation
+ */
+@AllArgsConstructor
+public class ReactiveLongStreamX implements LongSeq {
+
+    @Getter
+    private final LongOperator source;
+    private final ReactiveStreamX.Type async;
+
+    public ReactiveLongStreamX(LongOperator source) {
+        this(source,ReactiveStreamX.Type.SYNC);
+    }
+
+    @Override
+    public LongSeq map(LongUnaryOperator fn) {
+        if(source instanceof LongMapOperator)
+            return new ReactiveLongStreamX(((LongMapOperator)source).compose(fn),async);
+        return new ReactiveLongStreamX(new LongMapOperator(source,fn),async);
+    }
+
+    @Override
+    public LongSeq filter(LongPredicate predicate) {
+        return new ReactiveLongStreamX(new LongFilterOperator(source,predicate),async);
+    }
+
+    @Override
+    public LongSeq peek(LongConsumer c) {
+        return map(i->{
+            c.accept(i);
+            return i;
+        });
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn) {
+        return new ReactiveStreamX<R>(new LongToObjOperator<R>(source,fn),async);
+    }
+
+    @Override
+    public ReactiveSeq<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        Future<Boolean> complete = Future.future();
+        if (async == ReactiveStreamX.Type.NO_BACKPRESSURE) {
+            source.subscribeAll(action, complete::completeExceptionally, () -> complete.complete(true));
+        } else {
+            source.subscribe(action, complete::completeExceptionally, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get().visit(s->s,e->{throw ExceptionSoftener.throwSoftenedException(e);});
+    }
+
+    @Override
+    public long reduce(long identity, LongBinaryOperator accumulator) {
+        long[] result = {identity};
+        forEach(i->result[0]=accumulator.applyAsLong(result[0],i));
+        return result[0];
+    }
+
+    @Override
+    public long sum() {
+        long[] sum = {0};
+        forEach(i->sum[0]+=i);
+        return sum[0];
+    }
+
+    @Override
+    public long count() {
+        long[] count = {0};
+        forEach(i->count[0]++);
+        return count[0];
+    }
+
+    @Override
+    public OptionalLong min() {
+        long[] count = {0};
+        long[] min = {Long.MAX_VALUE};
+        forEach(i->{
+            count[0]++;
+            min[0] = Math.min(min[0],i);
+        });
+        return count[0]==0 ? OptionalLong.empty() : OptionalLong.of(min[0]);
+    }
+
+    @Override
+    public OptionalLong max() {
+        long[] count = {0};
+        long[] max = {Long.MIN_VALUE};
+        forEach(i->{
+            count[0]++;
+            max[0] = Math.max(max[0],i);
+        });
+        return count[0]==0 ? OptionalLong.empty() : OptionalLong.of(max[0]);
+    }
+
+    @Override
+    public OptionalDouble average() {
+        long[] count = {0};
+        long[] sum = {0};
+        forEach(i->{
+            count[0]++;
+            sum[0]+=i;
+        });
+        return count[0]==0 ? OptionalDouble.empty() : OptionalDouble.of((double)sum[0]/count[0]);
+    }
+
+    @Override
+    public long[] toArray() {
+        long[][] buffer = {new long[16]};
+        int[] size = {0};
+        forEach(i->{
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],buffer[0].length*2);
+            buffer[0][size[0]++]=i;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+}
@@ -20,6 +20,9 @@ import cyclops.control.*;
 import cyclops.data.Vector;
 import cyclops.function.Monoid;
 
+import cyclops.reactive.DoubleSeq;
+import cyclops.reactive.IntSeq;
+import cyclops.reactive.LongSeq;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.Spouts;
 import lombok.AllArgsConstructor;
@@ -135,12 +138,32 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return new OperatorToIterable<>(source, this.defaultErrorHandler, async == BACKPRESSURE).iterator();
     }
 
+    @Override
+    public IntSeq mapToIntSeq(ToIntFunction<? super T> fn) {
+        return new ReactiveIntStreamX(new ToIntOperator<>(source, fn), async);
+    }
+
+    @Override
+    public LongSeq mapToLongSeq(ToLongFunction<? super T> fn) {
+        return new ReactiveLongStreamX(new ToLongOperator<>(source, fn), async);
+    }
+
+    @Override
+    public DoubleSeq mapToDoubleSeq(ToDoubleFunction<? super T> fn) {
+        return new ReactiveDoubleStreamX(new ToDoubleOperator<>(source, fn), async);
+    }
+
     <X> ReactiveStreamX<X> createSeq(Operator<X> stream) {
-        return new ReactiveStreamX<X>(stream, defaultErrorHandler, async);
+        return inheritClose(new ReactiveStreamX<X>(stream, defaultErrorHandler, async));
     }
 
     <X> ReactiveStreamX<X> createSeq(Operator<X> stream, Type async) {
-        return new ReactiveStreamX<X>(stream, defaultErrorHandler, async);
+        return inheritClose(new ReactiveStreamX<X>(stream, defaultErrorHandler, async));
+    }
+
+    @Override
+    ReactiveStreamX<T> sameSource() {
+        return createSeq(source);
     }
 
 
@@ -359,7 +382,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final ReactiveSeq<T> limitWhile(final Predicate<? super T> p) {
-        return createSeq(new LimitWhileOperator<>(source, p));
+        return createSeq(FusedOperator.limitWhile(source, p));
     }
 
     @Override
@@ -390,7 +413,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
 
 
-        return createSeq(new MapOperator<T, R>(this.source, fn));
+        return createSeq(FusedOperator.map(this.source, fn));
     }
 
 
@@ -423,10 +446,18 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(pub);
     }
 
+    @Override
+    public final <R> ReactiveSeq<R> mergeMap(int maxConcurency, int prefetch, final Function<? super T, ? extends Publisher<? extends R>> fn) {
+        FlatMapPublisher<T, R> pub = new FlatMapPublisher<>(source, fn,
+                maxConcurency, prefetch);
+
+        return createSeq(pub);
+    }
+
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
-        return createSeq(new FilterOperator<T>(source, fn));
+        return createSeq(FusedOperator.filter(source, fn));
 
     }
 
@@ -1092,7 +1123,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public ReactiveSeq<T> skip(long num) {
-        return createSeq(new SkipOperator<>(source, num));
+        return createSeq(FusedOperator.skip(source, num));
     }
 
     @Override
@@ -1191,7 +1222,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
             return result;
 
         }
-        return Streams.toBufferingCopier(() -> iterator(), num, () -> new ArrayDeque<T>(100))
+        return Streams.toBufferingCopier(() -> iterator(), num)
                 .map(ReactiveSeq::fromIterable);
     }
 
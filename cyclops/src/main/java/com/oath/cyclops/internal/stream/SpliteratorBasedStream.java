@@ -390,6 +390,18 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
         return Spouts.fromIterable(this).mergeMap(maxConcurrency,mapper);
     }
 
+    /**
+     * A potentially asynchronous flatMap operation where data from each publisher may arrive out of order
+     *
+     * @param maxConcurrency Maximum number of publishers subscribed to at once
+     * @param prefetch Number of elements requested up front from each publisher
+     * @param mapper
+     * @return
+     */
+    public <R> ReactiveSeq<R> mergeMap(final int maxConcurrency, final int prefetch, final Function<? super T, ? extends Publisher<? extends R>> mapper) {
+        return Spouts.fromIterable(this).mergeMap(maxConcurrency,prefetch,mapper);
+    }
+
 
 
 
@@ -47,12 +47,17 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return inheritClose(new StreamX<X>(stream,reversible));
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return inheritClose(new StreamX<X>(stream,reversible));
+    }
+
+    @Override
+    StreamX<T> sameSource() {
+        return inheritClose(new StreamX<T>(stream,reversible));
     }
 
 
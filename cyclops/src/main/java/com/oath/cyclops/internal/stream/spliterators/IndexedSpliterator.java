@@ -0,0 +1,59 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Sized Spliterator over the index range [index, end) of an indexed source. trySplit hands the front half of the
+ * remaining range to the prefix Spliterator.
+ */
+public final class IndexedSpliterator<T> implements Spliterator<T> {
+
+    private final LongFunction<? extends T> get;
+    private long index;
+    private final long end;
+
+    public IndexedSpliterator(LongFunction<? extends T> get, long index, long end){
+        this.get = get;
+        this.index = index;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if(index >= end)
+            return false;
+        action.accept(get.apply(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        long i = index;
+        index = end;
+        for(;i<end;i++){
+            action.accept(get.apply(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long mid = index + ((end - index) >>> 1);
+        if(mid <= index)
+            return null;
+        Spliterator<T> prefix = new IndexedSpliterator<>(get, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -1,6 +1,10 @@
 package com.oath.cyclops.internal.stream.spliterators;
 
+import cyclops.data.Seq;
+
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
@@ -9,7 +13,7 @@ import java.util.function.Consumer;
  * Created by johnmcclean on 22/12/2016.
  */
 
-public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements CopyableSpliterator<T>{
+public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements CopyableSpliterator<T>, Splittable<T>{
 
   private final Iterable<T> source;
 
@@ -46,6 +50,19 @@ public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T
     return false;
   }
 
+  @Override
+  public Spliterator<T> splittable() {
+    if(active!=null)
+      return null;
+    if(source instanceof Seq)
+      return new SeqSpliterator<>((Seq<T>)source);
+    if(source instanceof List && source instanceof RandomAccess){
+      List<T> list = (List<T>)source;
+      return new IndexedSpliterator<>(i -> list.get((int) i), 0, list.size());
+    }
+    return null;
+  }
+
   @Override
   public Spliterator<T> copy() {
     return new IteratableSpliterator<>(source);
@@ -0,0 +1,140 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Converts a sequential ReactiveSeq Spliterator into one that splits well for parallel execution.
+ *
+ * Sources that know how to split themselves (arrays, random access Lists, ranges, Vector and Seq, see
+ * {@link Splittable}), and map stages over them, are split directly so that each ForkJoin worker processes its own chunk
+ * of the source. Any other Spliterator is split by pulling batches of elements into arrays, with the batch size growing
+ * arithmetically on each split (as {@link Spliterators#spliteratorUnknownSize(java.util.Iterator, int)} does) and
+ * capped by the estimated size of the source.
+ */
+public final class ParallelSpliterators {
+
+    static final int BATCH_UNIT = 1 << 10;
+    static final int MAX_BATCH = 1 << 25;
+
+    private ParallelSpliterators(){
+    }
+
+    public static <T> Spliterator<T> splittable(Spliterator<T> source){
+        Spliterator<T> direct = direct(source);
+        return direct != null ? direct : new BatchingSpliterator<>(source);
+    }
+
+    private static <T> Spliterator<T> direct(Spliterator<T> source){
+        if(source instanceof Splittable)
+            return ((Splittable<T>) source).splittable();
+        if(source instanceof MappingSpliterator){
+            MappingSpliterator<Object, T> mapping = (MappingSpliterator<Object, T>) source;
+            Spliterator<Object> upstream = direct(mapping.source());
+            if(upstream != null)
+                return new SplittingMapSpliterator<>(upstream, mapping.function());
+        }
+        return null;
+    }
+
+    static final class SplittingMapSpliterator<S, T> implements Spliterator<T> {
+        private final Spliterator<S> source;
+        private final Function<? super S, ? extends T> fn;
+
+        SplittingMapSpliterator(Spliterator<S> source, Function<? super S, ? extends T> fn){
+            this.source = source;
+            this.fn = fn;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return source.tryAdvance(s -> action.accept(fn.apply(s)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            source.forEachRemaining(s -> action.accept(fn.apply(s)));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<S> prefix = source.trySplit();
+            return prefix == null ? null : new SplittingMapSpliterator<>(prefix, fn);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+        }
+    }
+
+    static final class BatchingSpliterator<T> implements Spliterator<T>, Consumer<T> {
+        private final Spliterator<T> source;
+        private long estimate;
+        private int batch = 0;
+        private T next;
+
+        BatchingSpliterator(Spliterator<T> source){
+            this.source = source;
+            this.estimate = source.estimateSize();
+        }
+
+        @Override
+        public void accept(T t) {
+            next = t;
+        }
+
+        private int batchSize(){
+            int size = batch + BATCH_UNIT;
+            if(size > estimate)
+                size = (int) Math.max(1, estimate);
+            if(size > MAX_BATCH)
+                size = MAX_BATCH;
+            batch = size;
+            return size;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int size = batchSize();
+            Object[] chunk = new Object[size];
+            int count = 0;
+            while(count < size && source.tryAdvance(this)){
+                chunk[count++] = next;
+            }
+            next = null;
+            if(count == 0)
+                return null;
+            if(estimate < Long.MAX_VALUE)
+                estimate = Math.max(0, estimate - count);
+            return Spliterators.spliterator(chunk, 0, count, ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return source.tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            source.forEachRemaining(action);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED;
+        }
+    }
+}
@@ -2,13 +2,14 @@ package com.oath.cyclops.internal.stream.spliterators;
 
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
 import lombok.Getter;
 import lombok.Setter;
 
 //@AllArgsConstructor
-public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, Indexable<T> {
+public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, Indexable<T>, Splittable<T> {
 
     private final Object[] array;
     private int max;
@@ -93,6 +94,13 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     }
 
+    @Override
+    public Spliterator<T> splittable() {
+        if (reverse || index >= max)
+            return null;
+        return Spliterators.spliterator(array, index, max, ORDERED | IMMUTABLE);
+    }
+
     @Override
     public Spliterator<T> trySplit() {
 
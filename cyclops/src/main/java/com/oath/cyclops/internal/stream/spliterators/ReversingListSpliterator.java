@@ -3,6 +3,7 @@ package com.oath.cyclops.internal.stream.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
@@ -11,7 +12,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 @AllArgsConstructor
-public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator<T> {
+public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, Splittable<T> {
 
     private final List<T> list;
     private ListIterator<T> it;
@@ -43,6 +44,13 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     }
 
+    @Override
+    public Spliterator<T> splittable() {
+        if (reverse || !(list instanceof RandomAccess))
+            return null;
+        return new IndexedSpliterator<>(i -> list.get((int) i), it.nextIndex(), list.size());
+    }
+
     @Override
     public long estimateSize() {
         return list.size();
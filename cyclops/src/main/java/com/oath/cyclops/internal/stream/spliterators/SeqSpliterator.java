@@ -0,0 +1,74 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import cyclops.data.Seq;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Sized Spliterator over a persistent Seq. trySplit walks to the middle of the remaining nodes and hands the front half
+ * to the prefix Spliterator, so no elements are copied when splitting.
+ */
+public final class SeqSpliterator<T> implements Spliterator<T> {
+
+    private Seq<T> current;
+    private int remaining;
+
+    public SeqSpliterator(Seq<T> seq){
+        this(seq, seq.size());
+    }
+
+    private SeqSpliterator(Seq<T> current, int remaining){
+        this.current = current;
+        this.remaining = remaining;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if(remaining == 0)
+            return false;
+        Seq.Cons<T> cons = (Seq.Cons<T>) current;
+        current = cons.tail;
+        remaining--;
+        action.accept(cons.head);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Seq<T> next = current;
+        int count = remaining;
+        current = Seq.empty();
+        remaining = 0;
+        for(;count>0;count--){
+            Seq.Cons<T> cons = (Seq.Cons<T>) next;
+            action.accept(cons.head);
+            next = cons.tail;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int half = remaining >>> 1;
+        if(half == 0)
+            return null;
+        SeqSpliterator<T> prefix = new SeqSpliterator<>(current, half);
+        Seq<T> mid = current;
+        for(int i=0;i<half;i++){
+            mid = ((Seq.Cons<T>) mid).tail;
+        }
+        current = mid;
+        remaining -= half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
@@ -0,0 +1,16 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+
+/**
+ * A source Spliterator whose remaining elements can be described by a Spliterator with a balanced trySplit, so that
+ * parallel execution can hand chunks of the source directly to ForkJoin workers.
+ */
+public interface Splittable<T> {
+
+    /**
+     * @return SIZED / SUBSIZED Spliterator over the remaining elements of this Spliterator, or null if this
+     *         Spliterator can't be split efficiently
+     */
+    Spliterator<T> splittable();
+}
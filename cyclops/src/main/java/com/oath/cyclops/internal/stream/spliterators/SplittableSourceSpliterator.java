@@ -0,0 +1,68 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Spliterator for a persistent collection that is traversed sequentially by one Spliterator, but which can provide a
+ * differently shaped, balanced Spliterator over the same elements for parallel execution (e.g. index based access into
+ * a Vector).
+ */
+public final class SplittableSourceSpliterator<T> implements CopyableSpliterator<T>, Splittable<T> {
+
+    private final Supplier<? extends Spliterator<T>> sequential;
+    private final Supplier<? extends Spliterator<T>> parallel;
+    private Spliterator<T> active;
+    private boolean started;
+
+    public SplittableSourceSpliterator(Supplier<? extends Spliterator<T>> sequential,
+                                       Supplier<? extends Spliterator<T>> parallel){
+        this.sequential = sequential;
+        this.parallel = parallel;
+    }
+
+    private Spliterator<T> active(){
+        if(active == null)
+            active = sequential.get();
+        return active;
+    }
+
+    @Override
+    public Spliterator<T> splittable() {
+        return started ? null : parallel.get();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        started = true;
+        return active().tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        started = true;
+        active().forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        started = true;
+        return active().trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+        return active().estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return active().characteristics();
+    }
+
+    @Override
+    public Spliterator<T> copy() {
+        return new SplittableSourceSpliterator<>(sequential, parallel);
+    }
+}
@@ -6,11 +6,13 @@ import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 
 import com.oath.cyclops.internal.stream.spliterators.Indexable;
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.Splittable;
 import lombok.Getter;
 import lombok.Setter;
 
-public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator<Integer>, Indexable<Integer> {
+public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator<Integer>, Indexable<Integer>, Splittable<Integer> {
 
     private final int min;
     private final int max;
@@ -70,6 +72,20 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
         return IMMUTABLE;
     }
 
+    @Override
+    public Spliterator<Integer> splittable() {
+        final int from = index;
+        final int step = this.step;
+        if (step <= 0)
+            return null;
+        if (!reverse) {
+            final long count = from < max && from >= min ? ((long) max - from + step - 1) / step : 0;
+            return new IndexedSpliterator<>(i -> (int) (from + i * step), 0, count);
+        }
+        final long count = from > min && from <= max ? ((long) from - min + step - 1) / step : 0;
+        return new IndexedSpliterator<>(i -> (int) (from - i * step), 0, count);
+    }
+
     @Override
     public Spliterator.OfInt trySplit() {
         return this;
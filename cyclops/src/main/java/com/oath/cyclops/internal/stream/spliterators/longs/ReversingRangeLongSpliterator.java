@@ -1,7 +1,9 @@
 package com.oath.cyclops.internal.stream.spliterators.longs;
 
 import com.oath.cyclops.internal.stream.spliterators.Indexable;
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.Splittable;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,7 +12,7 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
 
-public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator<Long>, Indexable<Long> {
+public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator<Long>, Indexable<Long>, Splittable<Long> {
 
     private final long min;
     private final long max;
@@ -70,6 +72,25 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
         return IMMUTABLE;
     }
 
+    @Override
+    public Spliterator<Long> splittable() {
+        final long from = index;
+        final long step = this.step;
+        if (step <= 0)
+            return null;
+        if (!reverse) {
+            final long count = from < max && from >= min ? count(max - from, step) : 0;
+            return count < 0 ? null : new IndexedSpliterator<>(i -> from + i * step, 0, count);
+        }
+        final long count = from > min && from <= max ? count(from - min, step) : 0;
+        return count < 0 ? null : new IndexedSpliterator<>(i -> from - i * step, 0, count);
+    }
+
+    //-1 if the span overflowed a long, such ranges are batched rather than split directly
+    private static long count(long span, long step){
+        return span < 0 ? -1 : (span - 1) / step + 1;
+    }
+
     @Override
     public OfLong trySplit() {
         return this;
@@ -8,6 +8,7 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -15,6 +16,10 @@ import java.util.function.Function;
 
 public class ConcurrentFlatMapper<T, R> {
 
+    public static final int DEFAULT_PREFETCH = 32;
+    //capacity of each inner subscriber's bounded queue is capped, elements beyond it spill into the overflow queue
+    static final int MAX_QUEUE = 1024;
+
     volatile Seq<ActiveSubscriber> activeList = Seq.empty();
     static final AtomicReferenceFieldUpdater<ConcurrentFlatMapper, Seq> queueUpdater =
             AtomicReferenceFieldUpdater.newUpdater(ConcurrentFlatMapper.class, Seq.class, "activeList");
@@ -28,6 +33,8 @@ public class ConcurrentFlatMapper<T, R> {
 
     final StreamSubscription sub;
     final int maxConcurrency;
+    final int prefetch;
+    final int limit;
     volatile boolean running = true;
 
 
@@ -42,14 +49,32 @@ public class ConcurrentFlatMapper<T, R> {
     public ConcurrentFlatMapper(StreamSubscription s, Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete,
                        Function<? super T, ? extends Publisher<? extends R>> mapper,
                        int maxConcurrency) {
+        this(s, onNext, onError, onComplete, mapper, maxConcurrency, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * @param prefetch Number of elements requested up front from each inner Publisher, demand is replenished in a
+     *                 single request once three quarters of the prefetched elements have been consumed
+     * @throws IllegalArgumentException if prefetch is less than 1
+     */
+    public ConcurrentFlatMapper(StreamSubscription s, Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete,
+                                Function<? super T, ? extends Publisher<? extends R>> mapper,
+                                int maxConcurrency, int prefetch) {
         this.sub = s;
         this.onNext = onNext;
         this.onError = onError;
         this.onComplete = onComplete;
         this.mapper = mapper;
         this.maxConcurrency = maxConcurrency;
+        this.prefetch = checkPrefetch(prefetch);
+        this.limit = Math.max(1, prefetch - (prefetch >> 2));
 
+    }
 
+    public static int checkPrefetch(int prefetch){
+        if (prefetch < 1)
+            throw new IllegalArgumentException("prefetch must be greater than 0 but was " + prefetch);
+        return prefetch;
     }
 
     public void request(long n) {
@@ -130,7 +155,7 @@ public class ConcurrentFlatMapper<T, R> {
             while (pendingRequests != requestedLocal) {
                 completed = nextActive.done;
 
-                R raw = nextActive.queue.poll();
+                R raw = nextActive.poll();
 
                 if (complete(false)) {
                     return false;
@@ -161,7 +186,7 @@ public class ConcurrentFlatMapper<T, R> {
         }
 
         void cleanup() {
-            if (completed && nextActive.queue.isEmpty()) {
+            if (completed && nextActive.isEmpty()) {
                 removeAndReturn();
             }
         }
@@ -174,9 +199,7 @@ public class ConcurrentFlatMapper<T, R> {
 
         void processPendingRequests(){
             if (pendingRequests != 0L) {
-                if (!nextActive.done) {
-                    nextActive.sub.get().request(pendingRequests);
-                }
+                nextActive.replenish(pendingRequests);
                 if (requestedLocal != Long.MAX_VALUE) {
                     requestedLocal =  requested.addAndGet(-pendingRequests);
                 }
@@ -252,7 +275,7 @@ public class ConcurrentFlatMapper<T, R> {
 
     private boolean cleanupSubsAndReqs(Seq<ActiveSubscriber> localActiveSubs, SubscriberRequests state) {
         ActiveSubscriber active =null;
-        for (int i = 0; i < localActiveSubs.size() && (active=localActiveSubs.getOrElse(i,null)).queue.isEmpty() && sub.isOpen; i++) {
+        for (int i = 0; i < localActiveSubs.size() && (active=localActiveSubs.getOrElse(i,null)).isEmpty() && sub.isOpen; i++) {
             if (!sub.isOpen) {
                 return true;
             }
@@ -283,14 +306,46 @@ public class ConcurrentFlatMapper<T, R> {
 
 
         final AtomicReference<Subscription> sub = new AtomicReference();
-        final Queue<R> queue = new OneToOneConcurrentArrayQueue<>(1024);
+        //sized from the prefetch (up to MAX_QUEUE), so a Publisher that respects a moderate demand never fills it
+        final Queue<R> queue = new OneToOneConcurrentArrayQueue<>(Math.min(prefetch, MAX_QUEUE));
+        //elements emitted beyond the demand spill over here rather than being dropped
+        final Queue<R> overflow = new ConcurrentLinkedQueue<>();
         volatile boolean done;
+        //elements consumed since demand was last replenished, only accessed while draining
+        long consumed = 0;
 
 
         @Override
         public void onSubscribe(Subscription s) {
             if (this.sub.compareAndSet(null, s)) {
-                s.request(1);
+                s.request(prefetch);
+            }
+        }
+
+        void offer(R t){
+            R nullSafe = com.oath.cyclops.async.adapters.Queue.nullSafe(t);
+            if (!overflow.isEmpty() || !queue.offer(nullSafe)) {
+                overflow.offer(nullSafe);
+            }
+        }
+
+        R poll(){
+            R next = queue.poll();
+            return next != null ? next : overflow.poll();
+        }
+
+        boolean isEmpty(){
+            return queue.isEmpty() && overflow.isEmpty();
+        }
+
+        void replenish(long n){
+            consumed += n;
+            if (consumed >= limit) {
+                long batch = consumed;
+                consumed = 0;
+                if (!done) {
+                    sub.get().request(batch);
+                }
             }
         }
 
@@ -300,23 +355,23 @@ public class ConcurrentFlatMapper<T, R> {
             if (wip.compareAndSet(0, 1)) {
                 long localRequested = requested.get();
 
-
-                if (localRequested != 0L) {
+                //fast path, nothing else is draining and nothing from this Publisher is queued ahead of t
+                if (localRequested != 0L && isEmpty()) {
 
                     onNext.accept(t);
                     if (localRequested != Long.MAX_VALUE) {
                         requested.decrementAndGet();
                     }
-                    sub.get().request(1);
+                    replenish(1);
                 } else {
-                    queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t)); //queue full! handle somehow
+                    offer(t);
                 }
                 if (wip.decrementAndGet() == 0) {
                     return;
                 }
                 populateFromQueuesAndCleanup();
             } else {
-                queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t)); //queue full! handle somehow
+                offer(t);
                 handleMainPublisher();
             }
         }
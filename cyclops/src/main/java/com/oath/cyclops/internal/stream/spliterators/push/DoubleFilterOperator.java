@@ -0,0 +1,53 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+
+
+public class DoubleFilterOperator implements DoubleOperator {
+
+    final DoubleOperator source;
+    final DoublePredicate predicate;
+
+    public DoubleFilterOperator(DoubleOperator source, DoublePredicate predicate){
+        this.source = source;
+        this.predicate = predicate;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribe(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                        else{
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
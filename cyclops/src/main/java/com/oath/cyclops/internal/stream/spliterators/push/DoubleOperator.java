@@ -0,0 +1,15 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Push based operator that emits unboxed doubles
+ */
+public interface DoubleOperator {
+
+
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
@@ -0,0 +1,199 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Adjacent map, filter, limitWhile and skip stages collapsed into a single operator. Each element is passed through
+ * every stage in one loop, inside a single upstream Consumer with a single exception boundary, rather than through a
+ * chain of Consumers each with their own try / catch.
+ *
+ * Stages are fused as the Stream is built via {@link #map}, {@link #filter}, {@link #limitWhile} and {@link #skip},
+ * a single stage is still represented by its own operator. Fused operators are immutable, adding a stage creates a new
+ * operator so that the original Stream can still be reused.
+ *
+ * @param <T> Upstream data type
+ * @param <R> Downstream data type
+ */
+public class FusedOperator<T,R> extends BaseOperator<T,R> {
+
+    static final int MAP = 0;
+    static final int FILTER = 1;
+    static final int LIMIT_WHILE = 2;
+    static final int SKIP = 3;
+
+    private final int[] kinds;
+    private final Function<Object,Object>[] mappers;
+    private final Predicate<Object>[] predicates;
+    private final long[] skips;
+
+    private FusedOperator(Operator<T> source, int[] kinds, Function<Object,Object>[] mappers,
+                          Predicate<Object>[] predicates, long[] skips){
+        super(source);
+        this.kinds = kinds;
+        this.mappers = mappers;
+        this.predicates = predicates;
+        this.skips = skips;
+    }
+
+    private static <T,R> FusedOperator<T,R> single(Operator<T> source, int kind, Object stage, long skip){
+        FusedOperator<T,T> empty = new FusedOperator<>(source, new int[0], new Function[0], new Predicate[0], new long[0]);
+        return empty.then(kind, stage, skip);
+    }
+
+    public static <T,R> Operator<R> map(Operator<T> source, Function<? super T, ? extends R> mapper){
+        FusedOperator<?,T> fusable = fusable(source);
+        if(fusable == null)
+            return new MapOperator<>(source, mapper);
+        return fusable.then(MAP, mapper, 0);
+    }
+
+    public static <T> Operator<T> filter(Operator<T> source, Predicate<? super T> predicate){
+        FusedOperator<?,T> fusable = fusable(source);
+        if(fusable == null)
+            return new FilterOperator<>(source, predicate);
+        return fusable.then(FILTER, predicate, 0);
+    }
+
+    public static <T> Operator<T> limitWhile(Operator<T> source, Predicate<? super T> predicate){
+        FusedOperator<?,T> fusable = fusable(source);
+        if(fusable == null)
+            return new LimitWhileOperator<>(source, predicate);
+        return fusable.then(LIMIT_WHILE, predicate, 0);
+    }
+
+    public static <T> Operator<T> skip(Operator<T> source, long skip){
+        FusedOperator<?,T> fusable = fusable(source);
+        if(fusable == null)
+            return new SkipOperator<>(source, skip);
+        return fusable.then(SKIP, null, skip);
+    }
+
+    //the fused form of a single stage operator, or null if the operator can't be fused
+    private static <T> FusedOperator<?,T> fusable(Operator<T> op){
+        if(op instanceof FusedOperator)
+            return (FusedOperator<?,T>) op;
+        Class<?> type = op.getClass();
+        if(type == MapOperator.class){
+            MapOperator<?,T> map = (MapOperator<?,T>) op;
+            return single(map.source, MAP, map.mapper, 0);
+        }
+        if(type == FilterOperator.class){
+            FilterOperator<T> filter = (FilterOperator<T>) op;
+            return single(filter.source, FILTER, filter.predicate, 0);
+        }
+        if(type == LimitWhileOperator.class){
+            LimitWhileOperator<T,?> limit = (LimitWhileOperator<T,?>) op;
+            return single(limit.source, LIMIT_WHILE, limit.predicate, 0);
+        }
+        if(type == SkipOperator.class){
+            SkipOperator<T,?> skip = (SkipOperator<T,?>) op;
+            return single(skip.source, SKIP, null, skip.skip);
+        }
+        return null;
+    }
+
+    private <R2> FusedOperator<T,R2> then(int kind, Object stage, long skip){
+        int n = kinds.length;
+        int[] nextKinds = Arrays.copyOf(kinds, n + 1);
+        Function<Object,Object>[] nextMappers = Arrays.copyOf(mappers, n + 1);
+        Predicate<Object>[] nextPredicates = Arrays.copyOf(predicates, n + 1);
+        long[] nextSkips = Arrays.copyOf(skips, n + 1);
+        nextKinds[n] = kind;
+        if(kind == MAP)
+            nextMappers[n] = (Function<Object,Object>) stage;
+        else if(kind == SKIP)
+            nextSkips[n] = skip;
+        else
+            nextPredicates[n] = (Predicate<Object>) stage;
+        return new FusedOperator<>(source, nextKinds, nextMappers, nextPredicates, nextSkips);
+    }
+
+    int stages(){
+        return kinds.length;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Stages stages = new Stages(onNext, onError, onComplete);
+        stages.upstream = source.subscribe(stages, onError, stages::complete);
+        return stages.upstream;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Stages stages = new Stages(onNext, onError, onCompleteDs);
+        source.subscribeAll(stages, onError, stages::complete);
+    }
+
+    //per subscription state, skip counts and whether a limitWhile stage has completed the Stream
+    private final class Stages implements Consumer<T> {
+        private final Consumer<? super R> onNext;
+        private final Consumer<? super Throwable> onError;
+        private final Runnable onComplete;
+        private final long[] skipped = new long[kinds.length];
+        //only set when subscribed with backpressure, dropped elements are replaced by requesting another
+        StreamSubscription upstream;
+        private boolean closed = false;
+
+        Stages(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public void accept(T e) {
+            if(closed)
+                return;
+            try {
+                Object value = e;
+                for(int i = 0; i < kinds.length; i++){
+                    switch(kinds[i]){
+                        case MAP:
+                            value = mappers[i].apply(value);
+                            break;
+                        case FILTER:
+                            if(!predicates[i].test(value)){
+                                drop();
+                                return;
+                            }
+                            break;
+                        case LIMIT_WHILE:
+                            if(!predicates[i].test(value)){
+                                closed = true;
+                                if(upstream != null)
+                                    upstream.cancel();
+                                onComplete.run();
+                                return;
+                            }
+                            break;
+                        default:
+                            if(skipped[i] < skips[i]){
+                                skipped[i]++;
+                                drop();
+                                return;
+                            }
+                    }
+                }
+                onNext.accept((R) value);
+            } catch (Throwable t) {
+                onError.accept(t);
+            }
+        }
+
+        private void drop(){
+            if(upstream != null)
+                upstream.request(1l);
+        }
+
+        void complete(){
+            if(!closed){
+                closed = true;
+                onComplete.run();
+            }
+        }
+    }
+}
@@ -38,7 +38,7 @@ public class GenerateOperator<T> implements Operator<T> {
 
                     reqs = requested.get();
                     if(reqs==delivered) {
-                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        reqs = settle(delivered);
                         if(reqs==0)
                             return;
                         delivered=0;
@@ -0,0 +1,53 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+
+public class IntFilterOperator implements IntOperator {
+
+    final IntOperator source;
+    final IntPredicate predicate;
+
+    public IntFilterOperator(IntOperator source, IntPredicate predicate){
+        this.source = source;
+        this.predicate = predicate;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribe(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                        else{
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,15 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Push based operator that emits unboxed ints
+ */
+public interface IntOperator {
+
+
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
@@ -54,7 +54,7 @@ public class IterableSourceOperator<T> implements Operator<T> {
                     }
                     reqs = requested.get();
                     if(reqs==delivered) {
-                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        reqs = settle(delivered);
                         if(reqs==0)
                             return;
                         delivered=0;
@@ -64,8 +64,10 @@ public class IterableSourceOperator<T> implements Operator<T> {
             };
             @Override
             public void request(long n) {
-                if(n<=0)
-                    onError.accept(new IllegalArgumentException( "3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
                 singleActiveRequest(n,work);
 
             }
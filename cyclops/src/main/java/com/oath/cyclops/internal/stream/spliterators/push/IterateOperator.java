@@ -44,7 +44,7 @@ public class IterateOperator<T> implements Operator<T> {
 
                     reqs = requested.get();
                     if(reqs==delivered) {
-                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        reqs = settle(delivered);
                         if(reqs==0) {
                             if(!isOpen)
                                 onComplete.run();
@@ -53,7 +53,7 @@ public class IteratePredicateOperator<T> implements Operator<T> {
 
                     reqs = requested.get();
                     if(reqs==delivered) {
-                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        reqs = settle(delivered);
                         if(reqs==0) {
                             if(!isOpen)
                                 onComplete.run();
@@ -9,7 +9,7 @@ import java.util.function.Predicate;
 public class LimitWhileOperator<T,R> extends BaseOperator<T,T> {
 
 
-    private final Predicate<? super T> predicate;
+    final Predicate<? super T> predicate;
 
     public LimitWhileOperator(Operator<T> source, final Predicate<? super T> predicate){
         super(source);
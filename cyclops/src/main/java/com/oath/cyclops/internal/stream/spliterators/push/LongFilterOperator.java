@@ -0,0 +1,53 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+
+public class LongFilterOperator implements LongOperator {
+
+    final LongOperator source;
+    final LongPredicate predicate;
+
+    public LongFilterOperator(LongOperator source, LongPredicate predicate){
+        this.source = source;
+        this.predicate = predicate;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribe(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                        else{
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,50 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+
+public class LongMapOperator implements LongOperator {
+
+    final LongOperator source;
+    final LongUnaryOperator mapper;
+
+    public LongMapOperator(LongOperator source, LongUnaryOperator mapper){
+        this.source = source;
+        this.mapper = mapper;
+
+    }
+
+    public LongMapOperator compose(LongUnaryOperator fn){
+        return new LongMapOperator(source,mapper.andThen(fn));
+    }
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsLong(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsLong(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,15 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Push based operator that emits unboxed longs
+ */
+public interface LongOperator {
+
+
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
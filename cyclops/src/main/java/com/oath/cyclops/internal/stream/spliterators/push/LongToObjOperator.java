@@ -0,0 +1,47 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Bridges an unboxed LongOperator back into a push based Operator
+ */
+public class LongToObjOperator<R> implements Operator<R> {
+
+    final LongOperator source;
+    final LongFunction<? extends R> mapper;
+
+    public LongToObjOperator(LongOperator source, LongFunction<? extends R> mapper){
+        this.source = source;
+        this.mapper = mapper;
+
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.apply(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.apply(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
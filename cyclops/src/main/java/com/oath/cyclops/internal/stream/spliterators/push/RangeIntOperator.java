@@ -3,12 +3,13 @@ package com.oath.cyclops.internal.stream.spliterators.push;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
 
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class RangeIntOperator implements Operator<Integer> {
+public class RangeIntOperator implements Operator<Integer>, IntOperator {
 
 
     final int start;
@@ -23,6 +24,16 @@ public class RangeIntOperator implements Operator<Integer> {
 
     @Override
     public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return subscribe((IntConsumer)onNext::accept,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribeAll((IntConsumer)onNext::accept,onError,onCompleteDs);
+    }
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
         int[] index = {start};
         AtomicBoolean completed = new AtomicBoolean(false);
         StreamSubscription sub = new StreamSubscription(){
@@ -42,7 +53,7 @@ public class RangeIntOperator implements Operator<Integer> {
                             return;
                         try {
 
-                            ((Consumer) onNext).accept(index[0]++);
+                            onNext.accept(index[0]++);
                             delivered++;
                         } catch (Throwable t) {
                             onError.accept(t);
@@ -60,7 +71,7 @@ public class RangeIntOperator implements Operator<Integer> {
                     }
                     reqs = requested.get();
                     if(reqs==delivered) {
-                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        reqs = settle(delivered);
                         if(reqs==0)
                             return;
                         delivered=0;
@@ -81,7 +92,7 @@ public class RangeIntOperator implements Operator<Integer> {
 
                     try {
                         if(isOpen)
-                            ((Consumer) onNext).accept(index[0]);
+                            onNext.accept(index[0]);
                         else
                             break;
                     }catch(Throwable t){
@@ -108,11 +119,11 @@ public class RangeIntOperator implements Operator<Integer> {
     }
 
     @Override
-    public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
 
         for (int i = start; i < end; i++) {
-            ((Consumer) onNext).accept(i);
+            onNext.accept(i);
 
         }
 
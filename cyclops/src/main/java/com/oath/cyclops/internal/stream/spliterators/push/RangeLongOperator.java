@@ -8,7 +8,7 @@ import java.util.function.LongConsumer;
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class RangeLongOperator implements Operator<Long> {
+public class RangeLongOperator implements Operator<Long>, LongOperator {
 
 
     final long start;
@@ -23,6 +23,16 @@ public class RangeLongOperator implements Operator<Long> {
 
     @Override
     public StreamSubscription subscribe(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return subscribe((LongConsumer)onNext::accept,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribeAll((LongConsumer)onNext::accept,onError,onCompleteDs);
+    }
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
         long[] index = {start};
         AtomicBoolean completed = new AtomicBoolean(false);
         StreamSubscription sub = new StreamSubscription(){
@@ -40,7 +50,7 @@ public class RangeLongOperator implements Operator<Long> {
                             return;
                         try {
 
-                            ((Consumer) onNext).accept(index[0]++);
+                            onNext.accept(index[0]++);
                             delivered++;
                         } catch (Throwable t) {
                             onError.accept(t);
@@ -59,7 +69,7 @@ public class RangeLongOperator implements Operator<Long> {
                     }
                     reqs = requested.get();
                     if(reqs==delivered) {
-                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        reqs = settle(delivered);
                         if(reqs==0)
                             return;
                         delivered=0;
@@ -81,7 +91,7 @@ public class RangeLongOperator implements Operator<Long> {
 
                     try {
                         if(isOpen)
-                            ((Consumer) onNext).accept(index[0]);
+                            onNext.accept(index[0]);
                         else
                             break;
                     }catch(Throwable t){
@@ -112,11 +122,11 @@ public class RangeLongOperator implements Operator<Long> {
     }
 
     @Override
-    public void subscribeAll(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
         for(long i=start;i<end;i++){
             try {
-                ((Consumer) onNext).accept(i);
+                onNext.accept(i);
             }catch(Throwable t){
                 onError.accept(t);
             }
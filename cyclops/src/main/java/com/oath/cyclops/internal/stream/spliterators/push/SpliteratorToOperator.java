@@ -25,15 +25,16 @@ public class SpliteratorToOperator<T> implements Operator<T> {
         boolean canAdvance[] = {true};
         StreamSubscription sub = new StreamSubscription(){
             LongConsumer work = n-> {
-
-
-                    while(isActive() && canAdvance[0]) {
+                //emitted elements are counted locally and settled against requested once the batch is delivered
+                long reqs = n;
+                long delivered = 0;
+                do {
+                    while (delivered < reqs && canAdvance[0] && isOpen) {
                         try {
 
                             canAdvance[0] = split.tryAdvance(onNext);
                             if(canAdvance[0])
-                                requested.decrementAndGet();
-
+                                delivered++;
 
                         } catch (Throwable t) {
 
@@ -46,8 +47,16 @@ public class SpliteratorToOperator<T> implements Operator<T> {
                             cancel();
                             onComplete.run();
                         }
+                        return;
                     }
-
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = settle(delivered);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+                    }
+                }while(true);
 
             };
             @Override
@@ -42,6 +42,17 @@ public class StreamSubscription implements Subscription {
     }
 
 
+    /**
+     * Settle the elements emitted by a drain loop against the outstanding demand in a single atomic operation, rather
+     * than paying an atomic decrement per element.
+     *
+     * @param delivered Number of elements emitted since demand was last settled
+     * @return Demand still outstanding, the draining thread must stop emitting once this reaches zero
+     */
+    protected long settle(long delivered){
+        return requested.addAndGet(-delivered);
+    }
+
     @Override
     public void request(long n) {
         requestInternal(n);
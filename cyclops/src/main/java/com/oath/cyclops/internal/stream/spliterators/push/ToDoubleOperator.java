@@ -0,0 +1,48 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bridges a push based Operator into an unboxed DoubleOperator
+ */
+public class ToDoubleOperator<T> implements DoubleOperator {
+
+    final Operator<T> source;
+    final ToDoubleFunction<? super T> mapper;
+
+    public ToDoubleOperator(Operator<T> source, ToDoubleFunction<? super T> mapper){
+        this.source = source;
+        this.mapper = mapper;
+
+    }
+
+    @Override
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsDouble(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsDouble(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
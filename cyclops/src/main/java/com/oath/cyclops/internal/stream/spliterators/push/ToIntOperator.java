@@ -0,0 +1,48 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bridges a push based Operator into an unboxed IntOperator
+ */
+public class ToIntOperator<T> implements IntOperator {
+
+    final Operator<T> source;
+    final ToIntFunction<? super T> mapper;
+
+    public ToIntOperator(Operator<T> source, ToIntFunction<? super T> mapper){
+        this.source = source;
+        this.mapper = mapper;
+
+    }
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsInt(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsInt(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,365 @@
+package com.oath.cyclops.react;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A ScheduledExecutorService backed by a hashed timing wheel, suitable for very large numbers of timers (e.g. per
+ * session timeouts) where the O(log n) insertion and single lock of a ScheduledThreadPoolExecutor become a bottleneck.
+ * Scheduling and cancellation are O(1), timers are handed to a single timer thread via lock free queues and expire with
+ * a precision of one tick.
+ *
+ * It can be used anywhere cyclops accepts a ScheduledExecutorService
+ *
+ * <pre>
+ * {@code
+ *  HashedWheelScheduler wheel = HashedWheelScheduler.create(10, TimeUnit.MILLISECONDS);
+ *
+ *  Future<String> timeout = Future.schedule(30_000, wheel, ()->"expired");
+ *  ReactiveSeq<Integer> ticks = Spouts.interval(100, wheel);
+ * }
+ * </pre>
+ *
+ * Expired tasks are dispatched to the supplied Executor (the common ForkJoinPool by default), tasks that block should
+ * be dispatched to a dedicated Executor. Timers that have not expired are cancelled when the scheduler is shutdown.
+ */
+public final class HashedWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor executor;
+
+    private final Queue<WheelTask<?>> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask<?>> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final List<Runnable> unexecuted = new ArrayList<>();
+    private final long startTime;
+    private final Thread worker;
+
+    private HashedWheelScheduler(long tickDuration, TimeUnit unit, int ticksPerWheel, Executor executor){
+        if(tickDuration <= 0)
+            throw new IllegalArgumentException("tickDuration must be positive");
+        if(ticksPerWheel <= 0 || ticksPerWheel > 1 << 30)
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30");
+        this.tickNanos = Math.max(1, unit.toNanos(tickDuration));
+        int size = Integer.highestOneBit(ticksPerWheel);
+        size = size < ticksPerWheel ? size << 1 : size;
+        this.wheel = new Bucket[size];
+        for(int i = 0; i < size; i++){
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::tickLoop, "cyclops-hashed-wheel-scheduler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * @param tickDuration Precision of the timer, timers expire within one tick of their deadline
+     * @param unit TimeUnit of the tickDuration
+     * @return Scheduler with 512 buckets that dispatches expired tasks to the common ForkJoinPool
+     */
+    public static HashedWheelScheduler create(long tickDuration, TimeUnit unit){
+        return create(tickDuration, unit, 512, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param tickDuration Precision of the timer, timers expire within one tick of their deadline
+     * @param unit TimeUnit of the tickDuration
+     * @param ticksPerWheel Number of buckets in the wheel (rounded up to a power of 2)
+     * @param executor Executor expired tasks are run on
+     * @return Scheduler
+     */
+    public static HashedWheelScheduler create(long tickDuration, TimeUnit unit, int ticksPerWheel, Executor executor){
+        return new HashedWheelScheduler(tickDuration, unit, ticksPerWheel, executor);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return enqueue(new WheelTask<Void>(command, null, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return enqueue(new WheelTask<>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if(period <= 0)
+            throw new IllegalArgumentException("period must be positive");
+        return enqueue(new WheelTask<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if(delay <= 0)
+            throw new IllegalArgumentException("delay must be positive");
+        return enqueue(new WheelTask<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if(shutdown.get())
+            throw new RejectedExecutionException("Scheduler has been shutdown");
+        executor.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        if(shutdown.compareAndSet(false, true))
+            LockSupport.unpark(worker);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        try {
+            terminated.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (unexecuted){
+            return new ArrayList<>(unexecuted);
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown.get();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private long triggerTime(long delay, TimeUnit unit){
+        long nanos = unit.toNanos(Math.max(0, delay));
+        //avoid overflow when comparing deadlines, effectively never
+        return System.nanoTime() + Math.min(nanos, Long.MAX_VALUE >> 2);
+    }
+
+    private <V> WheelTask<V> enqueue(WheelTask<V> task){
+        if(shutdown.get())
+            throw new RejectedExecutionException("Scheduler has been shutdown");
+        pending.add(task);
+        return task;
+    }
+
+    private void tickLoop(){
+        long tick = 0;
+        try {
+            while(!shutdown.get()){
+                long deadline = startTime + tickNanos * (tick + 1);
+                long sleep;
+                while(!shutdown.get() && (sleep = deadline - System.nanoTime()) > 0){
+                    LockSupport.parkNanos(this, sleep);
+                }
+                if(shutdown.get())
+                    break;
+                removeCancelled();
+                transferPending(tick);
+                expire(wheel[(int) (tick & mask)], tick);
+                tick++;
+            }
+        } finally {
+            drainOnShutdown();
+            terminated.countDown();
+        }
+    }
+
+    private void removeCancelled(){
+        WheelTask<?> next;
+        while((next = cancelled.poll()) != null){
+            if(next.bucket != null)
+                next.bucket.remove(next);
+        }
+    }
+
+    private void transferPending(long tick){
+        WheelTask<?> next;
+        while((next = pending.poll()) != null){
+            if(next.isCancelled())
+                continue;
+            long expiryTick = (next.time - startTime) / tickNanos;
+            //tasks already due are placed in the current bucket
+            long target = Math.max(expiryTick, tick);
+            next.remainingRounds = (target - tick) / wheel.length;
+            wheel[(int) (target & mask)].add(next);
+        }
+    }
+
+    private void expire(Bucket bucket, long tick){
+        WheelTask<?> next = bucket.head;
+        while(next != null){
+            WheelTask<?> following = next.next;
+            if(next.isCancelled()){
+                bucket.remove(next);
+            } else if(next.remainingRounds <= 0){
+                bucket.remove(next);
+                dispatch(next);
+            } else {
+                next.remainingRounds--;
+            }
+            next = following;
+        }
+    }
+
+    private void dispatch(WheelTask<?> task){
+        try {
+            executor.execute(task);
+        } catch (Throwable t) {
+            //fail this task only, the timer thread must keep running for every other timer
+            task.setException(t);
+        }
+    }
+
+    private void drainOnShutdown(){
+        List<Runnable> remaining = new ArrayList<>();
+        for(Bucket bucket : wheel){
+            WheelTask<?> next = bucket.head;
+            while(next != null){
+                WheelTask<?> following = next.next;
+                bucket.remove(next);
+                if(!next.isCancelled())
+                    remaining.add(next);
+                next = following;
+            }
+        }
+        WheelTask<?> next;
+        while((next = pending.poll()) != null){
+            if(!next.isCancelled())
+                remaining.add(next);
+        }
+        for(Runnable task : remaining){
+            ((WheelTask<?>) task).cancel(false);
+        }
+        synchronized (unexecuted){
+            unexecuted.addAll(remaining);
+        }
+    }
+
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        //absolute System.nanoTime deadline
+        volatile long time;
+        //positive for fixed rate, negative for fixed delay, 0 for one shot
+        private final long period;
+
+        //owned by the timer thread
+        Bucket bucket;
+        WheelTask<?> prev;
+        WheelTask<?> next;
+        long remainingRounds;
+
+        WheelTask(Runnable runnable, V result, long time, long period){
+            super(runnable, result);
+            this.time = time;
+            this.period = period;
+        }
+
+        WheelTask(Callable<V> callable, long time, long period){
+            super(callable);
+            this.time = time;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if(other == this)
+                return 0;
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean result = super.cancel(mayInterruptIfRunning);
+            if(result)
+                cancelled.add(this);
+            return result;
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            super.setException(t);
+        }
+
+        @Override
+        public void run() {
+            if(!isPeriodic()){
+                super.run();
+            } else if(runAndReset() && !shutdown.get()){
+                time = period > 0 ? time + period : System.nanoTime() - period;
+                pending.add(this);
+            }
+        }
+    }
+
+    //doubly linked list of timers, only accessed by the timer thread
+    private static final class Bucket {
+        WheelTask<?> head;
+        WheelTask<?> tail;
+
+        void add(WheelTask<?> task){
+            task.bucket = this;
+            task.prev = tail;
+            task.next = null;
+            if(tail == null)
+                head = task;
+            else
+                tail.next = task;
+            tail = task;
+        }
+
+        void remove(WheelTask<?> task){
+            if(task.bucket != this)
+                return;
+            if(task.prev == null)
+                head = task.next;
+            else
+                task.prev.next = task.next;
+            if(task.next == null)
+                tail = task.prev;
+            else
+                task.next.prev = task.prev;
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+    }
+}
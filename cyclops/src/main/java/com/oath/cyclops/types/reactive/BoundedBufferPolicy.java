@@ -0,0 +1,11 @@
+package com.oath.cyclops.types.reactive;
+
+/**
+ * Behaviour of a bounded buffer shared by multiple readers when the fastest reader gets too far ahead of the slowest
+ *
+ * BLOCK : the fastest reader waits until the slowest reader catches up (readers should be on separate threads)
+ * ERROR : an IllegalStateException is thrown to the fastest reader
+ */
+public enum BoundedBufferPolicy {
+    BLOCK, ERROR
+}
@@ -0,0 +1,312 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import java.text.ParseException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.TreeSet;
+
+/**
+ * An immutable, precompiled form of a {@link CronExpression}. Each field is held as a bitset and the next fire time is
+ * found with next-set-bit lookups on java.time values, the valid days of a month are resolved into a single bit mask
+ * so no Calendar is created and no per day iteration is required. Results match {@link CronExpression#getNextValidTimeAfter(Date)}.
+ *
+ * <pre>
+ * {@code
+ *  CompiledCronExpression everyWeekday = CompiledCronExpression.compile("0 30 9 ? * MON-FRI");
+ *  long next = everyWeekday.nextFireTimeAfter(System.currentTimeMillis());
+ * }
+ * </pre>
+ */
+public final class CompiledCronExpression {
+
+    private static final int NONE = -1;
+
+    private final String expression;
+    private final ZoneId zone;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    //bit n set for day of month n
+    private final long daysOfMonth;
+    //bit n set for month n
+    private final long months;
+    //bit n set for Quartz day of week n (1 = Sunday)
+    private final long daysOfWeek;
+    private final BitSet years;
+
+    private final boolean dayOfMonthRule;
+    private final boolean lastDayOfMonth;
+    private final int lastDayOffset;
+    private final boolean nearestWeekday;
+    private final boolean lastDayOfWeek;
+    private final int nthDayOfWeek;
+
+    private CompiledCronExpression(CronExpression cron){
+        this.expression = cron.getCronExpression();
+        this.zone = cron.getTimeZone().toZoneId();
+        this.seconds = bits(cron.seconds, 0, 59);
+        this.minutes = bits(cron.minutes, 0, 59);
+        this.hours = bits(cron.hours, 0, 23);
+        this.daysOfMonth = bits(cron.daysOfMonth, 1, 31);
+        this.months = bits(cron.months, 1, 12);
+        this.daysOfWeek = bits(cron.daysOfWeek, 1, 7);
+        this.years = new BitSet();
+        for(Integer year : cron.years){
+            if(year <= CronExpression.MAX_YEAR)
+                years.set(year);
+        }
+        this.dayOfMonthRule = !cron.daysOfMonth.contains(CronExpression.NO_SPEC);
+        this.lastDayOfMonth = cron.lastdayOfMonth;
+        this.lastDayOffset = cron.lastdayOffset;
+        this.nearestWeekday = cron.nearestWeekday;
+        this.lastDayOfWeek = cron.lastdayOfWeek;
+        this.nthDayOfWeek = cron.nthdayOfWeek;
+    }
+
+    public static CompiledCronExpression compile(String expression) throws ParseException {
+        return new CompiledCronExpression(new CronExpression(expression));
+    }
+
+    /**
+     * @param expression Parsed CronExpression, fire times are resolved in its TimeZone
+     * @return Compiled form of the supplied expression
+     */
+    public static CompiledCronExpression compile(CronExpression expression){
+        return new CompiledCronExpression(expression);
+    }
+
+    private static long bits(TreeSet<Integer> values, int min, int max){
+        long result = 0;
+        for(Integer next : values){
+            //skip the '*' and '?' markers
+            if(next >= min && next <= max)
+                result |= 1L << next;
+        }
+        return result;
+    }
+
+    /**
+     * @return Lowest set bit at or above from, or -1
+     */
+    private static int next(long bits, int from){
+        if(from > 63)
+            return NONE;
+        long masked = bits & (-1L << from);
+        return masked == 0 ? NONE : Long.numberOfTrailingZeros(masked);
+    }
+
+    /**
+     * @param epochMillis Time to search after
+     * @return Next fire time in epoch millis strictly after the supplied time, or -1 if the expression never fires again
+     */
+    public long nextFireTimeAfter(long epochMillis){
+        ZonedDateTime next = nextFireTimeAfter(Instant.ofEpochMilli(epochMillis).atZone(zone));
+        return next == null ? NONE : next.toInstant().toEpochMilli();
+    }
+
+    /**
+     * Drop in equivalent of {@link CronExpression#getNextValidTimeAfter(Date)}
+     */
+    public Date getNextValidTimeAfter(Date date){
+        long next = nextFireTimeAfter(date.getTime());
+        return next == NONE ? null : new Date(next);
+    }
+
+    /**
+     * @param after Time to search after
+     * @return Next fire time strictly after the supplied time, or null if the expression never fires again
+     */
+    public ZonedDateTime nextFireTimeAfter(ZonedDateTime after){
+        //as with CronExpression, the search starts from the local time of the next whole second
+        Instant start = after.toInstant().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        LocalDateTime candidate = LocalDateTime.ofInstant(start, zone);
+        while(true){
+            LocalDateTime local = nextLocal(candidate);
+            if(local == null)
+                return null;
+            ZonedDateTime result = resolve(local);
+            if(result != null && result.isAfter(after))
+                return result;
+            candidate = local.plusSeconds(1);
+        }
+    }
+
+    /**
+     * Resolve a local time the way CronExpression's Calendar does. A time repeated by a daylight saving transition
+     * resolves to its later (standard time) occurrence, a time skipped by a transition doesn't fire.
+     *
+     * @return Fire time for the supplied local time, or null if it doesn't exist in this zone
+     */
+    private ZonedDateTime resolve(LocalDateTime local){
+        ZonedDateTime result = ZonedDateTime.ofLocal(local, zone, null);
+        if(!result.toLocalDateTime().equals(local))
+            return null;
+        return result.withLaterOffsetAtOverlap();
+    }
+
+    private LocalDateTime nextLocal(LocalDateTime from){
+        int year = from.getYear();
+        int month = from.getMonthValue();
+        int day = from.getDayOfMonth();
+        LocalTime time = from.toLocalTime();
+        while(true){
+            if(year > CronExpression.MAX_YEAR)
+                return null;
+            int y = years.nextSetBit(year);
+            if(y < 0)
+                return null;
+            if(y != year){
+                year = y;
+                month = 1;
+                day = 1;
+                time = LocalTime.MIDNIGHT;
+            }
+            int m = next(months, month);
+            if(m == NONE){
+                year++;
+                month = 1;
+                day = 1;
+                time = LocalTime.MIDNIGHT;
+                continue;
+            }
+            if(m != month){
+                month = m;
+                day = 1;
+                time = LocalTime.MIDNIGHT;
+            }
+            int d = next(dayMask(year, month), day);
+            if(d == NONE){
+                month++;
+                if(month > 12){
+                    month = 1;
+                    year++;
+                }
+                day = 1;
+                time = LocalTime.MIDNIGHT;
+                continue;
+            }
+            if(d != day){
+                day = d;
+                time = LocalTime.MIDNIGHT;
+            }
+            LocalTime t = nextTime(time);
+            if(t == null){
+                LocalDate tomorrow = LocalDate.of(year, month, day).plusDays(1);
+                year = tomorrow.getYear();
+                month = tomorrow.getMonthValue();
+                day = tomorrow.getDayOfMonth();
+                time = LocalTime.MIDNIGHT;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, t.getHour(), t.getMinute(), t.getSecond());
+        }
+    }
+
+    /**
+     * @return First time of day at or after from that matches the hour, minute and second fields, or null
+     */
+    private LocalTime nextTime(LocalTime from){
+        int h = from.getHour();
+        int m = from.getMinute();
+        int s = next(seconds, from.getSecond());
+        if(s == NONE){
+            s = next(seconds, 0);
+            m++;
+        }
+        int nm = next(minutes, m);
+        if(nm != m){
+            s = next(seconds, 0);
+            if(nm == NONE){
+                nm = next(minutes, 0);
+                h++;
+            }
+        }
+        int nh = next(hours, h);
+        if(nh == NONE)
+            return null;
+        if(nh != h){
+            nm = next(minutes, 0);
+            s = next(seconds, 0);
+        }
+        return LocalTime.of(nh, nm, s);
+    }
+
+    /**
+     * @return Bit mask of the days in the supplied month that satisfy the day of month / day of week rule
+     */
+    private long dayMask(int year, int month){
+        LocalDate first = LocalDate.of(year, month, 1);
+        int length = first.lengthOfMonth();
+        long inMonth = (1L << (length + 1)) - 2;
+        if(dayOfMonthRule){
+            if(lastDayOfMonth){
+                int day = length - lastDayOffset;
+                if(day < 1)
+                    return 0;
+                return 1L << (nearestWeekday ? nearestWeekday(first, day, length) : day);
+            }
+            if(nearestWeekday){
+                int day = Long.numberOfTrailingZeros(daysOfMonth);
+                if(day > length)
+                    return 0;
+                return 1L << nearestWeekday(first, day, length);
+            }
+            return daysOfMonth & inMonth;
+        }
+        //day of month of the first occurrence of Quartz day of week 1 (Sunday)
+        int firstDow = quartzDayOfWeek(first.getDayOfWeek());
+        if(lastDayOfWeek || nthDayOfWeek != 0){
+            int dow = Long.numberOfTrailingZeros(daysOfWeek);
+            int firstMatch = 1 + Math.floorMod(dow - firstDow, 7);
+            int day;
+            if(lastDayOfWeek)
+                day = firstMatch + 7 * ((length - firstMatch) / 7);
+            else
+                day = firstMatch + 7 * (nthDayOfWeek - 1);
+            return day > length ? 0 : 1L << day;
+        }
+        //spread the day of week bits over the month, day 1 has day of week firstDow
+        long week = 0;
+        for(int i = 0; i < 7; i++){
+            int dow = 1 + (firstDow - 1 + i) % 7;
+            if((daysOfWeek & (1L << dow)) != 0)
+                week |= 1L << (i + 1);
+        }
+        long mask = week | week << 7 | week << 14 | week << 21 | week << 28;
+        return mask & inMonth;
+    }
+
+    private static int nearestWeekday(LocalDate first, int day, int length){
+        DayOfWeek dow = first.plusDays(day - 1).getDayOfWeek();
+        if(dow == DayOfWeek.SATURDAY)
+            return day == 1 ? day + 2 : day - 1;
+        if(dow == DayOfWeek.SUNDAY)
+            return day == length ? day - 2 : day + 1;
+        return day;
+    }
+
+    private static int quartzDayOfWeek(DayOfWeek dow){
+        return dow.getValue() % 7 + 1;
+    }
+
+    public String getCronExpression(){
+        return expression;
+    }
+
+    public ZoneId getZone(){
+        return zone;
+    }
+
+    @Override
+    public String toString(){
+        return expression;
+    }
+}
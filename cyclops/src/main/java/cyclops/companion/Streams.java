@@ -7,6 +7,7 @@ import com.oath.cyclops.internal.stream.operators.OnePerOperator;
 import com.oath.cyclops.internal.stream.operators.RecoverOperator;
 import com.oath.cyclops.internal.stream.spliterators.*;
 import com.oath.cyclops.types.persistent.PersistentCollection;
+import com.oath.cyclops.types.reactive.BoundedBufferPolicy;
 import com.oath.cyclops.types.traversable.Traversable;
 import cyclops.data.Seq;
 import cyclops.control.Either;
@@ -2297,11 +2298,12 @@ public class Streams {
                 ()-> toBufferingDuplicator(it.iterator(), Long.MAX_VALUE,bufferFactory)._2());
     }
     public static final <A> Tuple2<Iterable<A>, Iterable<A>> toBufferingDuplicator(final Iterable<A> it) {
-        return Tuple.tuple(()-> toBufferingDuplicator(it.iterator(), Long.MAX_VALUE)._1(),
-                            ()-> toBufferingDuplicator(it.iterator(), Long.MAX_VALUE)._2());
+        Seq<Iterable<A>> copies = MulticastBuffer.iterables(it, 2, Long.MAX_VALUE, BoundedBufferPolicy.BLOCK);
+        return Tuple.tuple(copies.getOrElse(0, null), copies.getOrElse(1, null));
     }
     public static final <A> Tuple2<Iterator<A>, Iterator<A>> toBufferingDuplicator(final Iterator<A> iterator) {
-        return toBufferingDuplicator(iterator, Long.MAX_VALUE);
+        Seq<Iterator<A>> copies = MulticastBuffer.readers(iterator, 2);
+        return Tuple.tuple(copies.getOrElse(0, null), copies.getOrElse(1, null));
     }
 
     public static final <A> Tuple2<Iterator<A>, Iterator<A>> toBufferingDuplicator(final Iterator<A> iterator, final long pos) {
@@ -2328,11 +2330,30 @@ public class Streams {
     }
 
 
+    /**
+     * Share an Iterable between multiple copies, the first traversal of each copy shares a single pass over the source.
+     * Each element is buffered once (rather than once per copy) and released once every copy has read it.
+     *
+     * @param it Iterable to copy
+     * @param copies Number of copies
+     * @return Copies of the Iterable
+     */
     public static final <A> Seq<Iterable<A>> toBufferingCopier(final Iterable<A> it, final int copies) {
+        return MulticastBuffer.iterables(it, copies, Long.MAX_VALUE, BoundedBufferPolicy.BLOCK);
+    }
 
-        return  Seq.range(0,copies)
-                .zipWithIndex()
-                .map(t->()-> toBufferingCopier(it.iterator(),copies).getOrElseGet(t._2().intValue(),()->Arrays.<A>asList().iterator()));
+    /**
+     * Share an Iterable between multiple copies, limiting the number of elements the fastest copy may be ahead of
+     * the slowest.
+     *
+     * @param it Iterable to copy
+     * @param copies Number of copies
+     * @param bound Maximum number of elements buffered between the fastest and slowest copy
+     * @param policy Whether the fastest copy blocks (copies should be consumed on separate threads) or fails fast when the bound is reached
+     * @return Copies of the Iterable
+     */
+    public static final <A> Seq<Iterable<A>> toBufferingCopier(final Iterable<A> it, final int copies, final long bound, final BoundedBufferPolicy policy) {
+        return MulticastBuffer.iterables(it, copies, bound, policy);
     }
     public static final <A> Seq<Iterable<A>> toBufferingCopier(final Iterable<A> it, final int copies,Supplier<Deque<A>> bufferSupplier) {
 
@@ -2343,18 +2364,14 @@ public class Streams {
     }
 
     public static final <A> Seq<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies) {
-        final List<Iterator<A>> result = new ArrayList<>();
-
-        ArrayList<Deque<A>> localBuffers = new ArrayList<>(copies);
-        for(int i=0;i<copies;i++) {
-            final Deque<A> buffer = new LinkedList<A>();
-            localBuffers.add(buffer);
-            result.add(new CopyingIterator(localBuffers,
-                    iterator,  buffer));
-        }
-
+        return MulticastBuffer.readers(iterator, copies);
+    }
 
-        return Seq.fromIterable(result);
+    /**
+     * @see Streams#toBufferingCopier(Iterable, int, long, BoundedBufferPolicy)
+     */
+    public static final <A> Seq<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies, final long bound, final BoundedBufferPolicy policy) {
+        return MulticastBuffer.readers(iterator, copies, bound, policy);
     }
     public static final <A> Seq<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies, Supplier<Deque<A>> bufferSupplier) {
         final List<Iterator<A>> result = new ArrayList<>();
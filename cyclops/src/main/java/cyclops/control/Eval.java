@@ -669,39 +669,123 @@ public interface Eval<T> extends To<Eval<T>>,Function0<T>,
             return Eval.now(value.orElse(null));
         }
 
+        /*
+         * Lazy, memoizing Eval. The result is held in a single volatile cell (UNSET until computed) and each stage is
+         * computed at most once under its own monitor.
+         *
+         * A Later is either a source stage (a Supplier, or a flatMap Rec) or a map stage (parent + mapper). Consecutive
+         * map stages are evaluated together in a single loop, from the nearest computed or source ancestor down.
+         *
+         * A flatMap stage keeps the Trampoline of its Rec, and toTrampoline composes over it (filling the memo cell from
+         * its result) rather than calling get(), so recursive flatMap chains stay stack safe.
+         */
         public static class Later<T> implements Eval<T> {
 
+            private static final Object UNSET = new Object();
 
-            private final Supplier<T> memo;
+            private volatile Object value = UNSET;
+            private final Supplier<? extends T> source;
+            private final Later<Object> parent;
+            private final Function<Object, ? extends T> mapper;
             private final Trampoline<T> evaluate;
+
             Later(Rec<?, T> in) {
-                memo = Memoize.memoizeSupplier(()->in.toTrampoline().get());
-                evaluate = in.toTrampoline();
+                this.source = null;
+                this.parent = null;
+                this.mapper = null;
+                this.evaluate = in.toTrampoline();
+            }
+
+            Later(Supplier<? extends T> s){
+                this.source = s;
+                this.parent = null;
+                this.mapper = null;
+                this.evaluate = null;
             }
 
-            Later(Supplier<T> s){
-                memo = Memoize.memoizeSupplier(s);
-                evaluate = Trampoline.more(()->Trampoline.done(memo.get()));
+            <P> Later(Later<P> parent, Function<? super P, ? extends T> mapper){
+                this.source = null;
+                this.parent = (Later<Object>)parent;
+                this.mapper = (Function<Object, ? extends T>)mapper;
+                this.evaluate = null;
             }
 
             @Override
             public <R> Eval<R> map(Function<? super T, ? extends R> mapper) {
-                return flatMap(i->Eval.later(()-> mapper.apply(i)));
+                return new Later<R>(this, mapper);
             }
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                return new Later<R>( new Rec<T, R>(this, Memoize.memoizeFunction(mapper)));
+                return new Later<R>( new Rec<T, R>(this, mapper));
             }
             @Override
             public Trampoline<T> toTrampoline(){
-                return evaluate;
+                Object v = value;
+                if(v!=UNSET)
+                    return Trampoline.done((T)v);
+                if(evaluate!=null)
+                    return evaluate.map(this::memoize);
+                if(mapper!=null)
+                    return Trampoline.more(()->parent.toTrampoline().map(this::computeFrom));
+                return Trampoline.more(()->Trampoline.done(computeFromSource()));
             }
 
 
             @Override
             public T get() {
-                return memo.get();
+                Object v = value;
+                if(v!=UNSET)
+                    return (T)v;
+                if(mapper==null)
+                    return computeFromSource();
+                int pending = 1;
+                Later<Object> top = parent;
+                while(top.mapper!=null && top.value==UNSET){
+                    pending++;
+                    top = top.parent;
+                }
+                Later<Object>[] stages = new Later[pending];
+                Later<Object> next = (Later<Object>)this;
+                for(int i=pending-1;i>=0;i--){
+                    stages[i] = next;
+                    next = next.parent;
+                }
+                Object input = top.get();
+                for(Later<Object> stage : stages){
+                    input = stage.computeFrom(input);
+                }
+                return (T)input;
+            }
+
+            private T computeFromSource(){
+                synchronized (this){
+                    Object v = value;
+                    if(v==UNSET){
+                        v = source!=null ? source.get() : evaluate.get();
+                        value = v;
+                    }
+                    return (T)v;
+                }
+            }
+
+            private T memoize(T result){
+                synchronized (this){
+                    if(value==UNSET)
+                        value = result;
+                    return (T)value;
+                }
+            }
+
+            private T computeFrom(Object input){
+                synchronized (this){
+                    Object v = value;
+                    if(v==UNSET){
+                        v = mapper.apply(input);
+                        value = v;
+                    }
+                    return (T)v;
+                }
             }
 
 
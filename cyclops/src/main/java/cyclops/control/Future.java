@@ -428,17 +428,13 @@ public class Future<T> implements To<Future<T>>,
         final CompletableFuture<T> future = new CompletableFuture<>();
         final Future<T> wrapped = Future.of(future);
 
-        ReactiveSeq.generate(() -> {
+        ex.schedule(() -> {
             try {
                 future.complete(t.get());
             } catch (final Throwable t1) {
                 future.completeExceptionally(t1);
             }
-            return 1;
-
-        })
-                   .limit(1)
-                   .scheduleFixedDelay(delay, ex);
+        }, delay, TimeUnit.MILLISECONDS);
 
         return wrapped;
     }
@@ -5,7 +5,6 @@ import java.util.Iterator;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import com.oath.cyclops.types.foldable.To;
 import com.oath.cyclops.types.Value;
@@ -103,21 +102,26 @@ public interface Trampoline<T> extends Value<T>, Function0<T>,To<Trampoline<T>>
     default <R>  Trampoline<R> mapFn(Function<? super T, ? extends R> fn){
       return map(fn);
     }
+    /**
+     * Lazily transform the result of this Trampoline, the transformation is applied when the Trampoline is run
+     *
+     * @param fn Transformation function
+     * @return Trampoline that applies the transformation to its result
+     */
     default <R>  Trampoline<R> map(Function<? super T, ? extends R> fn){
-      Either<Trampoline<T>,T> e = resume();
-      return e.visit(left->{
-        return Trampoline.more(()->left.map(fn));
-      },right->{
-        return Trampoline.done(fn.apply(right));
-      });
+      return new Module.FlatMap<T,R>(this, t->Trampoline.done(fn.apply(t)));
     }
+
+    /**
+     * Lazily bind a Trampoline producing function to the result of this Trampoline. Chains of flatMap calls are
+     * reified rather than evaluated, and are run by a loop with an explicit continuation stack, so both left and
+     * right associated chains of any depth execute in linear time and constant call stack depth.
+     *
+     * @param fn Function to apply to the result of this Trampoline
+     * @return Trampoline that continues with the result of the function
+     */
     default <R>  Trampoline<R> flatMap(Function<? super T, ? extends Trampoline<R>> fn){
-      Either<Trampoline<T>,T> e = resume();
-      return e.visit(left->{
-        return Trampoline.more(()->left.flatMap(fn));
-      },right->{
-        return fn.apply(right);
-      });
+      return new Module.FlatMap<T,R>(this, fn);
     }
     default  <B,R> Trampoline<R> zip(Trampoline<B> b,BiFunction<? super T,? super B,? extends R> zipper){
 
@@ -248,8 +252,28 @@ public interface Trampoline<T> extends Value<T>, Function0<T>,To<Trampoline<T>>
      * @return Trampoline with more work
      */
     public static <T> Trampoline<T> more(final Trampoline<Trampoline<T>> trampoline) {
-        return new Trampoline<T>() {
+        return new Module.More<>(trampoline);
+    }
+
+    @Override
+    default <R> R visit(Function<? super T, ? extends R> present, Supplier<? extends R> absent){
+        return present.apply(get());
+    }
+
+    final static class Module {
+
+        private Module(){
+        }
+
+        //continuation used to flatten a Trampoline<Trampoline<T>> that is not yet complete
+        private static final Function<Object,Trampoline<Object>> FLATTEN = t->(Trampoline<Object>)t;
 
+        static final class More<T> implements Trampoline<T> {
+            private final Trampoline<Trampoline<T>> next;
+
+            More(Trampoline<Trampoline<T>> next){
+                this.next = next;
+            }
 
             @Override
             public boolean complete() {
@@ -258,28 +282,82 @@ public interface Trampoline<T> extends Value<T>, Function0<T>,To<Trampoline<T>>
 
             @Override
             public Trampoline<T> bounce() {
-                return trampoline.result();
+                return next.result();
             }
 
             @Override
             public T get() {
-                return trampoline(this);
+                return run(this);
             }
+        }
 
-            T trampoline(final Trampoline<T> trampoline) {
+        static final class FlatMap<S,T> implements Trampoline<T> {
+            private final Trampoline<S> source;
+            private final Function<? super S, ? extends Trampoline<T>> fn;
 
-                return Stream.iterate(trampoline, Trampoline::bounce)
-                             .filter(Trampoline::complete)
-                             .findFirst()
-                             .get()
-                             .result();
+            FlatMap(Trampoline<S> source, Function<? super S, ? extends Trampoline<T>> fn){
+                this.source = source;
+                this.fn = fn;
+            }
 
+            @Override
+            public boolean complete() {
+                return false;
             }
-        };
-    }
 
-    @Override
-    default <R> R visit(Function<? super T, ? extends R> present, Supplier<? extends R> absent){
-        return present.apply(get());
+            @Override
+            public Trampoline<T> bounce() {
+                if(source instanceof FlatMap){
+                    //reassociate to the right so each bounce does a bounded amount of work
+                    FlatMap<Object,S> inner = (FlatMap<Object,S>)source;
+                    return new FlatMap<Object,T>(inner.source, x->new FlatMap<S,T>(inner.fn.apply(x), fn));
+                }
+                if(source.complete())
+                    return fn.apply(source.get());
+                return new FlatMap<>(source.bounce(), fn);
+            }
+
+            @Override
+            public T get() {
+                return run(this);
+            }
+        }
+
+        /**
+         * Run a Trampoline to completion, pending continuations are held on an array backed stack rather than the
+         * call stack
+         */
+        static <T> T run(Trampoline<T> start){
+            Trampoline<Object> current = (Trampoline<Object>)start;
+            Function<Object,? extends Trampoline<Object>>[] stack = null;
+            int size = 0;
+            for(;;){
+                if(current instanceof FlatMap){
+                    FlatMap<Object,Object> bind = (FlatMap<Object,Object>)current;
+                    if(stack==null)
+                        stack = new Function[16];
+                    else if(size==stack.length)
+                        stack = Arrays.copyOf(stack, size * 2);
+                    stack[size++] = (Function<Object,? extends Trampoline<Object>>)bind.fn;
+                    current = bind.source;
+                } else if(current instanceof More){
+                    Trampoline<Trampoline<Object>> next = ((More<Object>)current).next;
+                    if(next.complete()) {
+                        current = next.get();
+                    } else {
+                        current = new FlatMap<>(next, FLATTEN);
+                    }
+                } else if(!current.complete()){
+                    current = current.bounce();
+                } else {
+                    Object value = current.get();
+                    if(size==0)
+                        return (T)value;
+                    Function<Object,? extends Trampoline<Object>> fn = stack[--size];
+                    stack[size] = null;
+                    current = fn.apply(value);
+                }
+            }
+        }
     }
 }
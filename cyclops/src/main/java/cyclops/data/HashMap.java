@@ -7,8 +7,9 @@ import cyclops.control.Trampoline;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
 import com.oath.cyclops.hkt.DataWitness.hashMap;
-import cyclops.data.base.HAMT;
+import cyclops.data.base.CHAMP;
 import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -23,14 +24,14 @@ import java.util.stream.Stream;
 
 
 
-@AllArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,Higher2<hashMap,K,V>, Serializable{
 
-    private final HAMT.Node<K,V> map;
+    private final CHAMP.Node<K,V> map;
     private static final long serialVersionUID = 1L;
 
     public static <K,V> HashMap<K,V> empty(){
-        return new HashMap<>(HAMT.empty());
+        return new HashMap<>(CHAMP.empty());
     }
     public static <K,V> HashMap<K,V> of(K k,V v){
         HashMap<K,V> res = empty();
@@ -136,7 +137,8 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K,V> put(K key, V value){
-        return new HashMap<K,V>(map.plus(0,key.hashCode(),key,value));
+        CHAMP.Node<K,V> updated = map.plus(0,key.hashCode(),key,value);
+        return updated==map ? this : new HashMap<K,V>(updated);
     }
 
     @Override
@@ -148,15 +150,16 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> remove(K key) {
-        return new HashMap<>(map.minus(0,key.hashCode(),key));
+        CHAMP.Node<K,V> updated = map.minus(0,key.hashCode(),key);
+        return updated==map ? this : new HashMap<>(updated);
     }
 
 
     @Override
     public HashMap<K, V> removeAll(K... keys) {
-        HAMT.Node<K,V> cur = map;
+        CHAMP.Node<K,V> cur = map;
         for(K key : keys){
-            cur = map.minus(0,key.hashCode(),key);
+            cur = cur.minus(0,key.hashCode(),key);
         }
         return new HashMap<>(cur);
     }
@@ -169,7 +172,7 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public boolean containsKey(K key) {
-        return map.get(0,key.hashCode(),key).isPresent();
+        return map.containsKey(0,key.hashCode(),key);
     }
 
 
@@ -197,6 +200,8 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
+        if(map instanceof HashMap)
+            return union(narrow((HashMap<? extends K, ? extends V>)map));
         HashMap<K,V> res = this;
         for(Tuple2<? extends K, ? extends V> e : map){
             res = res.put(e._1(),e._2());
@@ -210,14 +215,54 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     public HashMap<K, V> removeAllKeys(Iterable<? extends K> keys) {
         HashMap<K,V> res = this;
         for(K e : keys){
-            res = this.remove(e);
+            res = res.remove(e);
         }
         return res;
     }
 
+    /**
+     * Combine this HashMap with another by walking both tries together, sub-trees that are shared or only present
+     * in one of the maps are reused rather than rebuilt entry by entry.
+     *
+     * @param map HashMap to combine with, its values win where keys are present in both
+     * @return HashMap containing the entries of both maps
+     */
+    public HashMap<K, V> union(HashMap<K, V> map) {
+        return withTrie(this.map.union(map.map));
+    }
+
+    /**
+     * @param map HashMap to combine with
+     * @param fn Combines the value from this map with the value from the supplied map where keys are present in both
+     * @return HashMap containing the entries of both maps
+     */
+    public HashMap<K, V> mergeWith(HashMap<K, V> map, BiFunction<? super V, ? super V, ? extends V> fn) {
+        return withTrie(this.map.mergeWith(map.map,fn));
+    }
+
+    /**
+     * @param map HashMap whose keys should be retained
+     * @return HashMap with the entries of this map whose keys are also present in the supplied map
+     */
+    public HashMap<K, V> intersection(HashMap<K, V> map) {
+        return withTrie(this.map.intersection(map.map));
+    }
+
+    /**
+     * @param map HashMap whose keys should be removed
+     * @return HashMap with the entries of this map whose keys are not present in the supplied map
+     */
+    public HashMap<K, V> difference(HashMap<K, V> map) {
+        return withTrie(this.map.difference(map.map));
+    }
+
+    private HashMap<K, V> withTrie(CHAMP.Node<K,V> updated){
+        return updated==map ? this : new HashMap<>(updated);
+    }
+
     @Override
     public Iterator<Tuple2<K, V>> iterator() {
-        return stream().iterator();
+        return map.iterator();
     }
 
     @Override
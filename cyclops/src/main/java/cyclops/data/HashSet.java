@@ -9,7 +9,7 @@ import com.oath.cyclops.types.traversable.Traversable;
 import cyclops.control.Option;
 import cyclops.control.Trampoline;
 import com.oath.cyclops.hkt.DataWitness.hashSet;
-import cyclops.data.base.HAMT;
+import cyclops.data.base.CHAMP;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
@@ -21,7 +21,6 @@ import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.Getter;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
@@ -35,8 +34,7 @@ import java.util.stream.Stream;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Serializable {
     private static final long serialVersionUID = 1L;
-    @Getter
-    private final HAMT.Node<T,T> map;
+    private final CHAMP.Node<T,T> map;
 
     static <T> Collector<T, Set<T>, HashSet<T>> collector() {
         Collector<T, ?, Set<T>> c  = Collectors.toSet();
@@ -44,15 +42,15 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> empty(){
-        return new HashSet<T>( HAMT.empty());
+        return new HashSet<T>( CHAMP.empty());
     }
     public static <T> HashSet<T> singleton(T value){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        CHAMP.Node<T, T> tree = CHAMP.empty();
         tree = tree.plus(0,value.hashCode(),value,value);
         return new HashSet<>(tree);
     }
     public static <T> HashSet<T> of(T... values){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        CHAMP.Node<T, T> tree = CHAMP.empty();
         for(T value : values){
             tree = tree.plus(0,value.hashCode(),value,value);
         }
@@ -115,7 +113,7 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
 
     public boolean containsValue(T value){
-        return map.get(0,value.hashCode(),value).isPresent();
+        return map.containsKey(0,value.hashCode(),value);
     }
 
     @Override
@@ -236,18 +234,20 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public ReactiveSeq<T> stream() {
-          return map.stream().map(t->t._1());
+          return ReactiveSeq.fromIterator(map.keyIterator());
       }
 
       @Override
       public Iterator<T> iterator() {
-          return stream().iterator();
+          return map.keyIterator();
       }
 
       @Override
       public boolean equals(Object o) {
           if(!(o instanceof PersistentSet) || o==null)
               return false;
+          if(o instanceof HashSet)
+              return map.equals(((HashSet)o).map);
           PersistentSet s = (PersistentSet)o;
          for(T next : this){
              if(!s.containsValue(next))
@@ -20,12 +20,9 @@ import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
-import cyclops.function.Memoize;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
@@ -98,10 +95,10 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         return LazySeq.fromIterator(x.iterator());
     }
     static <T> LazySeq<T> fill(T t){
-        return LazySeq.fromStream(ReactiveSeq.fill(t));
+        return LazySeq.fromIterator(ReactiveSeq.fill(t).iterator(),Module.Chunk.SIZE);
     }
     static <T> LazySeq<T> fill(long limit, T t){
-        return LazySeq.fromStream(ReactiveSeq.fill(t).take(limit));
+        return LazySeq.fromIterator(ReactiveSeq.fill(t).take(limit).iterator(),Module.Chunk.SIZE);
     }
     static <U, T> LazySeq<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
         return fromStream(ReactiveSeq.unfold(seed,unfolder));
@@ -134,20 +131,20 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         return fromStream(ReactiveSeq.generate(s));
     }
      static LazySeq<Integer> range(final int start, final int end) {
-        return LazySeq.fromStream(ReactiveSeq.range(start,end));
+        return LazySeq.fromIterator(ReactiveSeq.range(start,end).iterator(),Module.Chunk.SIZE);
 
     }
     static LazySeq<Integer> range(final int start, final int step, final int end) {
-       return LazySeq.fromStream(ReactiveSeq.range(start,step,end));
+       return LazySeq.fromIterator(ReactiveSeq.range(start,step,end).iterator(),Module.Chunk.SIZE);
 
     }
     static LazySeq<Long> rangeLong(final long start, final long step, final long end) {
-        return LazySeq.fromStream(ReactiveSeq.rangeLong(start,step,end));
+        return LazySeq.fromIterator(ReactiveSeq.rangeLong(start,step,end).iterator(),Module.Chunk.SIZE);
     }
 
 
     static LazySeq<Long> rangeLong(final long start, final long end) {
-        return LazySeq.fromStream(ReactiveSeq.rangeLong(start,end));
+        return LazySeq.fromIterator(ReactiveSeq.rangeLong(start,end).iterator(),Module.Chunk.SIZE);
 
     }
 
@@ -292,11 +289,46 @@ public interface LazySeq<T> extends  ImmutableList<T>,
     static <T> LazySeq<T> fromIterable(Iterable<T> it){
         if(it instanceof LazySeq)
             return (LazySeq<T>)it;
+        //the elements of materialized collections can be forced ahead of use without any observable difference
+        if(it instanceof Collection || it instanceof PersistentCollection)
+            return fromIterator(it.iterator(),Module.Chunk.SIZE);
         return fromIterator(it.iterator());
     }
     static <T> LazySeq<T> fromIterator(Iterator<T> it){
         return it.hasNext() ? cons(it.next(), () -> fromIterator(it)) : empty();
     }
+
+    /**
+     * Construct a LazySeq that forces the supplied Iterator chunkSize elements at a time. Each chunk is stored in a
+     * single array and only the LazySeq following the chunk is memoized, making this considerably more compact than a
+     * LazySeq with a (memoized) Cons cell per element. Suitable for sources where pulling a few elements ahead of use
+     * is acceptable (e.g. pages of results that have already been fetched).
+     *
+     * <pre>
+     * {@code
+     *   LazySeq<Integer> seq = LazySeq.fromIterator(Arrays.asList(1,2,3).iterator(),64);
+     *   //[1,2,3]
+     * }
+     * </pre>
+     *
+     * @param it Iterator to populate the LazySeq from
+     * @param chunkSize Number of elements to force at a time
+     * @return LazySeq of the remaining elements of the Iterator
+     */
+    static <T> LazySeq<T> fromIterator(Iterator<T> it, int chunkSize){
+        if(chunkSize < 1)
+            throw new IllegalArgumentException("Chunk size must be positive");
+        Object[] values = new Object[chunkSize];
+        int count = 0;
+        while(count < chunkSize && it.hasNext()){
+            values[count++] = it.next();
+        }
+        if(count == 0)
+            return empty();
+        if(count < chunkSize)
+            return new Module.Chunk<>(Arrays.copyOf(values, count), new Module.Tail<T>(empty()));
+        return new Module.Chunk<>(values, new Module.Tail<T>(() -> fromIterator(it, chunkSize)));
+    }
     static <T> LazySeq<T> fromStream(Stream<T> stream){
         Iterator<T> t = stream.iterator();
         return t.hasNext() ? cons(t.next(),()->fromIterator(t)) : empty();
@@ -304,8 +336,11 @@ public interface LazySeq<T> extends  ImmutableList<T>,
     @SafeVarargs
     static <T> LazySeq<T> of(T... value){
         LazySeq<T> result = empty();
-        for(int i=value.length;i>0;i--){
-            result = result.prepend(value[i-1]);
+        if(value.length == 0)
+            return result;
+        for(int start = ((value.length - 1) / Module.Chunk.SIZE) * Module.Chunk.SIZE; start >= 0; start -= Module.Chunk.SIZE){
+            Object[] chunk = Arrays.copyOfRange(value, start, Math.min(start + Module.Chunk.SIZE, value.length), Object[].class);
+            result = new Module.Chunk<>(chunk, new Module.Tail<>(result));
         }
         return result;
     }
@@ -974,14 +1009,20 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
 
 
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Cons<T>  implements LazySeq<T>, ImmutableList.Some<T> {
         private static final long serialVersionUID = 1L;
         public final T head;
         public final Supplier<LazySeq<T>> tail;
+        //cached once size() has forced the whole list, 0 until then
+        private int size;
+
+        private Cons(T head, Supplier<LazySeq<T>> tail){
+            this.head = head;
+            this.tail = tail;
+        }
 
         public static <T> Cons<T> cons(T value, Supplier<LazySeq<T>> tail){
-            return new Cons<>(value,Memoize.memoizeSupplier(tail));
+            return new Cons<>(value,tail instanceof Module.Tail ? tail : new Module.Tail<>(tail));
         }
 
 
@@ -1086,20 +1127,30 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
 
         public int size(){
-            int result =1;
-            ImmutableList<T> current[] = new LazySeq[1];
-            current[0]=tail.get();
-            while(true){
-               int toAdd =current[0].fold(c->{
-                    current[0]=c.tail();
-                    return 1;
-                },n->0);
-                result+=toAdd;
-                if(toAdd==0)
+            if(size!=0)
+                return size;
+            int result = 0;
+            LazySeq<T> current = this;
+            while(current instanceof Cons){
+                Cons<T> cons = (Cons<T>)current;
+                if(cons.size!=0){
+                    result += cons.size;
                     break;
+                }
+                result += cons.span();
+                current = cons.afterSpan();
             }
+            size = result;
             return result;
         }
+
+        //the number of cells that can be counted without forcing anything, and the LazySeq that follows them
+        int span(){
+            return 1;
+        }
+        LazySeq<T> afterSpan(){
+            return tail.get();
+        }
         @Override
         public Cons<T> append(Supplier<LazySeq<T>> list) {
             return cons(head,()->tail.get().append(list));
@@ -1353,4 +1404,137 @@ public interface LazySeq<T> extends  ImmutableList<T>,
       return narrow;
     }
 
+    static class Module {
+
+        /*
+         * Memoizing tail of a Cons cell. The LazySeq is held in a single volatile field (null until computed) and the
+         * Supplier is released once it has been computed at most once under the cell's own monitor.
+         */
+        static final class Tail<T> implements Supplier<LazySeq<T>>, Serializable {
+            private static final long serialVersionUID = 1L;
+            private volatile LazySeq<T> value;
+            private Supplier<? extends LazySeq<T>> fn;
+
+            Tail(Supplier<? extends LazySeq<T>> fn){
+                this.fn = fn;
+            }
+
+            Tail(LazySeq<T> value){
+                this.value = value;
+            }
+
+            @Override
+            public LazySeq<T> get() {
+                LazySeq<T> result = value;
+                if(result == null) {
+                    synchronized (this) {
+                        result = value;
+                        if (result == null) {
+                            result = fn.get();
+                            value = result;
+                            fn = null;
+                        }
+                    }
+                }
+                return result;
+            }
+        }
+
+        /*
+         * A run of elements that were forced together, followed by a single memoized tail.
+         */
+        static final class Block<T> implements Serializable {
+            private static final long serialVersionUID = 1L;
+            final Object[] values;
+            final Tail<T> next;
+
+            Block(Object[] values, Tail<T> next){
+                this.values = values;
+                this.next = next;
+            }
+        }
+
+        static final class View<T> implements Supplier<LazySeq<T>>, Serializable {
+            private static final long serialVersionUID = 1L;
+            private final Block<T> block;
+            private final int offset;
+
+            View(Block<T> block, int offset){
+                this.block = block;
+                this.offset = offset;
+            }
+
+            @Override
+            public LazySeq<T> get() {
+                return new Chunk<>(block, offset);
+            }
+        }
+
+        /*
+         * A Cons cell viewing one position of a Block. Cells for the remaining positions of the Block are created on
+         * demand, so a fully forced chunked LazySeq costs one array slot per element plus a few objects per Block.
+         */
+        static final class Chunk<T> extends Cons<T> {
+            static final int SIZE = 32;
+            private static final long serialVersionUID = 1L;
+            private final Block<T> block;
+            private final int offset;
+
+            Chunk(Object[] values, Tail<T> next){
+                this(new Block<>(values, next), 0);
+            }
+
+            Chunk(Block<T> block, int offset){
+                super((T) block.values[offset], offset + 1 < block.values.length ? new View<>(block, offset + 1) : block.next);
+                this.block = block;
+                this.offset = offset;
+            }
+
+            @Override
+            int span() {
+                return block.values.length - offset;
+            }
+
+            @Override
+            LazySeq<T> afterSpan() {
+                return block.next.get();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return new Iterator<T>() {
+                    Object[] values = block.values;
+                    int index = offset;
+                    Tail<T> next = block.next;
+                    Iterator<T> rest = null;
+
+                    @Override
+                    public boolean hasNext() {
+                        if(rest != null)
+                            return rest.hasNext();
+                        if(index < values.length)
+                            return true;
+                        LazySeq<T> after = next.get();
+                        if(after instanceof Chunk){
+                            Chunk<T> chunk = (Chunk<T>) after;
+                            values = chunk.block.values;
+                            index = chunk.offset;
+                            next = chunk.block.next;
+                            return true;
+                        }
+                        rest = after.iterator();
+                        return rest.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        if(hasNext() && rest == null)
+                            return (T) values[index++];
+                        return rest.next();
+                    }
+                };
+            }
+        }
+    }
+
 }
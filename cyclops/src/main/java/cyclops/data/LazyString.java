@@ -2,14 +2,18 @@ package cyclops.data;
 
 
 import com.oath.cyclops.hkt.Higher;
+import com.oath.cyclops.types.persistent.PersistentCollection;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.lazyString;
+import cyclops.data.base.Rope;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 
+import java.io.Reader;
 import java.io.Serializable;
+import java.nio.CharBuffer;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -19,20 +23,71 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/*
+ * Backed by a Rope, so take, drop, append, substring and charAt are O(log n) and each char costs a single
+ * (unboxed) char. Per char transformations (mapChar, filter etc) are applied lazily over a LazySeq view of the chars.
+ */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class LazyString implements ImmutableList<Character>,Higher<lazyString,Character>, Serializable {
     private static final long serialVersionUID = 1L;
-    private final LazySeq<Character> string;
+    private final Rope rope;
 
-    private static final LazyString Nil = fromLazySeq(LazySeq.empty());
+    private static final LazyString Nil = new LazyString(Rope.empty());
     public static LazyString fromLazySeq(LazySeq<Character> string){
-        return new LazyString(string);
+        return new LazyString(Rope.fromIterator(string.iterator()));
     }
     public static LazyString fromIterable(Iterable<Character> string){
-        return new LazyString(LazySeq.fromIterable(string));
+        if(string instanceof LazyString)
+            return (LazyString)string;
+        return new LazyString(rope(string));
     }
     public static LazyString of(CharSequence seq){
-        return fromLazySeq(LazySeq.fromStream( seq.chars().mapToObj(i -> (char) i)));
+        return new LazyString(Rope.of(seq));
+    }
+
+    /**
+     * Lazily read a LazyString from a Reader, chars are read a chunk at a time as they are needed (the Reader is not closed)
+     *
+     * @param reader Reader to read from
+     * @return LazyString of the remaining chars of the Reader
+     */
+    public static LazyString fromReader(Reader reader){
+        return new LazyString(Rope.fromReader(reader));
+    }
+
+    /**
+     * Lazily read a LazyString from the remaining chars of a CharBuffer (the position of the buffer is not changed)
+     *
+     * @param buffer CharBuffer to read from
+     * @return LazyString of the remaining chars of the CharBuffer
+     */
+    public static LazyString fromCharBuffer(CharBuffer buffer){
+        return new LazyString(Rope.fromCharBuffer(buffer));
+    }
+
+    //materialized sources are copied eagerly, anything else is read lazily
+    private static Rope rope(Iterable<? extends Character> chars){
+        if(chars instanceof LazyString)
+            return ((LazyString)chars).rope;
+        Iterator<Character> it = (Iterator<Character>)chars.iterator();
+        if(chars instanceof Collection || (chars instanceof PersistentCollection && !(chars instanceof LazySeq))){
+            StringBuilder builder = new StringBuilder();
+            it.forEachRemaining(c -> builder.append(c.charValue()));
+            return Rope.of(builder);
+        }
+        return Rope.fromIterator(it);
+    }
+    private static Rope rope(Character... values){
+        StringBuilder builder = new StringBuilder(values.length);
+        for(Character next : values)
+            builder.append(next.charValue());
+        return Rope.of(builder);
+    }
+    private static int clamp(long n){
+        return (int)Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, n));
+    }
+    private LazySeq<Character> string(){
+        return LazySeq.fromIterator(rope.iterator());
     }
 
     static Collector<Character, List<Character>, LazyString> collector() {
@@ -52,90 +107,98 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
     }
 
     public LazyString op(Function<? super LazySeq<Character>, ? extends LazySeq<Character>> custom){
-        return fromLazySeq(custom.apply(string));
+        return fromLazySeq(custom.apply(string()));
     }
 
     public LazyString substring(int start){
         return drop(start);
     }
     public LazyString substring(int start, int end){
-        return drop(start).take(end-start);
+        return new LazyString(rope.substring(start,end));
+    }
+    public char charAt(int index){
+        return rope.charAt(index);
     }
     public LazyString toUpperCase(){
-        return fromLazySeq(string.map(c->c.toString().toUpperCase().charAt(0)));
+        return fromLazySeq(string().map(c->c.toString().toUpperCase().charAt(0)));
     }
     public LazyString toLowerCase(){
-        return fromLazySeq(string.map(c->c.toString().toLowerCase().charAt(0)));
+        return fromLazySeq(string().map(c->c.toString().toLowerCase().charAt(0)));
     }
     public LazySeq<LazyString> words() {
-        return string.split(t -> t.equals(' ')).map(l-> fromLazySeq(l));
+        return string().split(t -> t.equals(' ')).map(l-> fromLazySeq(l));
     }
     public LazySeq<LazyString> lines() {
-        return string.split(t -> t.equals('\n')).map(l-> fromLazySeq(l));
+        return string().split(t -> t.equals('\n')).map(l-> fromLazySeq(l));
     }
     public LazyString mapChar(Function<Character,Character> fn){
-        return fromLazySeq(string.map(fn));
+        return fromLazySeq(string().map(fn));
     }
     public LazyString flatMapChar(Function<Character,LazyString> fn){
-        return fromLazySeq(string.flatMap(fn.andThen(s->s.string)));
+        return fromLazySeq(string().flatMap(fn.andThen(s->s.string())));
     }
 
     @Override
     public LazyString filter(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filter(predicate));
+        return fromLazySeq(string().filter(predicate));
     }
 
     @Override
     public <R> ImmutableList<R> map(Function<? super Character, ? extends R> fn) {
-        return string.map(fn);
+        return string().map(fn);
     }
 
     @Override
     public <R> ImmutableList<R> flatMap(Function<? super Character, ? extends ImmutableList<? extends R>> fn) {
-        return  string.flatMap(fn);
+        return  string().flatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> concatMap(Function<? super Character, ? extends Iterable<? extends R>> fn) {
-        return  string.concatMap(fn);
+        return  string().concatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(fn);
+      return string().mergeMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(int maxConcurecy, Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(maxConcurecy,fn);
+      return string().mergeMap(maxConcurecy,fn);
     }
 
   @Override
     public <R> R fold(Function<? super Some<Character>, ? extends R> fn1, Function<? super None<Character>, ? extends R> fn2) {
-        return string.fold(fn1,fn2);
+        return string().fold(fn1,fn2);
     }
 
     @Override
     public LazyString onEmpty(Character value) {
-        return fromLazySeq(string.onEmpty(value));
+        return isEmpty() ? new LazyString(rope(value)) : this;
     }
 
     @Override
     public LazyString onEmptyGet(Supplier<? extends Character> supplier) {
-        return fromLazySeq(string.onEmptyGet(supplier));
+        return isEmpty() ? new LazyString(rope(supplier.get())) : this;
     }
 
 
     @Override
     public ImmutableList<Character> onEmptySwitch(Supplier<? extends ImmutableList<Character>> supplier) {
-        return string.onEmptySwitch(supplier);
+        return isEmpty() ? supplier.get() : this;
+    }
+
+    @Override
+    public Iterator<Character> iterator() {
+        return rope.iterator();
     }
 
     public ReactiveSeq<Character> stream(){
-        return string.stream();
+        return ReactiveSeq.fromIterator(rope.iterator());
     }
     public LazyString take(final long n) {
-        return fromLazySeq(string.take(n));
+        return new LazyString(rope.take(clamp(n)));
 
     }
 
@@ -151,300 +214,319 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public LazyString replaceFirst(Character currentElement, Character newElement) {
-        return fromLazySeq(string.replaceFirst(currentElement,newElement));
+        return fromLazySeq(string().replaceFirst(currentElement,newElement));
     }
 
     @Override
     public LazyString removeFirst(Predicate<? super Character> pred) {
-        return fromLazySeq(string.removeFirst(pred));
+        return fromLazySeq(string().removeFirst(pred));
     }
 
     @Override
     public LazyString subList(int start, int end) {
-        return fromLazySeq(string.subList(start,end));
+        return drop(start).take(end-start);
     }
 
 
     @Override
     public LazyString filterNot(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filterNot(predicate));
+        return fromLazySeq(string().filterNot(predicate));
     }
 
     @Override
     public LazyString notNull() {
-        return fromLazySeq(string.notNull());
+        return fromLazySeq(string().notNull());
     }
 
     @Override
     public LazyString peek(Consumer<? super Character> c) {
-        return fromLazySeq(string.peek(c));
+        return fromLazySeq(string().peek(c));
     }
 
     @Override
     public LazyString tailOrElse(ImmutableList<Character> tail) {
-        return fromLazySeq(string.tailOrElse(LazySeq.fromIterable(tail)));
+        return isEmpty() ? fromIterable(tail) : drop(1);
     }
 
     @Override
     public LazyString removeStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.removeStream(stream));
+        return fromLazySeq(string().removeStream(stream));
     }
 
     @Override
     public LazyString removeAt(long pos) {
-        return fromLazySeq(string.removeAt(pos));
+        return removeAt(clamp(pos));
     }
 
     @Override
     public LazyString removeAll(Character... values) {
-        return fromLazySeq(string.removeAll(values));
+        return fromLazySeq(string().removeAll(values));
     }
 
     @Override
     public LazyString retainAll(Iterable<? extends Character> it) {
-        return fromLazySeq(string.retainAll(it));
+        return fromLazySeq(string().retainAll(it));
     }
 
     @Override
     public LazyString retainStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.retainStream(stream));
+        return fromLazySeq(string().retainStream(stream));
     }
 
     @Override
     public LazyString retainAll(Character... values) {
-        return fromLazySeq(string.retainAll(values));
+        return fromLazySeq(string().retainAll(values));
     }
 
     @Override
     public LazyString distinct() {
-        return fromLazySeq(string.distinct());
+        return fromLazySeq(string().distinct());
     }
 
     @Override
     public LazyString sorted() {
-        return fromLazySeq(string.sorted());
+        return fromLazySeq(string().sorted());
     }
 
     @Override
     public LazyString sorted(Comparator<? super Character> c) {
-        return fromLazySeq(string.sorted(c));
+        return fromLazySeq(string().sorted(c));
     }
 
     @Override
     public LazyString takeWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeWhile(p));
+        return fromLazySeq(string().takeWhile(p));
     }
 
     @Override
     public LazyString dropWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropWhile(p));
+        return fromLazySeq(string().dropWhile(p));
     }
 
     @Override
     public LazyString takeUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeUntil(p));
+        return fromLazySeq(string().takeUntil(p));
     }
 
     @Override
     public LazyString dropUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropUntil(p));
+        return fromLazySeq(string().dropUntil(p));
     }
 
     @Override
     public LazyString dropRight(int num) {
-        return fromLazySeq(string.dropRight(num));
+        if(num <= 0)
+            return this;
+        return take(Math.max(0, length() - num));
     }
 
     @Override
     public LazyString takeRight(int num) {
-        return fromLazySeq(string.takeRight(num));
+        if(num <= 0)
+            return empty();
+        return drop(Math.max(0, length() - num));
     }
 
     @Override
     public LazyString skip(long num) {
-        return fromLazySeq(string.skip(num));
+        return drop(num);
     }
 
     @Override
     public LazyString skipWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.skipWhile(p));
+        return fromLazySeq(string().skipWhile(p));
     }
 
     @Override
     public LazyString skipUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.skipUntil(p));
+        return fromLazySeq(string().skipUntil(p));
     }
 
     @Override
     public LazyString limit(long num) {
-        return fromLazySeq(string.limit(num));
+        return take(num);
     }
 
     @Override
     public LazyString limitWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.limitWhile(p));
+        return fromLazySeq(string().limitWhile(p));
     }
 
     @Override
     public LazyString limitUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.limitUntil(p));
+        return fromLazySeq(string().limitUntil(p));
     }
 
     @Override
     public LazyString shuffle() {
-        return fromLazySeq(string.shuffle());
+        return fromLazySeq(string().shuffle());
     }
 
     @Override
     public LazyString skipLast(int num) {
-        return fromLazySeq(string.skipLast(num));
+        return dropRight(num);
     }
 
     @Override
     public LazyString limitLast(int num) {
-        return fromLazySeq(string.limitLast(num));
+        return takeRight(num);
     }
 
     @Override
     public LazyString shuffle(Random random) {
-        return fromLazySeq(string.shuffle(random));
+        return fromLazySeq(string().shuffle(random));
     }
 
     @Override
     public LazyString slice(long from, long to) {
-        return fromLazySeq(string.slice(from,to));
+        long start = Math.max(from, 0);
+        return drop(start).take(Math.max(to - start, 0));
     }
 
     @Override
     public <U extends Comparable<? super U>> LazyString sorted(Function<? super Character, ? extends U> function) {
-        return fromLazySeq(string.sorted(function));
+        return fromLazySeq(string().sorted(function));
     }
 
     @Override
     public LazyString prependStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.prependStream(stream));
+        return fromLazySeq(string().prependStream(stream));
     }
 
     @Override
     public LazyString appendAll(Character... values) {
-        return fromLazySeq(string.appendAll(values));
+        return new LazyString(rope.append(rope(values)));
     }
 
     @Override
     public LazyString prependAll(Character... values) {
-        return fromLazySeq(string.prependAll(values));
+        return new LazyString(rope.prepend(rope(values)));
     }
 
     @Override
     public LazyString insertAt(int pos, Character... values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        return insert(pos, rope(values));
     }
 
     @Override
     public LazyString deleteBetween(int start, int end) {
-        return fromLazySeq(string.deleteBetween(start,end));
+        if(start < 0 || end <= start)
+            return this;
+        return new LazyString(rope.take(start).append(rope.drop(end)));
+    }
+
+    private LazyString insert(int pos, Rope values){
+        return new LazyString(rope.take(pos).append(values).append(rope.drop(pos)));
     }
 
     @Override
     public LazyString insertStreamAt(int pos, Stream<Character> stream) {
-        return fromLazySeq(string.insertStreamAt(pos,stream));
+        return fromLazySeq(string().insertStreamAt(pos,stream));
     }
 
     @Override
     public LazyString recover(Function<? super Throwable, ? extends Character> fn) {
-        return fromLazySeq(string.recover(fn));
+        return fromLazySeq(string().recover(fn));
     }
 
     @Override
     public <EX extends Throwable> LazyString recover(Class<EX> exceptionClass, Function<? super EX, ? extends Character> fn) {
-        return fromLazySeq(string.recover(exceptionClass,fn));
+        return fromLazySeq(string().recover(exceptionClass,fn));
     }
 
     @Override
     public LazyString plusAll(Iterable<? extends Character> list) {
-        return fromLazySeq(string.plusAll(list));
+        return prependAll(list);
     }
 
     @Override
     public LazyString plus(Character value) {
-        return fromLazySeq(string.plus(value));
+        return prepend(value);
     }
 
     @Override
     public LazyString removeValue(Character value) {
-        return fromLazySeq(string.removeValue(value));
+        return fromLazySeq(string().removeValue(value));
     }
 
     @Override
     public LazyString removeAt(int pos) {
-        return fromLazySeq(string.removeAt(pos));
+        if(pos < 0)
+            return this;
+        return new LazyString(rope.take(pos).append(rope.drop(pos+1)));
     }
 
     @Override
     public LazyString removeAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.removeAll(value));
+        return fromLazySeq(string().removeAll(value));
     }
 
     @Override
     public LazyString updateAt(int pos, Character value) {
-        return fromLazySeq(string.updateAt(pos,value));
+        if(!inRange(pos))
+            return this;
+        return new LazyString(rope.take(pos).append(rope(value)).append(rope.drop(pos+1)));
     }
 
     @Override
     public LazyString insertAt(int pos, Iterable<? extends Character> values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        return insert(pos, rope(values));
     }
 
     @Override
     public LazyString insertAt(int i, Character value) {
-        return fromLazySeq(string.insertAt(i,value));
+        return insert(i, rope(value));
     }
 
     public LazyString  drop(final long num) {
-        return fromLazySeq(string.drop(num));
+        return new LazyString(rope.drop(clamp(num)));
     }
     public LazyString  reverse() {
-        return fromLazySeq(string.reverse());
+        return new LazyString(rope.reverse());
+    }
+    //forces no more than pos+1 chars of a lazily read string
+    private boolean inRange(int pos){
+        return pos >= 0 && !rope.drop(pos).isEmpty();
     }
     public Option<Character> get(int pos){
-        return string.get(pos);
+        return inRange(pos) ? Option.some(rope.charAt(pos)) : Option.none();
     }
 
     @Override
     public Character getOrElse(int pos, Character alt) {
-        return string.getOrElse(pos,alt);
+        return inRange(pos) ? rope.charAt(pos) : alt;
     }
 
     @Override
     public Character getOrElseGet(int pos, Supplier<? extends Character> alt) {
-        return string.getOrElseGet(pos,alt);
+        return inRange(pos) ? rope.charAt(pos) : alt.get();
     }
 
     public LazyString prepend(Character value){
-        return fromLazySeq(string.prepend(value));
+        return new LazyString(rope.prepend(rope(value)));
     }
 
     @Override
     public LazyString append(Character value) {
-        return fromLazySeq(string.append(value));
+        return new LazyString(rope.append(rope(value)));
     }
 
     @Override
     public LazyString prependAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.prependAll(value)) ;
+        return new LazyString(rope.prepend(rope(value)));
     }
 
 
     @Override
     public LazyString appendAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.appendAll(value)) ;
+        return new LazyString(rope.append(rope(value)));
     }
 
     public LazyString prependAll(LazyString value){
-        return fromLazySeq(string.prependAll(value.string));
+        return new LazyString(rope.prepend(value.rope));
     }
     public LazyString append(String s){
-        return fromLazySeq(string.appendAll(LazySeq.fromStream( s.chars().mapToObj(i -> (char) i))));
+        return new LazyString(rope.append(Rope.of(s)));
     }
     public int size(){
         return length();
@@ -452,14 +534,14 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public boolean isEmpty() {
-        return false;
+        return rope.isEmpty();
     }
 
     public int length(){
-        return string.size();
+        return rope.length();
     }
     public String toString(){
-        return string.stream().join("");
+        return rope.toString();
     }
 
 }
@@ -3,6 +3,8 @@ package cyclops.data;
 
 import com.oath.cyclops.hkt.DataWitness.vector;
 import com.oath.cyclops.hkt.Higher;
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SplittableSourceSpliterator;
 import com.oath.cyclops.types.persistent.PersistentCollection;
 import com.oath.cyclops.types.persistent.PersistentIndexed;
 import cyclops.control.Either;
@@ -19,6 +21,7 @@ import cyclops.function.Memoize;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 
@@ -27,7 +30,6 @@ import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @AllArgsConstructor
@@ -45,9 +47,8 @@ public class Vector<T> implements ImmutableList<T>,
         return ( Vector<T>)appendAll((Iterable<T>)list);
     }
 
-    static <T> Collector<T, List<T>, Vector<T>> collector() {
-        Collector<T, ?, List<T>> c  = Collectors.toList();
-        return Collectors.<T, List<T>, Iterable<T>,Vector<T>>collectingAndThen((Collector)c,Vector::fromIterable);
+    static <T> Collector<T, Builder<T>, Vector<T>> collector() {
+        return Collector.of(Vector::builder, Builder::append, (a, b) -> a.appendAll(b.build()), Builder::build);
     }
     @Override
     public boolean containsValue(T value) {
@@ -123,28 +124,37 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> removeAt(int i) {
-        return (Vector<T>)ImmutableList.super.removeAt(i);
+        return removeAt((long)i);
     }
     @Override
     public Vector<T> removeAt(long pos) {
-        return unitStream(stream().removeAt(pos));
+        if(pos<0 || pos>=size)
+            return this;
+        BAMT.Relaxed<T> tree = relaxed();
+        return fromRelaxed(tree.take((int)pos).concat(tree.drop((int)pos+1)));
     }
     @Override
     public Vector<T> insertAt(int pos, T... values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,Vector.of(values));
     }
     @Override
     public Vector<T> insertAt(int i, T e){
-        return (Vector<T>)ImmutableList.super.insertAt(i,e);
+        return insertAt(i,Vector.of(e));
     }
 
     @Override
     public Vector<T> insertAt(int pos, Iterable<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        Vector<T> insert = fromIterable((Iterable<T>)values);
+        if(pos<=0)
+            return insert.appendAll(this);
+        if(pos>=size)
+            return appendAll(insert);
+        BAMT.Relaxed<T> tree = relaxed();
+        return fromRelaxed(tree.take(pos).concat(insert.relaxed()).concat(tree.drop(pos)));
     }
     @Override
     public Vector<T> insertAt(int pos, ReactiveSeq<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,(Iterable<? extends T>)values);
     }
     public Vector<T> plusAll(int i, Iterable<? extends T> values){
         return insertAt(i,values);
@@ -206,18 +216,76 @@ public class Vector<T> implements ImmutableList<T>,
         if(it instanceof Vector){
             return (Vector<T>)it;
         }
-        Vector<T> res = empty();
-        for(T next : it){
-            res = res.plus(next);
-        }
-        return res;
+        return Vector.<T>builder().appendAll(it).build();
     }
     public static <T> Vector<T> of(T... value){
-        Vector<T> res = empty();
+        Builder<T> res = builder();
         for(T next : value){
-            res = res.plus(next);
+            res.append(next);
+        }
+        return res.build();
+    }
+
+    /**
+     * Create a mutable Builder for bulk construction of a Vector. Elements are written in place into 32 wide
+     * leaf arrays (rather than copying the tail and path on each append, as plus does) and the Builder is
+     * frozen into a persistent Vector via {@link Builder#build()}
+     *
+     * <pre>
+     * {@code
+     *  Vector<Integer> vec = Vector.<Integer>builder()
+     *                              .append(1)
+     *                              .appendAll(Arrays.asList(2,3))
+     *                              .build();
+     *
+     *  //[1,2,3]
+     * }
+     * </pre>
+     *
+     * @param <T> Data type of the elements in the Vector
+     * @return Empty Builder
+     */
+    public static <T> Builder<T> builder(){
+        return new Builder<>(BAMT.Transient.empty());
+    }
+
+    /**
+     * @return A Builder populated with the contents of this Vector, structure is shared with this Vector
+     */
+    public Builder<T> toBuilder(){
+        return new Builder<>(BAMT.Transient.thaw(root,tail,size));
+    }
+
+    /**
+     * Mutable (transient) construction mode for Vector. A Builder is not thread safe, calling build freezes the
+     * current contents into a persistent Vector in constant time (only the partially filled nodes on the right-most
+     * path are copied) and the Builder may continue to be used afterwards without affecting previously built Vectors.
+     *
+     * @param <T> Data type of the elements in the Vector
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Builder<T>{
+        private final BAMT.Transient<T> tree;
+
+        public Builder<T> append(T value){
+            tree.append(value);
+            return this;
+        }
+
+        public Builder<T> appendAll(Iterable<? extends T> values){
+            for(T next : values){
+                tree.append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return tree.size();
+        }
+
+        public Vector<T> build(){
+            return new Vector<>(tree.freezeRoot(),tree.freezeTail(),tree.size());
         }
-        return res;
     }
 
 
@@ -226,15 +294,26 @@ public class Vector<T> implements ImmutableList<T>,
     }
 
     public ReactiveSeq<T> stream(){
-        return ReactiveSeq.concat(root.stream(),tail.stream());
+        return ReactiveSeq.fromSpliterator(new SplittableSourceSpliterator<T>(
+                    ()->ReactiveSeq.concat(root.stream(),tail.stream()).spliterator(),
+                    ()->new IndexedSpliterator<T>(i->getOrElse((int)i,null),0,size)));
     }
 
     public Vector<T> filter(Predicate<? super T> pred){
-        return fromIterable(stream().filter(pred));
+        Builder<T> res = builder();
+        for(T next : this){
+            if(pred.test(next))
+                res.append(next);
+        }
+        return res.build();
     }
 
     public <R> Vector<R> map(Function<? super T, ? extends R> fn){
-        return fromIterable(stream().map(fn));
+        Builder<R> res = builder();
+        for(T next : this){
+            res.append(fn.apply(next));
+        }
+        return res.build();
     }
 
     private Object writeReplace() {
@@ -584,12 +663,12 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> appendAll(T... values) {
-        return (Vector<T>) ImmutableList.super.appendAll(values);
+        return appendAll(Vector.of(values));
     }
 
     @Override
     public Vector<T> prependAll(T... values) {
-        return (Vector<T>) ImmutableList.super.prependAll(values);
+        return Vector.of(values).appendAll(this);
     }
 
     @Override
@@ -620,7 +699,7 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> updateAt(int pos, T value) {
-        return (Vector<T>)ImmutableList.super.updateAt(pos,value);
+        return set(pos,value);
     }
 
     @Override
@@ -699,12 +778,12 @@ public class Vector<T> implements ImmutableList<T>,
         private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
             s.defaultReadObject();
             final int size = s.readInt();
-            Vector<T> res = empty();
+            Builder<T> res = builder();
             for (int i = 0; i < size; i++) {
                 T n = (T) s.readObject();
-                res = res.append(n);
+                res.append(n);
             }
-            v=res;
+            v=res.build();
         }
     }
 
@@ -729,7 +808,7 @@ public class Vector<T> implements ImmutableList<T>,
             BAMT.ActiveTail<T> newTail = tail.takeRight(num);
             return new Vector<>(new BAMT.Zero<>(),newTail,newTail.size());
         }
-        return (Vector<T>)ImmutableList.super.dropRight(num);
+        return drop(size()-num);
     }
 
     public Vector<T> dropRight(int num){
@@ -737,13 +816,7 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(tail.size()==1){
-            return new Vector<>(this.root,BAMT.ActiveTail.emptyTail(),size()-1).drop(num-1);
-        }
-        if(tail.size()>0){
-            return new Vector<>(this.root,tail.dropRight(num),size()-(Math.max(tail.size(),num))).dropRight(num-tail.size());
-        }
-        return unitStream(stream().dropRight(num));
+        return take(size()-num);
     }
     @Override
     public Vector<T> drop(long num) {
@@ -751,10 +824,7 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(size()<32){
-            return new Vector<>(this.root,tail.drop((int)num),size()-1);
-        }
-        return unitStream(stream().drop(num));
+        return fromRelaxed(relaxed().drop((int)num));
     }
 
     @Override
@@ -763,21 +833,21 @@ public class Vector<T> implements ImmutableList<T>,
             return empty();
         if(num>=size())
             return this;
-        if(size()<32){
-            return new Vector<T>(this.root,tail.dropRight(Math.max(tail.size()-(int)num,0)),(int)num);
+        if(num>=size()-tail.size() && !(root instanceof BAMT.Relaxed)){
+            return new Vector<T>(root,tail.dropRight(size()-(int)num),(int)num);
         }
-        return unitStream(stream().take(num));
+        return fromRelaxed(relaxed().take((int)num));
     }
 
     @Override
     public Vector<T> prepend(T value) {
-        return unitStream(stream().prepend(value));
+        return Vector.of(value).appendAll(this);
     }
 
 
     @Override
     public Vector<T> prependAll(Iterable<? extends T> value) {
-        return unitStream(stream().prependAll(value));
+        return fromIterable((Iterable<T>)value).appendAll(this);
     }
 
     public Vector<T> append(T value) {
@@ -786,12 +856,33 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> appendAll(Iterable<? extends T> value) {
-        Vector<T> vec = this;
-
-        for(T next : value){
-            vec = vec.plus(next);
+        if(value instanceof Vector){
+            Vector<T> other = (Vector<T>)value;
+            if(other.size()==0)
+                return this;
+            if(size==0)
+                return other;
+            if(other.size()>BAMT.NestedArray.SIZE || root instanceof BAMT.Relaxed)
+                return fromRelaxed(relaxed().concat(other.relaxed()));
+        }else if(root instanceof BAMT.Relaxed){
+            return appendAll(fromIterable((Iterable<T>)value));
         }
-        return vec;
+        return toBuilder().appendAll(value).build();
+    }
+
+    /*
+     * This Vector (root and tail) as a single RRB tree, sharing all of the existing arrays
+     */
+    private BAMT.Relaxed<T> relaxed(){
+        return BAMT.Relaxed.fromBAMT(root,size-tail.size()).append(tail);
+    }
+
+    private static <T> Vector<T> fromRelaxed(BAMT.Relaxed<T> tree){
+        if(tree.size()==0)
+            return empty();
+        if(tree.size()<=BAMT.NestedArray.SIZE)
+            return new Vector<>(new BAMT.Zero<>(),new BAMT.ActiveTail<>((T[])tree.toArray()),tree.size());
+        return new Vector<>(tree,BAMT.ActiveTail.emptyTail(),tree.size());
     }
     public Vector<T> subList(int start, int end){
         return drop(start).take(end-start);
@@ -68,6 +68,629 @@ public class BAMT<T> {
         public static <T> T last(T[] array){
             return array[array.length-1];
         }
+
+        /*
+         * Path copying update of a balanced (fixed depth) BAMT node, the runtime array types are preserved
+         */
+        static <A> A[] set(A[] node, int bitShiftDepth, int pos, Object value){
+            A[] res = Arrays.copyOf(node,node.length);
+            int indx = NestedArray.mask(pos,bitShiftDepth);
+            if(bitShiftDepth==0){
+                ((Object[])res)[indx] = value;
+            }else{
+                res[indx] = (A)set((Object[])node[indx],bitShiftDepth-NestedArray.BITS_IN_INDEX,pos,value);
+            }
+            return res;
+        }
+    }
+
+    /**
+     * A mutable, single-threaded BAMT under construction. Leaf and branch arrays are allocated 32 wide
+     * and filled in place, full nodes are never written again once they have been filled, so they can be
+     * shared with any number of frozen (persistent) trees. Freezing only copies the partially filled nodes on
+     * the right-most path of the trie (at most one per level) and the active tail.
+     *
+     * Not thread safe - a Transient must not be shared across threads while it is being populated.
+     *
+     * @param <T> Data type of the elements in this BAMT
+     */
+    public static final class Transient<T>{
+        private static final int WIDTH = 32;
+
+        private Object[] root;
+        private int depth;
+        private int leaves;
+        private Object[] tail = new Object[WIDTH];
+        private int tailSize;
+
+        public static <T> Transient<T> empty(){
+            return new Transient<>();
+        }
+
+        /**
+         * Thaw a persistent BAMT into a Transient, only the partially filled nodes on the right-most path
+         * (and the tail) are copied.
+         *
+         * @param root Persistent BAMT root
+         * @param tail Persistent active tail
+         * @param size Number of elements in root and tail
+         * @return Transient populated with the same elements
+         */
+        public static <T> Transient<T> thaw(NestedArray<T> root, ActiveTail<T> tail, int size){
+            Transient<T> res = new Transient<>();
+            if(root instanceof Relaxed){
+                for(Object next : ((Relaxed<T>)root).toArray()){
+                    res.append((T)next);
+                }
+                for(T next : tail.array){
+                    res.append(next);
+                }
+                return res;
+            }
+            res.leaves = (size - tail.size()) / WIDTH;
+            if(root instanceof One){
+                res.root = ((One<T>)root).array;
+                res.depth = 1;
+            }else if(root instanceof Two){
+                res.root = ((Two<T>)root).array;
+                res.depth = 2;
+            }else if(root instanceof Three){
+                res.root = ((Three<T>)root).array;
+                res.depth = 3;
+            }else if(root instanceof Four){
+                res.root = ((Four<T>)root).array;
+                res.depth = 4;
+            }else if(root instanceof Five){
+                res.root = ((Five<T>)root).array;
+                res.depth = 5;
+            }else if(root instanceof Six){
+                res.root = ((Six<T>)root).array;
+                res.depth = 6;
+            }
+            if(res.depth>1)
+                res.root = widen(res.root,res.depth-1,res.leaves);
+            System.arraycopy(tail.array,0,res.tail,0,tail.array.length);
+            res.tailSize = tail.array.length;
+            return res;
+        }
+
+        public int size(){
+            return leaves * WIDTH + tailSize;
+        }
+
+        public Transient<T> append(T value){
+            if(tailSize==WIDTH){
+                pushLeaf(tail);
+                tail = new Object[WIDTH];
+                tailSize = 0;
+            }
+            tail[tailSize++]=value;
+            return this;
+        }
+
+        public NestedArray<T> freezeRoot(){
+            switch(depth){
+                case 0:
+                    return new Zero<>();
+                case 1:
+                    return One.one((T[])root);
+                case 2:
+                    return Two.two((Object[][])trim(root,1,leaves));
+                case 3:
+                    return Three.three((Object[][][])trim(root,2,leaves));
+                case 4:
+                    return Four.four((Object[][][][])trim(root,3,leaves));
+                case 5:
+                    return Five.five((Object[][][][][])trim(root,4,leaves));
+                default:
+                    return Six.six((Object[][][][][][])trim(root,5,leaves));
+            }
+        }
+
+        public ActiveTail<T> freezeTail(){
+            return new ActiveTail<>((T[])Arrays.copyOf(tail,tailSize));
+        }
+
+        private void pushLeaf(Object[] leaf){
+            int index = leaves;
+            if(depth==0){
+                root = leaf;
+                depth = 1;
+            }else if(depth==1){
+                Object[] node = branch(1);
+                node[0] = root;
+                node[1] = leaf;
+                root = node;
+                depth = 2;
+            }else {
+                if(index == capacity(depth-1)){
+                    if(depth==6)
+                        return; //BAMT is full
+                    Object[] node = branch(depth);
+                    node[0] = root;
+                    root = node;
+                    depth++;
+                }
+                Object[] node = root;
+                for(int level=depth-1;level>1;level--){
+                    int slot = (index >>> (NestedArray.BITS_IN_INDEX*(level-1))) & (WIDTH-1);
+                    Object[] child = (Object[])node[slot];
+                    if(child==null){
+                        child = branch(level-1);
+                        node[slot]=child;
+                    }
+                    node = child;
+                }
+                node[index & (WIDTH-1)] = leaf;
+            }
+            leaves++;
+        }
+
+        private static int capacity(int level){
+            return 1 << (NestedArray.BITS_IN_INDEX*level);
+        }
+
+        private static Object[] branch(int level){
+            switch(level){
+                case 1:
+                    return new Object[WIDTH][];
+                case 2:
+                    return new Object[WIDTH][][];
+                case 3:
+                    return new Object[WIDTH][][][];
+                case 4:
+                    return new Object[WIDTH][][][][];
+                default:
+                    return new Object[WIDTH][][][][][];
+            }
+        }
+
+        private static int slotsUsed(int level, int leafCount){
+            int cap = capacity(level-1);
+            return (leafCount + cap - 1) / cap;
+        }
+
+        /*
+         * Copy the partially filled nodes on the right-most path down to their exact lengths, full nodes are shared.
+         */
+        private static Object[] trim(Object[] node, int level, int leafCount){
+            if(leafCount==capacity(level))
+                return node;
+            int used = slotsUsed(level,leafCount);
+            Object[] res = Arrays.copyOf(node,used);
+            if(level>1){
+                int lastLeaves = leafCount - (used-1)*capacity(level-1);
+                res[used-1] = trim((Object[])res[used-1],level-1,lastLeaves);
+            }
+            return res;
+        }
+
+        /*
+         * Copy the partially filled nodes on the right-most path out to the full node width, full nodes are shared.
+         */
+        private static Object[] widen(Object[] node, int level, int leafCount){
+            if(leafCount==capacity(level))
+                return node;
+            int used = slotsUsed(level,leafCount);
+            Object[] res = Arrays.copyOf(node,WIDTH);
+            if(level>1){
+                int lastLeaves = leafCount - (used-1)*capacity(level-1);
+                res[used-1] = widen((Object[])res[used-1],level-1,lastLeaves);
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Relaxed Radix Balanced (RRB) BAMT root. Nodes are plain arrays of children (or elements at the leaf level),
+     * a node whose children are not all full (other than the last) is relaxed and carries a cumulative size table as
+     * an int[] in its final slot. Balanced nodes carry no size table, so the fixed depth BAMT arrays (One to Six)
+     * can be adopted directly as RRB nodes without copying.
+     *
+     * Concatenation, take and drop run in O(log n) and share all untouched subtrees with their inputs.
+     *
+     * @param <T> Data type of the elements in this BAMT
+     */
+    public static final class Relaxed<T> implements PopulatedArray<T>{
+        private static final int WIDTH = 32;
+        private static final int EXTRAS = 2;
+        private static final Relaxed EMPTY = new Relaxed(new Object[0],0,0);
+
+        private final Object[] node;
+        private final int level;
+        private final int size;
+
+        private Relaxed(Object[] node, int level, int size) {
+            this.node = node;
+            this.level = level;
+            this.size = size;
+        }
+
+        public static <T> Relaxed<T> empty(){
+            return EMPTY;
+        }
+
+        /**
+         * Adopt a BAMT root (sharing all of its arrays) as a Relaxed tree
+         *
+         * @param root BAMT root
+         * @param size Number of elements in the root
+         * @return Relaxed view of the BAMT root
+         */
+        public static <T> Relaxed<T> fromBAMT(NestedArray<T> root, int size){
+            if(size==0)
+                return empty();
+            if(root instanceof Relaxed)
+                return (Relaxed<T>)root;
+            if(root instanceof One)
+                return new Relaxed<>(((One<T>)root).array,0,size);
+            if(root instanceof Two)
+                return new Relaxed<>(((Two<T>)root).array,1,size);
+            if(root instanceof Three)
+                return new Relaxed<>(((Three<T>)root).array,2,size);
+            if(root instanceof Four)
+                return new Relaxed<>(((Four<T>)root).array,3,size);
+            if(root instanceof Five)
+                return new Relaxed<>(((Five<T>)root).array,4,size);
+            if(root instanceof Six)
+                return new Relaxed<>(((Six<T>)root).array,5,size);
+            return empty();
+        }
+
+        public static <T> Relaxed<T> fromLeaf(T[] leaf){
+            if(leaf.length==0)
+                return empty();
+            return new Relaxed<>(leaf,0,leaf.length);
+        }
+
+        public int size(){
+            return size;
+        }
+
+        public Object[] toArray(){
+            Object[] res = new Object[size];
+            int[] pos = {0};
+            forEachLeaf(node,level,leaf->{
+                System.arraycopy(leaf,0,res,pos[0],leaf.length);
+                pos[0]+=leaf.length;
+            });
+            return res;
+        }
+
+        public Relaxed<T> concat(Relaxed<T> right){
+            if(right.size==0)
+                return this;
+            if(size==0)
+                return right;
+            if(level==0 && right.level==0 && size+right.size<=WIDTH){
+                Object[] leaf = Arrays.copyOf(node,size+right.size,Object[].class);
+                System.arraycopy(right.node,0,leaf,size,right.size);
+                return new Relaxed<>(leaf,0,leaf.length);
+            }
+            Object[] l = level==0 ? new Object[]{node} : node;
+            Object[] r = right.level==0 ? new Object[]{right.node} : right.node;
+            int ll = Math.max(level,1);
+            int lr = Math.max(right.level,1);
+            Object[] wrapper = concatSub(l,ll,r,lr);
+            int top = Math.max(ll,lr);
+            if(count(wrapper)==1)
+                return new Relaxed<>((Object[])wrapper[0],top,size+right.size);
+            return new Relaxed<>(create(wrapper,top+1),top+1,size+right.size);
+        }
+
+        public Relaxed<T> take(int n){
+            if(n>=size)
+                return this;
+            if(n<=0)
+                return empty();
+            Object[] res = take(node,level,n);
+            int newLevel = level;
+            while(newLevel>0 && count(res)==1){
+                res = (Object[])res[0];
+                newLevel--;
+            }
+            return new Relaxed<>(res,newLevel,n);
+        }
+
+        public Relaxed<T> drop(int n){
+            if(n<=0)
+                return this;
+            if(n>=size)
+                return empty();
+            Object[] res = drop(node,level,n);
+            int newLevel = level;
+            while(newLevel>0 && count(res)==1){
+                res = (Object[])res[0];
+                newLevel--;
+            }
+            return new Relaxed<>(res,newLevel,size-n);
+        }
+
+        @Override
+        public Relaxed<T> append(ActiveTail<T> tail) {
+            return concat(fromLeaf(tail.array));
+        }
+
+        @Override
+        public Relaxed<T> set(int pos, T value) {
+            if(pos<0 || pos>=size)
+                return this;
+            return new Relaxed<>(set(node,level,pos,value),level,size);
+        }
+
+        @Override
+        public T getOrElseGet(int pos, Supplier<T> alt) {
+            if(pos<0 || pos>=size)
+                return alt.get();
+            return (T)get(node,level,pos);
+        }
+
+        @Override
+        public T getOrElse(int pos, T alt) {
+            if(pos<0 || pos>=size)
+                return alt;
+            return (T)get(node,level,pos);
+        }
+
+        @Override
+        public Option<T> get(int pos) {
+            if(pos<0 || pos>=size)
+                return Option.none();
+            return Option.some((T)get(node,level,pos));
+        }
+
+        @Override
+        public T[] getNestedArrayAt(int pos) {
+            Object[] current = node;
+            int index = pos;
+            for(int l=level;l>0;l--){
+                int slot = slot(current,l,index);
+                if(slot>0)
+                    index -= offset(current,l,slot);
+                current = (Object[])current[slot];
+            }
+            return (T[])current;
+        }
+
+        @Override
+        public ReactiveSeq<T> stream() {
+            return stream(node,level);
+        }
+
+        private static <T> ReactiveSeq<T> stream(Object[] node, int level){
+            if(level==0)
+                return ReactiveSeq.of((T[])node);
+            return ReactiveSeq.iterate(0, i->i+1)
+                              .take(count(node))
+                              .flatMap(i->stream((Object[])node[i],level-1));
+        }
+
+        private static void forEachLeaf(Object[] node, int level, java.util.function.Consumer<Object[]> fn){
+            if(level==0){
+                fn.accept(node);
+                return;
+            }
+            for(int i=0;i<count(node);i++){
+                forEachLeaf((Object[])node[i],level-1,fn);
+            }
+        }
+
+        private static boolean relaxed(Object[] node){
+            return node.length>0 && node[node.length-1] instanceof int[];
+        }
+
+        private static int count(Object[] node){
+            return relaxed(node) ? node.length-1 : node.length;
+        }
+
+        private static int[] sizes(Object[] node){
+            return (int[])node[node.length-1];
+        }
+
+        private static int childCapacity(int level){
+            return 1 << (BITS_IN_INDEX*level);
+        }
+
+        private static int size(Object[] node, int level){
+            if(level==0)
+                return node.length;
+            if(relaxed(node)){
+                int[] sizes = sizes(node);
+                return sizes[sizes.length-1];
+            }
+            int n = node.length;
+            return (n-1)*childCapacity(level) + size((Object[])node[n-1],level-1);
+        }
+
+        /*
+         * Number of slots (children or elements) used by a node
+         */
+        private static int slots(Object[] node, int level){
+            return level==0 ? node.length : count(node);
+        }
+
+        private static int slot(Object[] node, int level, int index){
+            int slot = index >>> (BITS_IN_INDEX*level);
+            if(relaxed(node)){
+                int[] sizes = sizes(node);
+                while(sizes[slot]<=index)
+                    slot++;
+            }
+            return slot;
+        }
+
+        private static int offset(Object[] node, int level, int slot){
+            if(slot==0)
+                return 0;
+            return relaxed(node) ? sizes(node)[slot-1] : slot*childCapacity(level);
+        }
+
+        private static Object get(Object[] node, int level, int index){
+            Object[] current = node;
+            for(int l=level;l>0;l--){
+                int slot = slot(current,l,index);
+                index -= offset(current,l,slot);
+                current = (Object[])current[slot];
+            }
+            return current[index];
+        }
+
+        private static Object[] set(Object[] node, int level, int index, Object value){
+            Object[] res = Arrays.copyOf(node,node.length);
+            if(level==0){
+                res[index]=value;
+                return res;
+            }
+            int slot = slot(node,level,index);
+            res[slot] = set((Object[])node[slot],level-1,index-offset(node,level,slot),value);
+            return res;
+        }
+
+        /*
+         * Create a node at the given level from its children, a size table is attached only if the node is relaxed
+         */
+        private static Object[] create(Object[] children, int level){
+            int n = children.length;
+            int cap = childCapacity(level);
+            boolean balanced = true;
+            int[] sizes = new int[n];
+            int total = 0;
+            for(int i=0;i<n;i++){
+                int s = size((Object[])children[i],level-1);
+                if(i<n-1 && s!=cap)
+                    balanced = false;
+                total+=s;
+                sizes[i]=total;
+            }
+            if(balanced)
+                return children;
+            Object[] res = Arrays.copyOf(children,n+1,Object[].class);
+            res[n]=sizes;
+            return res;
+        }
+
+        private static Object[] take(Object[] node, int level, int n){
+            if(level==0)
+                return Arrays.copyOf(node,n,Object[].class);
+            int slot = slot(node,level,n-1);
+            Object[] children = new Object[slot+1];
+            System.arraycopy(node,0,children,0,slot);
+            children[slot] = take((Object[])node[slot],level-1,n-offset(node,level,slot));
+            return create(children,level);
+        }
+
+        private static Object[] drop(Object[] node, int level, int n){
+            if(level==0)
+                return Arrays.copyOfRange(node,n,node.length,Object[].class);
+            int slot = slot(node,level,n);
+            int count = count(node);
+            Object[] children = new Object[count-slot];
+            System.arraycopy(node,slot,children,0,children.length);
+            children[0] = drop((Object[])node[slot],level-1,n-offset(node,level,slot));
+            return create(children,level);
+        }
+
+        /*
+         * Concatenate two nodes (at level 1 or above), returning a node one level above the higher of the two
+         * containing 1 or 2 children.
+         */
+        private static Object[] concatSub(Object[] left, int ll, Object[] right, int lr){
+            if(ll>lr){
+                Object[] mid = concatSub((Object[])left[count(left)-1],ll-1,right,lr);
+                return rebalance(left,mid,null,ll);
+            }
+            if(ll<lr){
+                Object[] mid = concatSub(left,ll,(Object[])right[0],lr-1);
+                return rebalance(null,mid,right,lr);
+            }
+            if(ll==1)
+                return rebalance(left,null,right,1);
+            Object[] mid = concatSub((Object[])left[count(left)-1],ll-1,(Object[])right[0],lr-1);
+            return rebalance(left,mid,right,ll);
+        }
+
+        private static Object[] rebalance(Object[] left, Object[] mid, Object[] right, int level){
+            int leftCount = left==null ? 0 : count(left) - (mid==null ? 0 : 1);
+            int midCount = mid==null ? 0 : count(mid);
+            int rightCount = right==null ? 0 : count(right) - (mid==null ? 0 : 1);
+            Object[] all = new Object[leftCount+midCount+rightCount];
+            if(leftCount>0)
+                System.arraycopy(left,0,all,0,leftCount);
+            if(midCount>0)
+                System.arraycopy(mid,0,all,leftCount,midCount);
+            if(rightCount>0)
+                System.arraycopy(right,mid==null ? 0 : 1,all,leftCount+midCount,rightCount);
+
+            Object[] balanced = executePlan(all,level-1);
+            if(balanced.length<=WIDTH)
+                return new Object[]{create(balanced,level)};
+            return new Object[]{create(Arrays.copyOf(balanced,WIDTH),level),
+                                create(Arrays.copyOfRange(balanced,WIDTH,balanced.length),level)};
+        }
+
+        /*
+         * Redistribute the slots of the supplied nodes (all at childLevel) so that the number of nodes is within
+         * EXTRAS of the optimal number, nodes that already have their planned size are shared rather than copied.
+         */
+        private static Object[] executePlan(Object[] all, int childLevel){
+            int n = all.length;
+            int[] plan = new int[n];
+            int total = 0;
+            for(int i=0;i<n;i++){
+                plan[i] = slots((Object[])all[i],childLevel);
+                total+=plan[i];
+            }
+            int optimal = ((total-1)/WIDTH)+1;
+            int planned = n;
+            int i=0;
+            while(optimal+EXTRAS<planned){
+                while(plan[i]>WIDTH-EXTRAS/2)
+                    i++;
+                int remaining = plan[i];
+                do{
+                    int min = Math.min(remaining+plan[i+1],WIDTH);
+                    plan[i] = min;
+                    remaining = remaining+plan[i+1]-min;
+                    i++;
+                }while(remaining>0);
+                for(int j=i;j<planned-1;j++){
+                    plan[j]=plan[j+1];
+                }
+                planned--;
+                i--;
+            }
+            if(planned==n)
+                return all;
+
+            Object[] res = new Object[planned];
+            int src = 0;
+            int srcOffset = 0;
+            for(int k=0;k<planned;k++){
+                Object[] current = (Object[])all[src];
+                int target = plan[k];
+                if(srcOffset==0 && slots(current,childLevel)==target){
+                    res[k]=current;
+                    src++;
+                    continue;
+                }
+                Object[] slots = new Object[target];
+                int filled = 0;
+                while(filled<target){
+                    current = (Object[])all[src];
+                    int available = slots(current,childLevel)-srcOffset;
+                    int toCopy = Math.min(available,target-filled);
+                    System.arraycopy(current,srcOffset,slots,filled,toCopy);
+                    filled+=toCopy;
+                    srcOffset+=toCopy;
+                    if(srcOffset==slots(current,childLevel)){
+                        src++;
+                        srcOffset=0;
+                    }
+                }
+                res[k] = childLevel==0 ? slots : create(slots,childLevel);
+            }
+            return res;
+        }
     }
 
     @AllArgsConstructor
@@ -236,14 +859,7 @@ public class BAMT<T> {
 
         @Override
         public PopulatedArray<T> set(int pos, T t) {
-            Object[][] updatedNodes = Arrays.copyOf(array, array.length);
-            int indx = NestedArray.mask(pos,bitShiftDepth);
-            Object[] e = updatedNodes[indx];
-            Object[] newNode = Arrays.copyOf(e,e.length);
-            updatedNodes[indx] = newNode;
-            newNode[NestedArray.mask(pos)]=t;
-            return two(updatedNodes);
-
+            return two(ArrayUtils.set(array,bitShiftDepth,pos,t));
         }
 
         @Override
@@ -318,18 +934,7 @@ public class BAMT<T> {
 
         @Override
         public PopulatedArray<T> set(int pos, T t) {
-            Object[][][] updatedNodes = Arrays.copyOf(array, array.length);
-            int indx = NestedArray.mask(pos,bitShiftDepth);
-            Object[][] e = updatedNodes[indx];
-            Object[][] newNode = Arrays.copyOf(e,e.length);
-            updatedNodes[indx] = newNode;
-            int indx2 = NestedArray.mask(pos, Two.bitShiftDepth);
-            Object[] f = e[indx2];
-            Object[] newNode2 = Arrays.copyOf(f,f.length);
-            newNode[indx2]=f;
-            f[NestedArray.mask(pos)]=t;
-            return three(updatedNodes);
-
+            return three(ArrayUtils.set(array,bitShiftDepth,pos,t));
         }
 
         @Override
@@ -422,21 +1027,7 @@ public class BAMT<T> {
 
         @Override
         public PopulatedArray<T> set(int pos, T t) {
-            Object[][][][] n1 = Arrays.copyOf(array, array.length);
-            int indx = NestedArray.mask(pos,bitShiftDepth);
-            Object[][][] n2 = n1[indx];
-            Object[][][] newNode = Arrays.copyOf(n2,n2.length);
-            n1[indx] = newNode;
-            int indx2 = NestedArray.mask(pos, Three.bitShiftDepth);
-            Object[][] n3 = n2[indx2];
-            Object[][] newNode2 = Arrays.copyOf(n3,n3.length);
-            int indx3 = NestedArray.mask(pos, Two.bitShiftDepth);
-            Object[] n4 = n3[indx3];
-            Object[] newNode3 = Arrays.copyOf(n3,n3.length);
-            newNode2[indx3]=n3;
-            n4[NestedArray.mask(pos)]=t;
-            return four(n1);
-
+            return four(ArrayUtils.set(array,bitShiftDepth,pos,t));
         }
         @Override
         public Option<T> get(int pos) {
@@ -549,24 +1140,7 @@ public class BAMT<T> {
 
         @Override
         public PopulatedArray<T> set(int pos, T t) {
-            Object[][][][][] n1 = Arrays.copyOf(array, array.length);
-            int indx = NestedArray.mask(pos,bitShiftDepth);
-            Object[][][][] n2 = n1[indx];
-            Object[][][][] newNode = Arrays.copyOf(n2,n2.length);
-            n1[indx] = newNode;
-            int indx2 = NestedArray.mask(pos, Four.bitShiftDepth);
-            Object[][][] n3 = n2[indx2];
-            Object[][][] newNode2 = Arrays.copyOf(n3,n3.length);
-            int indx3 = NestedArray.mask(pos, Three.bitShiftDepth);
-            Object[][] n4 = n3[indx3];
-            Object[][] newNode3 = Arrays.copyOf(n3,n3.length);
-            int indx4 = NestedArray.mask(pos, Two.bitShiftDepth);
-            Object[] n5 = n4[indx4];
-            Object[] newNode4 = Arrays.copyOf(n4,n4.length);
-            newNode3[indx4]=n4;
-            n5[NestedArray.mask(pos)]=t;
-            return five(n1);
-
+            return five(ArrayUtils.set(array,bitShiftDepth,pos,t));
         }
 
         @Override
@@ -693,26 +1267,7 @@ public class BAMT<T> {
 
         @Override
         public PopulatedArray<T> set(int pos, T t) {
-            Object[][][][][][] n1 = Arrays.copyOf(array, array.length);
-            int indx = NestedArray.mask(pos,bitShiftDepth);
-            Object[][][][][] n2 = n1[indx];
-            Object[][][][][] newNode = Arrays.copyOf(n2,n2.length);
-            n1[indx] = newNode;
-            int indx2 = NestedArray.mask(pos, Five.bitShiftDepth);
-            Object[][][][] n3 = n2[indx2];
-            Object[][][][] newNode2 = Arrays.copyOf(n3,n3.length);
-            int indx3 = NestedArray.mask(pos, Four.bitShiftDepth);
-            Object[][][] n4 = n3[indx3];
-            Object[][][] newNode3 = Arrays.copyOf(n3,n3.length);
-            int indx4 = NestedArray.mask(pos, Three.bitShiftDepth);
-            Object[][] n5 = n4[indx4];
-            int indx5 = NestedArray.mask(pos, Two.bitShiftDepth);
-            Object[] n6 = n5[indx5];
-            Object[] newNode4 = Arrays.copyOf(n4,n4.length);
-            newNode4[indx5]=n4;
-            n6[NestedArray.mask(pos)]=t;
-            return six(n1);
-
+            return six(ArrayUtils.set(array,bitShiftDepth,pos,t));
         }
 
         @Override
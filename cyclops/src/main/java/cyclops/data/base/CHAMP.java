@@ -0,0 +1,866 @@
+package cyclops.data.base;
+
+
+import cyclops.control.Option;
+import cyclops.data.LazySeq;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Compressed Hash-Array Mapped Prefix-tree (CHAMP)
+ *
+ * Each BitmapIndexedNode keeps two bitmaps - one for entries stored inline in the node and one for sub-nodes.
+ * Keys and values are stored directly in a single Object[] (followed by the sub-nodes) and the hash of each inline
+ * key is cached, so keys are never re-hashed as the trie is restructured. Removal compacts the trie back into
+ * a canonical form (every sub-node holds at least two entries), so two tries holding the same entries have the
+ * same shape, which allows equals to compare node by node and short-circuit on shared sub-trees.
+ *
+ * Hash collisions are stored in a HashCollisionNode once all 32 bits of the hash have been consumed.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public final class CHAMP<K, V> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+  static final int BITS_IN_INDEX = 5;
+  static final int MASK = (1 << BITS_IN_INDEX) - 1;
+  static final int HASH_CODE_LENGTH = 32;
+  static final int MAX_DEPTH = (HASH_CODE_LENGTH + BITS_IN_INDEX - 1) / BITS_IN_INDEX + 1;
+
+  private static final int[] NO_HASHES = new int[0];
+
+  public static <K,V> Node<K,V> empty(){
+    return BitmapIndexedNode.EMPTY;
+  }
+
+  public static abstract class Node<K,V> implements Serializable{
+    private static final long serialVersionUID = 1L;
+
+    public Node<K,V> put(K key, V value){
+      return plus(0,key.hashCode(),key,value);
+    }
+    public Option<V> get(K key){
+      return get(0,key.hashCode(),key);
+    }
+    public V getOrElse(K key, V alt){
+      return getOrElse(0,key.hashCode(),key,alt);
+    }
+    public boolean containsKey(K key){
+      return containsKey(0,key.hashCode(),key);
+    }
+    public Node<K,V> minus(K key){
+      return minus(0,key.hashCode(),key);
+    }
+    /**
+     * Structural union, both tries are walked together and sub-trees present in only one of them (or shared by both)
+     * are reused as is. Where a key is present in both, the value from other is kept.
+     */
+    public Node<K,V> union(Node<K,V> other){
+      return merge(0, this, other, new Merger<K,V>(true, true, true, true){
+        @Override
+        V combine(V left, V right) {
+          return right;
+        }
+      });
+    }
+    /**
+     * Structural union, where a key is present in both tries fn is applied to the value from this trie and the
+     * value from other
+     */
+    public Node<K,V> mergeWith(Node<K,V> other, BiFunction<? super V, ? super V, ? extends V> fn){
+      return merge(0, this, other, new Merger<K,V>(true, true, true, false){
+        @Override
+        V combine(V left, V right) {
+          return fn.apply(left, right);
+        }
+      });
+    }
+    /**
+     * Entries from this trie whose keys are also present in other
+     */
+    public Node<K,V> intersection(Node<K,V> other){
+      return merge(0, this, other, new Merger<K,V>(false, false, true, true){
+        @Override
+        V combine(V left, V right) {
+          return left;
+        }
+      });
+    }
+    /**
+     * Entries from this trie whose keys are not present in other
+     */
+    public Node<K,V> difference(Node<K,V> other){
+      return merge(0, this, other, new Merger<K,V>(true, false, false, true){
+        @Override
+        V combine(V left, V right) {
+          return left;
+        }
+      });
+    }
+    public abstract Node<K,V> plus(int bitShiftDepth, int hash, K key, V value);
+    public abstract Option<V> get(int bitShiftDepth, int hash, K key);
+    public abstract V getOrElse(int bitShiftDepth, int hash, K key, V alt);
+    public abstract V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt);
+    public abstract boolean containsKey(int bitShiftDepth, int hash, K key);
+    public abstract Node<K,V> minus(int bitShiftDepth, int hash, K key);
+    public abstract int size();
+
+    public Iterator<Tuple2<K,V>> iterator(){
+      return new NodeIterator<K,V,Tuple2<K,V>>(this){
+        @Override
+        Tuple2<K, V> emit(Node<K, V> node, int index) {
+          return Tuple.tuple(node.keyAt(index),node.valueAt(index));
+        }
+      };
+    }
+    public Iterator<K> keyIterator(){
+      return new NodeIterator<K,V,K>(this){
+        @Override
+        K emit(Node<K, V> node, int index) {
+          return node.keyAt(index);
+        }
+      };
+    }
+    public LazySeq<Tuple2<K,V>> lazyList(){
+      return LazySeq.fromIterator(iterator());
+    }
+    public ReactiveSeq<Tuple2<K, V>> stream(){
+      return ReactiveSeq.fromIterator(iterator());
+    }
+
+    abstract int payloadArity();
+    abstract int nodeArity();
+    abstract K keyAt(int index);
+    abstract V valueAt(int index);
+    abstract int hashAt(int index);
+    abstract Node<K,V> nodeAt(int index);
+    abstract boolean isSingleton();
+  }
+
+  static <K,V> Node<K,V> mergeTwo(int shift, int hash0, K key0, V value0, int hash1, K key1, V value1){
+    if(shift >= HASH_CODE_LENGTH)
+      return new HashCollisionNode<>(hash0, new Object[]{key0, value0, key1, value1});
+    int mask0 = mask(hash0, shift);
+    int mask1 = mask(hash1, shift);
+    if(mask0 != mask1){
+      int dataMap = bitpos(mask0) | bitpos(mask1);
+      if(mask0 < mask1)
+        return new BitmapIndexedNode<>(dataMap, 0, new Object[]{key0, value0, key1, value1}, new int[]{hash0, hash1}, 2);
+      return new BitmapIndexedNode<>(dataMap, 0, new Object[]{key1, value1, key0, value0}, new int[]{hash1, hash0}, 2);
+    }
+    Node<K,V> node = mergeTwo(shift + BITS_IN_INDEX, hash0, key0, value0, hash1, key1, value1);
+    return new BitmapIndexedNode<>(0, bitpos(mask0), new Object[]{node}, NO_HASHES, 2);
+  }
+
+  /*
+   * Describes which entries survive a structural merge of two tries and how the values of keys present in both are
+   * combined. When idempotent, a sub-tree shared by both tries merges to itself (or to nothing) without being visited.
+   */
+  static abstract class Merger<K,V>{
+    final boolean keepLeft;
+    final boolean keepRight;
+    final boolean keepBoth;
+    final boolean idempotent;
+
+    Merger(boolean keepLeft, boolean keepRight, boolean keepBoth, boolean idempotent) {
+      this.keepLeft = keepLeft;
+      this.keepRight = keepRight;
+      this.keepBoth = keepBoth;
+      this.idempotent = idempotent;
+    }
+
+    abstract V combine(V left, V right);
+  }
+
+  static <K,V> Node<K,V> merge(int shift, Node<K,V> left, Node<K,V> right, Merger<K,V> merger){
+    if(left == right && merger.idempotent)
+      return merger.keepBoth ? left : empty();
+    if(left.size() == 0)
+      return merger.keepRight ? right : left;
+    if(right.size() == 0)
+      return merger.keepLeft ? left : right;
+    if(left instanceof HashCollisionNode || right instanceof HashCollisionNode)
+      return mergeCollisions(left, right, merger);
+    BitmapIndexedNode<K,V> a = (BitmapIndexedNode<K,V>) left;
+    BitmapIndexedNode<K,V> b = (BitmapIndexedNode<K,V>) right;
+
+    int dataMap = 0;
+    int nodeMap = 0;
+    int dataArity = 0;
+    int nodeArity = 0;
+    int size = 0;
+    Object[] data = new Object[64];
+    int[] hashes = new int[32];
+    Node<K,V>[] nodes = new Node[32];
+    boolean sameAsLeft = true;
+    boolean sameAsRight = true;
+
+    int positions = a.dataMap | a.nodeMap | b.dataMap | b.nodeMap;
+    while(positions != 0){
+      int bitpos = Integer.lowestOneBit(positions);
+      positions ^= bitpos;
+      boolean leftData = (a.dataMap & bitpos) != 0;
+      boolean rightData = (b.dataMap & bitpos) != 0;
+      //the merged position is either a single inline entry, a sub-node or empty
+      boolean inline = false;
+      K key = null;
+      V value = null;
+      int hash = 0;
+      Node<K,V> node = null;
+      if(leftData && rightData){
+        int ai = a.dataIndex(bitpos);
+        int bi = b.dataIndex(bitpos);
+        K ak = a.keyAt(ai);
+        K bk = b.keyAt(bi);
+        if(a.hashAt(ai) == b.hashAt(bi) && Objects.equals(ak, bk)){
+          if(merger.keepBoth){
+            inline = true;
+            key = ak;
+            value = merger.combine(a.valueAt(ai), b.valueAt(bi));
+            hash = a.hashAt(ai);
+            sameAsLeft &= value == a.valueAt(ai);
+            sameAsRight &= key == bk && value == b.valueAt(bi);
+          }else{
+            sameAsLeft = sameAsRight = false;
+          }
+        }else if(merger.keepLeft && merger.keepRight){
+          node = mergeTwo(shift + BITS_IN_INDEX, a.hashAt(ai), ak, a.valueAt(ai), b.hashAt(bi), bk, b.valueAt(bi));
+          sameAsLeft = sameAsRight = false;
+        }else if(merger.keepLeft){
+          inline = true;
+          key = ak;
+          value = a.valueAt(ai);
+          hash = a.hashAt(ai);
+          sameAsRight = false;
+        }else if(merger.keepRight){
+          inline = true;
+          key = bk;
+          value = b.valueAt(bi);
+          hash = b.hashAt(bi);
+          sameAsLeft = false;
+        }else{
+          sameAsLeft = sameAsRight = false;
+        }
+      }else{
+        Node<K,V> leftSlot = slot(a, bitpos, shift);
+        Node<K,V> rightSlot = slot(b, bitpos, shift);
+        Node<K,V> merged = merge(shift + BITS_IN_INDEX, leftSlot, rightSlot, merger);
+        sameAsLeft &= sameSlot(merged, leftSlot, leftData);
+        sameAsRight &= sameSlot(merged, rightSlot, rightData);
+        if(merged.size() == 1){
+          inline = true;
+          key = merged.keyAt(0);
+          value = merged.valueAt(0);
+          hash = merged.hashAt(0);
+        }else if(merged.size() > 1){
+          node = merged;
+        }
+      }
+      if(node != null){
+        nodeMap |= bitpos;
+        nodes[nodeArity++] = node;
+        size += node.size();
+      }else if(inline){
+        dataMap |= bitpos;
+        data[2 * dataArity] = key;
+        data[2 * dataArity + 1] = value;
+        hashes[dataArity++] = hash;
+        size++;
+      }
+    }
+    if(sameAsLeft)
+      return left;
+    if(sameAsRight)
+      return right;
+    if(size == 0)
+      return empty();
+    Object[] content = new Object[2 * dataArity + nodeArity];
+    System.arraycopy(data, 0, content, 0, 2 * dataArity);
+    System.arraycopy(nodes, 0, content, 2 * dataArity, nodeArity);
+    int[] contentHashes = new int[dataArity];
+    System.arraycopy(hashes, 0, contentHashes, 0, dataArity);
+    return new BitmapIndexedNode<>(dataMap, nodeMap, content, contentHashes, size);
+  }
+
+  /*
+   * The contents of a position as a node, an inline entry is lifted into a single entry node one level down
+   */
+  private static <K,V> Node<K,V> slot(BitmapIndexedNode<K,V> node, int bitpos, int shift){
+    if((node.dataMap & bitpos) != 0){
+      int index = node.dataIndex(bitpos);
+      int hash = node.hashAt(index);
+      return new BitmapIndexedNode<>(bitpos(mask(hash, shift + BITS_IN_INDEX)), 0,
+                                     new Object[]{node.keyAt(index), node.valueAt(index)}, new int[]{hash}, 1);
+    }
+    if((node.nodeMap & bitpos) != 0)
+      return node.nodeAt(node.nodeIndex(bitpos));
+    return empty();
+  }
+
+  private static <K,V> boolean sameSlot(Node<K,V> merged, Node<K,V> original, boolean inline){
+    if(!inline)
+      return merged == original;
+    return merged.size() == 1 && merged.keyAt(0) == original.keyAt(0) && merged.valueAt(0) == original.valueAt(0);
+  }
+
+  /*
+   * Every entry below the maximum depth shares a single hash, so merge entry by entry
+   */
+  private static <K,V> Node<K,V> mergeCollisions(Node<K,V> left, Node<K,V> right, Merger<K,V> merger){
+    int hash = left.hashAt(0);
+    Object[] merged = new Object[2 * (left.payloadArity() + right.payloadArity())];
+    int length = 0;
+    boolean changed = false;
+    for(int i = 0; i < left.payloadArity(); i++){
+      K key = left.keyAt(i);
+      int index = indexOf(right, key);
+      if(index >= 0 ? merger.keepBoth : merger.keepLeft){
+        V value = index >= 0 ? merger.combine(left.valueAt(i), right.valueAt(index)) : left.valueAt(i);
+        changed |= value != left.valueAt(i);
+        merged[length++] = key;
+        merged[length++] = value;
+      }else{
+        changed = true;
+      }
+    }
+    if(merger.keepRight){
+      for(int i = 0; i < right.payloadArity(); i++){
+        if(indexOf(left, right.keyAt(i)) < 0){
+          merged[length++] = right.keyAt(i);
+          merged[length++] = right.valueAt(i);
+          changed = true;
+        }
+      }
+    }
+    if(!changed)
+      return left;
+    if(length == 0)
+      return empty();
+    if(length == 2)
+      return new BitmapIndexedNode<>(bitpos(mask(hash, 0)), 0, new Object[]{merged[0], merged[1]}, new int[]{hash}, 1);
+    Object[] content = new Object[length];
+    System.arraycopy(merged, 0, content, 0, length);
+    return new HashCollisionNode<>(hash, content);
+  }
+
+  private static <K,V> int indexOf(Node<K,V> node, K key){
+    for(int i = 0; i < node.payloadArity(); i++){
+      if(Objects.equals(node.keyAt(i), key))
+        return i;
+    }
+    return -1;
+  }
+
+  static int mask(int hash, int shift){
+    return (hash >>> shift) & MASK;
+  }
+  static int bitpos(int mask){
+    return 1 << mask;
+  }
+
+  static int entryHashCode(int keyHash, Object value){
+    return keyHash ^ Objects.hashCode(value);
+  }
+
+  public static final class BitmapIndexedNode<K,V> extends Node<K,V>{
+    private static final long serialVersionUID = 1L;
+    static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(0, 0, new Object[0], NO_HASHES, 0);
+
+    final int dataMap;
+    final int nodeMap;
+    //inline keys and values [k0,v0,k1,v1..] followed by the sub-nodes
+    private final Object[] content;
+    private final int[] hashes;
+    private final int size;
+    private transient int hashCode;
+
+    BitmapIndexedNode(int dataMap, int nodeMap, Object[] content, int[] hashes, int size) {
+      this.dataMap = dataMap;
+      this.nodeMap = nodeMap;
+      this.content = content;
+      this.hashes = hashes;
+      this.size = size;
+    }
+
+    int dataIndex(int bitpos){
+      return Integer.bitCount(dataMap & (bitpos - 1));
+    }
+    int nodeIndex(int bitpos){
+      return Integer.bitCount(nodeMap & (bitpos - 1));
+    }
+
+    @Override
+    int payloadArity() {
+      return hashes.length;
+    }
+
+    @Override
+    int nodeArity() {
+      return content.length - 2 * hashes.length;
+    }
+
+    @Override
+    K keyAt(int index) {
+      return (K) content[2 * index];
+    }
+
+    @Override
+    V valueAt(int index) {
+      return (V) content[2 * index + 1];
+    }
+
+    @Override
+    int hashAt(int index) {
+      return hashes[index];
+    }
+
+    @Override
+    Node<K, V> nodeAt(int index) {
+      return (Node<K, V>) content[2 * hashes.length + index];
+    }
+
+    @Override
+    boolean isSingleton() {
+      return nodeMap == 0 && hashes.length == 1;
+    }
+
+    @Override
+    public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+      int bitpos = bitpos(mask(hash, bitShiftDepth));
+      if((dataMap & bitpos) != 0){
+        int index = dataIndex(bitpos);
+        K current = keyAt(index);
+        if(hashes[index] == hash && Objects.equals(current, key)){
+          if(valueAt(index) == value)
+            return this;
+          Object[] updated = content.clone();
+          updated[2 * index + 1] = value;
+          return new BitmapIndexedNode<>(dataMap, nodeMap, updated, hashes, size);
+        }
+        Node<K,V> node = mergeTwo(bitShiftDepth + BITS_IN_INDEX, hashes[index], current, valueAt(index), hash, key, value);
+        return migrateInlineToNode(bitpos, index, node);
+      }
+      if((nodeMap & bitpos) != 0){
+        int index = nodeIndex(bitpos);
+        Node<K,V> node = nodeAt(index);
+        Node<K,V> updated = node.plus(bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+        if(updated == node)
+          return this;
+        return setNode(index, updated, size - node.size() + updated.size());
+      }
+      return insertInline(bitpos, hash, key, value);
+    }
+
+    private Node<K,V> insertInline(int bitpos, int hash, K key, V value){
+      int index = dataIndex(bitpos);
+      int from = 2 * index;
+      Object[] updated = new Object[content.length + 2];
+      System.arraycopy(content, 0, updated, 0, from);
+      updated[from] = key;
+      updated[from + 1] = value;
+      System.arraycopy(content, from, updated, from + 2, content.length - from);
+      int[] updatedHashes = new int[hashes.length + 1];
+      System.arraycopy(hashes, 0, updatedHashes, 0, index);
+      updatedHashes[index] = hash;
+      System.arraycopy(hashes, index, updatedHashes, index + 1, hashes.length - index);
+      return new BitmapIndexedNode<>(dataMap | bitpos, nodeMap, updated, updatedHashes, size + 1);
+    }
+
+    private Node<K,V> removeInline(int bitpos, int index){
+      int from = 2 * index;
+      Object[] updated = new Object[content.length - 2];
+      System.arraycopy(content, 0, updated, 0, from);
+      System.arraycopy(content, from + 2, updated, from, content.length - from - 2);
+      int[] updatedHashes = new int[hashes.length - 1];
+      System.arraycopy(hashes, 0, updatedHashes, 0, index);
+      System.arraycopy(hashes, index + 1, updatedHashes, index, hashes.length - index - 1);
+      return new BitmapIndexedNode<>(dataMap ^ bitpos, nodeMap, updated, updatedHashes, size - 1);
+    }
+
+    private Node<K,V> setNode(int index, Node<K,V> node, int newSize){
+      Object[] updated = content.clone();
+      updated[2 * hashes.length + index] = node;
+      return new BitmapIndexedNode<>(dataMap, nodeMap, updated, hashes, newSize);
+    }
+
+    private Node<K,V> migrateInlineToNode(int bitpos, int dataIndex, Node<K,V> node){
+      int from = 2 * dataIndex;
+      int nodeIndex = nodeIndex(bitpos);
+      int to = 2 * (hashes.length - 1) + nodeIndex;
+      Object[] updated = new Object[content.length - 1];
+      System.arraycopy(content, 0, updated, 0, from);
+      System.arraycopy(content, from + 2, updated, from, to - from);
+      updated[to] = node;
+      System.arraycopy(content, to + 2, updated, to + 1, content.length - to - 2);
+      int[] updatedHashes = new int[hashes.length - 1];
+      System.arraycopy(hashes, 0, updatedHashes, 0, dataIndex);
+      System.arraycopy(hashes, dataIndex + 1, updatedHashes, dataIndex, hashes.length - dataIndex - 1);
+      return new BitmapIndexedNode<>(dataMap ^ bitpos, nodeMap | bitpos, updated, updatedHashes, size + 1);
+    }
+
+    private Node<K,V> migrateNodeToInline(int bitpos, int nodeIndex, Node<K,V> node){
+      int dataIndex = dataIndex(bitpos);
+      int from = 2 * hashes.length + nodeIndex;
+      int to = 2 * dataIndex;
+      Object[] updated = new Object[content.length + 1];
+      System.arraycopy(content, 0, updated, 0, to);
+      updated[to] = node.keyAt(0);
+      updated[to + 1] = node.valueAt(0);
+      System.arraycopy(content, to, updated, to + 2, from - to);
+      System.arraycopy(content, from + 1, updated, from + 2, content.length - from - 1);
+      int[] updatedHashes = new int[hashes.length + 1];
+      System.arraycopy(hashes, 0, updatedHashes, 0, dataIndex);
+      updatedHashes[dataIndex] = node.hashAt(0);
+      System.arraycopy(hashes, dataIndex, updatedHashes, dataIndex + 1, hashes.length - dataIndex);
+      return new BitmapIndexedNode<>(dataMap | bitpos, nodeMap ^ bitpos, updated, updatedHashes, size - 1);
+    }
+
+    @Override
+    public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+      int bitpos = bitpos(mask(hash, bitShiftDepth));
+      if((dataMap & bitpos) != 0){
+        int index = dataIndex(bitpos);
+        if(hashes[index] == hash && Objects.equals(keyAt(index), key))
+          return removeInline(bitpos, index);
+        return this;
+      }
+      if((nodeMap & bitpos) != 0){
+        int index = nodeIndex(bitpos);
+        Node<K,V> node = nodeAt(index);
+        Node<K,V> updated = node.minus(bitShiftDepth + BITS_IN_INDEX, hash, key);
+        if(updated == node)
+          return this;
+        if(updated.isSingleton()){
+          if(hashes.length == 0 && nodeArity() == 1){
+            //this node now holds a single entry, let the parent inline it (or re-position it if this is the root)
+            return bitShiftDepth == 0 ? new BitmapIndexedNode<>(bitpos(mask(updated.hashAt(0), 0)), 0,
+                                                                new Object[]{updated.keyAt(0), updated.valueAt(0)},
+                                                                new int[]{updated.hashAt(0)}, 1) : updated;
+          }
+          return migrateNodeToInline(bitpos, index, updated);
+        }
+        return setNode(index, updated, size - 1);
+      }
+      return this;
+    }
+
+    @Override
+    public Option<V> get(int bitShiftDepth, int hash, K key) {
+      int bitpos = bitpos(mask(hash, bitShiftDepth));
+      if((dataMap & bitpos) != 0){
+        int index = dataIndex(bitpos);
+        return hashes[index] == hash && Objects.equals(keyAt(index), key) ? Option.of(valueAt(index)) : Option.none();
+      }
+      if((nodeMap & bitpos) != 0)
+        return nodeAt(nodeIndex(bitpos)).get(bitShiftDepth + BITS_IN_INDEX, hash, key);
+      return Option.none();
+    }
+
+    @Override
+    public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+      int bitpos = bitpos(mask(hash, bitShiftDepth));
+      if((dataMap & bitpos) != 0){
+        int index = dataIndex(bitpos);
+        return hashes[index] == hash && Objects.equals(keyAt(index), key) ? valueAt(index) : alt;
+      }
+      if((nodeMap & bitpos) != 0)
+        return nodeAt(nodeIndex(bitpos)).getOrElse(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+      return alt;
+    }
+
+    @Override
+    public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+      int bitpos = bitpos(mask(hash, bitShiftDepth));
+      if((dataMap & bitpos) != 0){
+        int index = dataIndex(bitpos);
+        return hashes[index] == hash && Objects.equals(keyAt(index), key) ? valueAt(index) : alt.get();
+      }
+      if((nodeMap & bitpos) != 0)
+        return nodeAt(nodeIndex(bitpos)).getOrElseGet(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+      return alt.get();
+    }
+
+    @Override
+    public boolean containsKey(int bitShiftDepth, int hash, K key) {
+      int bitpos = bitpos(mask(hash, bitShiftDepth));
+      if((dataMap & bitpos) != 0){
+        int index = dataIndex(bitpos);
+        return hashes[index] == hash && Objects.equals(keyAt(index), key);
+      }
+      if((nodeMap & bitpos) != 0)
+        return nodeAt(nodeIndex(bitpos)).containsKey(bitShiftDepth + BITS_IN_INDEX, hash, key);
+      return false;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    /*
+     * Tries are kept in canonical form, so equal maps have identically shaped nodes and sub-trees can be compared
+     * pairwise (and skipped entirely when they are shared).
+     */
+    @Override
+    public boolean equals(Object o) {
+      if(this == o)
+        return true;
+      if(!(o instanceof BitmapIndexedNode))
+        return false;
+      BitmapIndexedNode<?,?> that = (BitmapIndexedNode<?,?>) o;
+      if(size != that.size || dataMap != that.dataMap || nodeMap != that.nodeMap)
+        return false;
+      if(hashCode != 0 && that.hashCode != 0 && hashCode != that.hashCode)
+        return false;
+      for(int i = 0; i < hashes.length; i++){
+        if(hashes[i] != that.hashes[i])
+          return false;
+      }
+      for(int i = 0; i < content.length; i++){
+        if(!Objects.equals(content[i], that.content[i]))
+          return false;
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int h = hashCode;
+      if(h == 0){
+        for(int i = 0; i < hashes.length; i++){
+          h += entryHashCode(hashes[i], valueAt(i));
+        }
+        for(int i = 2 * hashes.length; i < content.length; i++){
+          h += content[i].hashCode();
+        }
+        hashCode = h;
+      }
+      return h;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder s = new StringBuilder("{d:" + Integer.toBinaryString(dataMap) + ",n:" + Integer.toBinaryString(nodeMap) + ",s:" + size);
+      for(int i = 0; i < hashes.length; i++){
+        s.append(",[h:" + hashes[i] + ",k:" + keyAt(i) + ",v:" + valueAt(i) + "]");
+      }
+      for(int i = 0; i < nodeArity(); i++){
+        s.append("," + nodeAt(i));
+      }
+      return s.append("}").toString();
+    }
+  }
+
+  public static final class HashCollisionNode<K,V> extends Node<K,V>{
+    private static final long serialVersionUID = 1L;
+    private final int hash;
+    //keys and values [k0,v0,k1,v1..]
+    private final Object[] content;
+
+    HashCollisionNode(int hash, Object[] content) {
+      this.hash = hash;
+      this.content = content;
+    }
+
+    private int indexOf(K key){
+      for(int i = 0; i < content.length; i += 2){
+        if(Objects.equals(content[i], key))
+          return i;
+      }
+      return -1;
+    }
+
+    @Override
+    public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+      int index = indexOf(key);
+      if(index >= 0){
+        if(content[index + 1] == value)
+          return this;
+        Object[] updated = content.clone();
+        updated[index + 1] = value;
+        return new HashCollisionNode<>(hash, updated);
+      }
+      Object[] updated = new Object[content.length + 2];
+      System.arraycopy(content, 0, updated, 0, content.length);
+      updated[content.length] = key;
+      updated[content.length + 1] = value;
+      return new HashCollisionNode<>(hash, updated);
+    }
+
+    @Override
+    public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+      if(this.hash != hash)
+        return this;
+      int index = indexOf(key);
+      if(index < 0)
+        return this;
+      if(content.length == 4){
+        int remaining = index == 0 ? 2 : 0;
+        //re-positioned by the parent
+        return new BitmapIndexedNode<>(bitpos(mask(hash, 0)), 0, new Object[]{content[remaining], content[remaining + 1]},
+                                       new int[]{hash}, 1);
+      }
+      Object[] updated = new Object[content.length - 2];
+      System.arraycopy(content, 0, updated, 0, index);
+      System.arraycopy(content, index + 2, updated, index, content.length - index - 2);
+      return new HashCollisionNode<>(hash, updated);
+    }
+
+    @Override
+    public Option<V> get(int bitShiftDepth, int hash, K key) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      return index >= 0 ? Option.of((V) content[index + 1]) : Option.none();
+    }
+
+    @Override
+    public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      return index >= 0 ? (V) content[index + 1] : alt;
+    }
+
+    @Override
+    public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      return index >= 0 ? (V) content[index + 1] : alt.get();
+    }
+
+    @Override
+    public boolean containsKey(int bitShiftDepth, int hash, K key) {
+      return this.hash == hash && indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return content.length / 2;
+    }
+
+    @Override
+    int payloadArity() {
+      return content.length / 2;
+    }
+
+    @Override
+    int nodeArity() {
+      return 0;
+    }
+
+    @Override
+    K keyAt(int index) {
+      return (K) content[2 * index];
+    }
+
+    @Override
+    V valueAt(int index) {
+      return (V) content[2 * index + 1];
+    }
+
+    @Override
+    int hashAt(int index) {
+      return hash;
+    }
+
+    @Override
+    Node<K, V> nodeAt(int index) {
+      throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    boolean isSingleton() {
+      return false;
+    }
+
+    //entries may be stored in any order
+    @Override
+    public boolean equals(Object o) {
+      if(this == o)
+        return true;
+      if(!(o instanceof HashCollisionNode))
+        return false;
+      HashCollisionNode<K,V> that = (HashCollisionNode<K,V>) o;
+      if(hash != that.hash || content.length != that.content.length)
+        return false;
+      for(int i = 0; i < content.length; i += 2){
+        int index = that.indexOf((K) content[i]);
+        if(index < 0 || !Objects.equals(content[i + 1], that.content[index + 1]))
+          return false;
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int h = 0;
+      for(int i = 0; i < content.length; i += 2){
+        h += entryHashCode(hash, content[i + 1]);
+      }
+      return h;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder s = new StringBuilder("[COLLISION : h:" + hash);
+      for(int i = 0; i < content.length; i += 2){
+        s.append(",[k:" + content[i] + ",v:" + content[i + 1] + "]");
+      }
+      return s.append("]").toString();
+    }
+  }
+
+  /*
+   * Depth first iteration using an explicit stack, inline entries of a node are emitted before its sub-nodes
+   */
+  static abstract class NodeIterator<K,V,R> implements Iterator<R> {
+    private final Node<K,V>[] stack = new Node[MAX_DEPTH];
+    private final int[] nextNode = new int[MAX_DEPTH];
+    private int top = -1;
+    private Node<K,V> current;
+    private int payloadIndex;
+    private int payloadArity;
+
+    NodeIterator(Node<K,V> root) {
+      push(root);
+    }
+
+    private void push(Node<K,V> node){
+      top++;
+      stack[top] = node;
+      nextNode[top] = 0;
+      current = node;
+      payloadIndex = 0;
+      payloadArity = node.payloadArity();
+    }
+
+    abstract R emit(Node<K,V> node, int index);
+
+    @Override
+    public boolean hasNext() {
+      while(payloadIndex >= payloadArity){
+        if(top < 0)
+          return false;
+        Node<K,V> node = stack[top];
+        if(nextNode[top] < node.nodeArity())
+          push(node.nodeAt(nextNode[top]++));
+        else
+          top--;
+      }
+      return true;
+    }
+
+    @Override
+    public R next() {
+      if(!hasNext())
+        throw new NoSuchElementException();
+      return emit(current, payloadIndex++);
+    }
+  }
+
+}
@@ -0,0 +1,604 @@
+package cyclops.data.base;
+
+
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Persistent rope of chars.
+ *
+ * A strict Rope is a height balanced (AVL) tree of Concat nodes over Leaf nodes that hold slices of an immutable
+ * CharSequence. Concatenation joins two trees along the spine of the taller one, and take / drop split a tree
+ * by re-joining the sub-trees either side of the split point, so append, take, drop, substring and charAt are all
+ * O(log n). Slicing a Leaf shares its chars rather than copying them, and short adjacent leaves are merged when joined.
+ *
+ * Ropes read from a Reader, CharBuffer or Iterator are lazy - chars are pulled a chunk at a time, as they are needed,
+ * and memoized in a strict prefix. take, drop and append of a lazy Rope are themselves lazy.
+ */
+public abstract class Rope implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    static final int CHUNK = 1024;
+    static final int MERGE = 128;
+
+    private static final Rope EMPTY = new Leaf("", 0, 0);
+
+    Rope(){
+    }
+
+    public static Rope empty(){
+        return EMPTY;
+    }
+
+    public static Rope of(CharSequence chars){
+        String value = chars.toString();
+        return value.isEmpty() ? EMPTY : new Leaf(value, 0, value.length());
+    }
+
+    /**
+     * @param it Iterator to read chars from on demand
+     * @return Lazy Rope over the remaining chars of the Iterator
+     */
+    public static Rope fromIterator(Iterator<Character> it){
+        return new Streaming(() -> {
+            if(!it.hasNext())
+                return null;
+            StringBuilder chunk = new StringBuilder();
+            while(chunk.length() < CHUNK && it.hasNext()){
+                chunk.append(it.next().charValue());
+            }
+            return of(chunk);
+        });
+    }
+
+    /**
+     * @param reader Reader to read chars from on demand (the Reader is not closed)
+     * @return Lazy Rope over the remaining chars of the Reader
+     */
+    public static Rope fromReader(Reader reader){
+        char[] buffer = new char[CHUNK];
+        return new Streaming(() -> {
+            try {
+                int read;
+                do {
+                    read = reader.read(buffer);
+                } while (read == 0);
+                return read < 0 ? null : of(new String(buffer, 0, read));
+            }catch(IOException e){
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        });
+    }
+
+    /**
+     * @param buffer CharBuffer to read the remaining chars of on demand (the position of the buffer is not changed)
+     * @return Lazy Rope over the remaining chars of the buffer
+     */
+    public static Rope fromCharBuffer(CharBuffer buffer){
+        CharBuffer chars = buffer.duplicate();
+        return new Streaming(() -> {
+            if(!chars.hasRemaining())
+                return null;
+            char[] chunk = new char[Math.min(CHUNK, chars.remaining())];
+            chars.get(chunk);
+            return of(new String(chunk));
+        });
+    }
+
+    /**
+     * @return Number of chars in this Rope (forces a lazy Rope)
+     */
+    public abstract int length();
+
+    /**
+     * @param index Position of char
+     * @return char at index
+     * @throws IndexOutOfBoundsException if index is negative or not less than the length of this Rope
+     */
+    public abstract char charAt(int index);
+
+    public abstract Rope take(int n);
+
+    public abstract Rope drop(int n);
+
+    public abstract Rope append(Rope other);
+
+    public abstract boolean isEmpty();
+
+    public abstract Iterator<Character> iterator();
+
+    public Rope prepend(Rope other){
+        return other.append(this);
+    }
+
+    public Rope substring(int start, int end){
+        return drop(start).take(end - start);
+    }
+
+    public Rope reverse(){
+        String value = toString();
+        char[] reversed = new char[value.length()];
+        for(int i = 0; i < reversed.length; i++){
+            reversed[i] = value.charAt(reversed.length - 1 - i);
+        }
+        return of(new String(reversed));
+    }
+
+    abstract int height();
+
+    /*
+     * AVL join of two strict ropes, O(|height(l) - height(r)|)
+     */
+    static Rope join(Rope l, Rope r){
+        if(l.length() == 0)
+            return r;
+        if(r.length() == 0)
+            return l;
+        if(l instanceof Leaf && r instanceof Leaf && l.length() + r.length() <= MERGE)
+            return ((Leaf) l).merge((Leaf) r);
+        int hl = l.height();
+        int hr = r.height();
+        if(hl > hr + 1)
+            return joinRight((Concat) l, r);
+        if(hr > hl + 1)
+            return joinLeft(l, (Concat) r);
+        return new Concat(l, r);
+    }
+
+    private static Rope joinRight(Concat l, Rope r){
+        Rope c = l.right;
+        Rope joined = c.height() <= r.height() + 1 ? join(c, r) : joinRight((Concat) c, r);
+        return balance(l.left, joined);
+    }
+
+    private static Rope joinLeft(Rope l, Concat r){
+        Rope c = r.left;
+        Rope joined = c.height() <= l.height() + 1 ? join(l, c) : joinLeft(l, (Concat) c);
+        return balance(joined, r.right);
+    }
+
+    //heights of left and right differ by at most 2 and both are balanced
+    private static Rope balance(Rope left, Rope right){
+        if(right.height() > left.height() + 1){
+            Concat r = (Concat) right;
+            if(r.left.height() > r.right.height()){
+                Concat rl = (Concat) r.left;
+                return new Concat(new Concat(left, rl.left), new Concat(rl.right, r.right));
+            }
+            return new Concat(new Concat(left, r.left), r.right);
+        }
+        if(left.height() > right.height() + 1){
+            Concat l = (Concat) left;
+            if(l.right.height() > l.left.height()){
+                Concat lr = (Concat) l.right;
+                return new Concat(new Concat(l.left, lr.left), new Concat(lr.right, right));
+            }
+            return new Concat(l.left, new Concat(l.right, right));
+        }
+        return new Concat(left, right);
+    }
+
+    private static abstract class Strict extends Rope {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Rope append(Rope other) {
+            if(other instanceof Streaming)
+                return new Streaming(new Sequence(new Whole(this), ((Streaming) other).chunks()));
+            return join(this, other);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return length() == 0;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if(index < 0 || index >= length())
+                throw new IndexOutOfBoundsException("Index " + index + " out of range for Rope of length " + length());
+            Rope node = this;
+            while(node instanceof Concat){
+                Concat concat = (Concat) node;
+                int leftLength = concat.left.length();
+                if(index < leftLength){
+                    node = concat.left;
+                }else{
+                    index -= leftLength;
+                    node = concat.right;
+                }
+            }
+            return ((Leaf) node).charAt(index);
+        }
+
+        @Override
+        public Iterator<Character> iterator() {
+            return new Iterator<Character>() {
+                final Deque<Rope> pending = new ArrayDeque<>();
+                Leaf leaf = null;
+                int index = 0;
+                {
+                    pending.push(Strict.this);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    while(leaf == null || index == leaf.length){
+                        if(pending.isEmpty())
+                            return false;
+                        Rope node = pending.pop();
+                        while(node instanceof Concat){
+                            pending.push(((Concat) node).right);
+                            node = ((Concat) node).left;
+                        }
+                        leaf = (Leaf) node;
+                        index = 0;
+                    }
+                    return true;
+                }
+
+                @Override
+                public Character next() {
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    return leaf.chars.charAt(leaf.offset + index++);
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(length());
+            Deque<Rope> pending = new ArrayDeque<>();
+            pending.push(this);
+            while(!pending.isEmpty()){
+                Rope node = pending.pop();
+                while(node instanceof Concat){
+                    pending.push(((Concat) node).right);
+                    node = ((Concat) node).left;
+                }
+                Leaf leaf = (Leaf) node;
+                builder.append(leaf.chars, leaf.offset, leaf.offset + leaf.length);
+            }
+            return builder.toString();
+        }
+    }
+
+    private static final class Leaf extends Strict {
+        private static final long serialVersionUID = 1L;
+        final CharSequence chars;
+        final int offset;
+        final int length;
+
+        Leaf(CharSequence chars, int offset, int length){
+            this.chars = chars;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        Leaf merge(Leaf next){
+            StringBuilder builder = new StringBuilder(length + next.length);
+            builder.append(chars, offset, offset + length)
+                   .append(next.chars, next.offset, next.offset + next.length);
+            return new Leaf(builder.toString(), 0, builder.length());
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if(index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("Index " + index + " out of range for Rope of length " + length);
+            return chars.charAt(offset + index);
+        }
+
+        @Override
+        public Rope take(int n) {
+            if(n <= 0)
+                return EMPTY;
+            if(n >= length)
+                return this;
+            return new Leaf(chars, offset, n);
+        }
+
+        @Override
+        public Rope drop(int n) {
+            if(n <= 0)
+                return this;
+            if(n >= length)
+                return EMPTY;
+            return new Leaf(chars, offset + n, length - n);
+        }
+
+        @Override
+        int height() {
+            return 0;
+        }
+    }
+
+    private static final class Concat extends Strict {
+        private static final long serialVersionUID = 1L;
+        final Rope left;
+        final Rope right;
+        private final int length;
+        private final int height;
+
+        Concat(Rope left, Rope right){
+            this.left = left;
+            this.right = right;
+            this.length = left.length() + right.length();
+            this.height = Math.max(left.height(), right.height()) + 1;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public Rope take(int n) {
+            if(n <= 0)
+                return EMPTY;
+            if(n >= length)
+                return this;
+            int leftLength = left.length();
+            if(n <= leftLength)
+                return left.take(n);
+            return join(left, right.take(n - leftLength));
+        }
+
+        @Override
+        public Rope drop(int n) {
+            if(n <= 0)
+                return this;
+            if(n >= length)
+                return EMPTY;
+            int leftLength = left.length();
+            if(n >= leftLength)
+                return right.drop(n - leftLength);
+            return join(left.drop(n), right);
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+    }
+
+    /*
+     * Source of the strict pieces of a lazy Rope, returns null once exhausted
+     */
+    private interface Chunks {
+        Rope next();
+    }
+
+    private static final class Whole implements Chunks {
+        private Rope rope;
+
+        Whole(Rope rope){
+            this.rope = rope;
+        }
+
+        @Override
+        public Rope next() {
+            Rope result = rope;
+            rope = null;
+            return result;
+        }
+    }
+
+    private static final class Sequence implements Chunks {
+        private Chunks first;
+        private final Chunks second;
+
+        Sequence(Chunks first, Chunks second){
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Rope next() {
+            if(first != null){
+                Rope next = first.next();
+                if(next != null)
+                    return next;
+                first = null;
+            }
+            return second.next();
+        }
+    }
+
+    //the chars of a lazy Rope between start (inclusive) and end (exclusive), forced no further than necessary
+    private static final class Slice implements Chunks {
+        private final Streaming rope;
+        private final int end;
+        private int position;
+
+        Slice(Streaming rope, int start, int end){
+            this.rope = rope;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public Rope next() {
+            if(position >= end)
+                return null;
+            Rope forced = rope.ensure(position + 1);
+            if(forced.length() <= position)
+                return null;
+            int to = Math.min(forced.length(), end);
+            Rope piece = forced.substring(position, to);
+            position = to;
+            return piece;
+        }
+    }
+
+    /*
+     * Lazy Rope. Chars are pulled from the source as they are needed and joined onto a strict prefix, which is
+     * memoized so the source is read at most once.
+     *
+     * take and drop of a lazy Rope return a view of the chars between start and end of the original lazy Rope (base),
+     * taking or dropping from a view composes the offsets over the same base so chains of take / drop stay shallow.
+     */
+    private static final class Streaming extends Rope {
+        private static final long serialVersionUID = 1L;
+        private volatile Rope prefix = EMPTY;
+        private volatile boolean done = false;
+        private Chunks source;
+        private final Streaming base;
+        private final int start;
+        private final int end;
+
+        Streaming(Chunks source){
+            this.source = source;
+            this.base = null;
+            this.start = 0;
+            this.end = Integer.MAX_VALUE;
+        }
+
+        private Streaming(Streaming base, int start, int end){
+            this.source = new Slice(base, start, end);
+            this.base = base;
+            this.start = start;
+            this.end = end;
+        }
+
+        //view of the chars between from and to of this Rope, over the original lazy Rope
+        private Streaming view(int from, int to){
+            if(base == null)
+                return new Streaming(this, from, to);
+            return new Streaming(base, offset(from), offset(to));
+        }
+
+        private int offset(int n){
+            return (int) Math.min(end, (long) start + n);
+        }
+
+        //the chars of this Rope, read from the original lazy Rope
+        Chunks chunks(){
+            return base == null ? new Slice(this, 0, Integer.MAX_VALUE) : new Slice(base, start, end);
+        }
+
+        //the strict prefix, forced until it is at least n chars long or the source is exhausted
+        Rope ensure(int n){
+            Rope current = prefix;
+            if(done || current.length() >= n)
+                return current;
+            synchronized (this){
+                current = prefix;
+                while(!done && current.length() < n){
+                    Rope next = source.next();
+                    if(next == null){
+                        done = true;
+                        source = null;
+                    }else{
+                        current = join(current, next);
+                        prefix = current;
+                    }
+                }
+                return current;
+            }
+        }
+
+        private Rope force(){
+            return ensure(Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int length() {
+            return force().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if(index < 0)
+                throw new IndexOutOfBoundsException("Index " + index + " out of range");
+            return ensure(index + 1).charAt(index);
+        }
+
+        @Override
+        public Rope take(int n) {
+            if(n <= 0)
+                return EMPTY;
+            Rope current = prefix;
+            if(done || current.length() >= n)
+                return current.take(n);
+            return view(0, n);
+        }
+
+        @Override
+        public Rope drop(int n) {
+            if(n <= 0)
+                return this;
+            if(done)
+                return prefix.drop(n);
+            return view(n, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public Rope append(Rope other) {
+            if(done)
+                return prefix.append(other);
+            Chunks next = other instanceof Streaming ? ((Streaming) other).chunks() : new Whole(other);
+            return new Streaming(new Sequence(chunks(), next));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return ensure(1).length() == 0;
+        }
+
+        @Override
+        public Iterator<Character> iterator() {
+            return new Iterator<Character>() {
+                int position = 0;
+                Iterator<Character> forced = EMPTY.iterator();
+
+                @Override
+                public boolean hasNext() {
+                    if(forced.hasNext())
+                        return true;
+                    Rope current = ensure(position + 1);
+                    if(current.length() <= position)
+                        return false;
+                    forced = current.drop(position).iterator();
+                    return true;
+                }
+
+                @Override
+                public Character next() {
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    position++;
+                    return forced.next();
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return force().toString();
+        }
+
+        @Override
+        int height() {
+            return force().height();
+        }
+
+        private Object writeReplace() {
+            return force();
+        }
+    }
+}
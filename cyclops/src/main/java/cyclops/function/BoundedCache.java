@@ -0,0 +1,298 @@
+package cyclops.function;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A size bounded, least recently used Cacheable with optional expiry and refresh after write. Concurrent loads of the
+ * same key are collapsed into a single call to the loading function and hit / miss / eviction / load time counters are
+ * available via stats.
+ *
+ * <pre>
+ * {@code
+ *  BoundedCache<String> cache = BoundedCache.<String>builder()
+ *                                           .maximumSize(10_000)
+ *                                           .expireAfterWrite(10, TimeUnit.MINUTES)
+ *                                           .build();
+ *
+ *  Function1<Integer,String> fn = Memoize.memoizeFunction(this::load, cache);
+ *  BoundedCache.Stats stats = cache.stats();
+ * }
+ * </pre>
+ *
+ * Recency is recorded on a best effort basis, a hit that finds the eviction order locked by another thread is not
+ * re-ordered.
+ *
+ * @param <V> Type of the cached values
+ */
+public final class BoundedCache<V> implements Cacheable<V> {
+
+    private final long maximumSize;
+    private final long expireAfterWriteNanos;
+    private final long refreshAfterWriteNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<Object, Entry<V>> entries = new ConcurrentHashMap<>();
+    //access ordered, guarded by lock
+    private final LinkedHashMap<Object, Entry<V>> order = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    private BoundedCache(Builder<V> builder) {
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.refreshAfterWriteNanos = builder.refreshAfterWriteNanos;
+        this.refreshExecutor = builder.refreshExecutor;
+        this.ticker = builder.ticker;
+    }
+
+    public static <V> Builder<V> builder(){
+        return new Builder<>();
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries to retain
+     * @return Least recently used cache with the specified maximum size
+     */
+    public static <V> BoundedCache<V> lru(long maximumSize){
+        return BoundedCache.<V>builder().maximumSize(maximumSize).build();
+    }
+
+    @Override
+    public V computeIfAbsent(Object key, Function<Object, V> fn) {
+        Entry<V> entry = entries.get(key);
+        if(entry != null && entry.loaded && !isExpired(entry, ticker.getAsLong())){
+            hits.increment();
+            recordAccess(key);
+            refreshIfStale(key, entry, fn);
+            return entry.value;
+        }
+        if(entry == null){
+            Entry<V> created = new Entry<>();
+            entry = entries.putIfAbsent(key, created);
+            if(entry == null){
+                entry = created;
+                recordInsert(key, created);
+            }
+        }
+        return load(key, entry, fn);
+    }
+
+    private V load(Object key, Entry<V> entry, Function<Object, V> fn){
+        synchronized (entry){
+            //another thread may have completed the load while this one was waiting
+            if(entry.loaded && !isExpired(entry, ticker.getAsLong())){
+                hits.increment();
+                return entry.value;
+            }
+            misses.increment();
+            long start = System.nanoTime();
+            try {
+                V value = fn.apply(key);
+                entry.value = value;
+                entry.writeTime = ticker.getAsLong();
+                entry.loaded = true;
+                return value;
+            } catch (RuntimeException | Error e) {
+                loadFailures.increment();
+                if(!entry.loaded)
+                    remove(key, entry);
+                throw e;
+            } finally {
+                totalLoadTimeNanos.add(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void refreshIfStale(Object key, Entry<V> entry, Function<Object, V> fn){
+        if(refreshAfterWriteNanos <= 0 || ticker.getAsLong() - entry.writeTime < refreshAfterWriteNanos)
+            return;
+        if(!entry.refreshing.compareAndSet(false, true))
+            return;
+        refreshExecutor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                V value = fn.apply(key);
+                synchronized (entry){
+                    entry.value = value;
+                    entry.writeTime = ticker.getAsLong();
+                }
+            } catch (Throwable t) {
+                //keep serving the current value, the next stale read will retry
+                loadFailures.increment();
+            } finally {
+                totalLoadTimeNanos.add(System.nanoTime() - start);
+                entry.refreshing.set(false);
+            }
+        });
+    }
+
+    private boolean isExpired(Entry<V> entry, long now){
+        return expireAfterWriteNanos > 0 && now - entry.writeTime >= expireAfterWriteNanos;
+    }
+
+    private void recordAccess(Object key){
+        if(lock.tryLock()){
+            try {
+                order.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void recordInsert(Object key, Entry<V> entry){
+        lock.lock();
+        try {
+            order.put(key, entry);
+            if(order.size() <= maximumSize)
+                return;
+            Iterator<Map.Entry<Object, Entry<V>>> it = order.entrySet().iterator();
+            while(order.size() > maximumSize && it.hasNext()){
+                Map.Entry<Object, Entry<V>> eldest = it.next();
+                it.remove();
+                if(entries.remove(eldest.getKey(), eldest.getValue()))
+                    evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Object key, Entry<V> entry){
+        if(entries.remove(key, entry)){
+            lock.lock();
+            try {
+                order.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Remove all entries, statistics are retained
+     */
+    public void clear(){
+        lock.lock();
+        try {
+            order.clear();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long size(){
+        return entries.size();
+    }
+
+    /**
+     * @return Snapshot of the statistics recorded by this cache
+     */
+    public Stats stats(){
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), loadFailures.sum(), totalLoadTimeNanos.sum());
+    }
+
+    private static final class Entry<V>{
+        volatile V value;
+        volatile long writeTime;
+        volatile boolean loaded;
+        final AtomicBoolean refreshing = new AtomicBoolean(false);
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long loadFailureCount;
+        private final long totalLoadTimeNanos;
+
+        public double hitRate(){
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        public double averageLoadTimeNanos(){
+            return missCount == 0 ? 0.0 : (double) totalLoadTimeNanos / missCount;
+        }
+    }
+
+    public static final class Builder<V>{
+        private long maximumSize = Long.MAX_VALUE;
+        private long expireAfterWriteNanos = 0;
+        private long refreshAfterWriteNanos = 0;
+        private Executor refreshExecutor = Runnable::run;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(){
+        }
+
+        public Builder<V> maximumSize(long maximumSize){
+            if(maximumSize < 0)
+                throw new IllegalArgumentException("maximumSize must not be negative");
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Entries older than the specified duration are reloaded on the next access
+         */
+        public Builder<V> expireAfterWrite(long duration, TimeUnit unit){
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Entries older than the specified duration are reloaded on the calling thread the next time they are accessed
+         */
+        public Builder<V> refreshAfterWrite(long duration, TimeUnit unit){
+            return refreshAfterWrite(duration, unit, Runnable::run);
+        }
+
+        /**
+         * Entries older than the specified duration are reloaded on the supplied Executor the next time they are
+         * accessed, the current value continues to be served until the reload completes
+         */
+        public Builder<V> refreshAfterWrite(long duration, TimeUnit unit, Executor executor){
+            this.refreshAfterWriteNanos = unit.toNanos(duration);
+            this.refreshExecutor = executor;
+            return this;
+        }
+
+        /**
+         * @param ticker Source of nanosecond time used for expiry and refresh (System::nanoTime by default)
+         */
+        public Builder<V> ticker(LongSupplier ticker){
+            this.ticker = ticker;
+            return this;
+        }
+
+        public BoundedCache<V> build(){
+            return new BoundedCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.DoubleStreamX;
+import com.oath.cyclops.internal.stream.spliterators.doubles.ReversingDoubleArraySpliterator;
+
+import java.util.OptionalDouble;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequence of unboxed doubles, each operator in the chain passes primitive values directly to the next so no Double is
+ * allocated until the sequence is explicitly converted back via boxed or mapToObj.
+ *
+ * Synchronous DoubleSeqs are created via the static factory methods here or ReactiveSeq#mapToDoubleSeq, push based
+ * (reactive) DoubleSeqs via mapToDoubleSeq on a Spouts based ReactiveSeq.
+ *
+ * <pre>
+ * {@code
+ *  double total = DoubleSeq.of(1.5,2.5,3.5)
+ *                       .map(d->d*2)
+ *                       .filter(d->d>4)
+ *                       .sum();
+ * }
+ * </pre>
+ */
+public interface DoubleSeq {
+
+    static DoubleSeq of(double... values){
+        return fromSpliterator(new ReversingDoubleArraySpliterator<>(values,0,values.length,false));
+    }
+
+    static DoubleSeq fromSpliterator(Spliterator.OfDouble spliterator){
+        return new DoubleStreamX(StreamSupport.doubleStream(spliterator,false));
+    }
+
+    static DoubleSeq fromDoubleStream(DoubleStream stream){
+        return new DoubleStreamX(stream);
+    }
+
+    DoubleSeq map(DoubleUnaryOperator fn);
+
+    DoubleSeq filter(DoublePredicate predicate);
+
+    DoubleSeq peek(DoubleConsumer c);
+
+    <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn);
+
+    /**
+     * @return A ReactiveSeq of the same type (synchronous or push based) as this DoubleSeq
+     */
+    ReactiveSeq<Double> boxed();
+
+    void forEach(DoubleConsumer action);
+
+    double reduce(double identity, DoubleBinaryOperator accumulator);
+
+    double sum();
+
+    long count();
+
+    OptionalDouble min();
+
+    OptionalDouble max();
+
+    OptionalDouble average();
+
+    double[] toArray();
+}
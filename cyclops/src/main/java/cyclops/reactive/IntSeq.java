@@ -0,0 +1,87 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.IntStreamX;
+import com.oath.cyclops.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
+import com.oath.cyclops.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequence of unboxed ints, each operator in the chain passes primitive values directly to the next so no Integer is
+ * allocated until the sequence is explicitly converted back via boxed or mapToObj.
+ *
+ * Synchronous IntSeqs are created via the static factory methods here or ReactiveSeq#mapToIntSeq, push based
+ * (reactive) IntSeqs via Spouts#rangeInts or mapToIntSeq on a Spouts based ReactiveSeq.
+ *
+ * <pre>
+ * {@code
+ *  int total = IntSeq.range(0,1000)
+ *                    .map(i->i*2)
+ *                    .filter(i->i%3==0)
+ *                    .sum();
+ * }
+ * </pre>
+ */
+public interface IntSeq {
+
+    static IntSeq of(int... values){
+        return fromSpliterator(new ReversingIntArraySpliterator<>(values,0,values.length,false));
+    }
+
+    /**
+     * @param start Number of range to skip from
+     * @param end Number for range to take at
+     * @return IntSeq over the range
+     */
+    static IntSeq range(int start, int end){
+        if(start>end)
+            return range(end,start);
+        return fromSpliterator(new ReversingRangeIntSpliterator(start, end, 1,false));
+    }
+
+    static IntSeq fromSpliterator(Spliterator.OfInt spliterator){
+        return new IntStreamX(StreamSupport.intStream(spliterator,false));
+    }
+
+    static IntSeq fromIntStream(IntStream stream){
+        return new IntStreamX(stream);
+    }
+
+    IntSeq map(IntUnaryOperator fn);
+
+    IntSeq filter(IntPredicate predicate);
+
+    IntSeq peek(IntConsumer c);
+
+    <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn);
+
+    /**
+     * @return A ReactiveSeq of the same type (synchronous or push based) as this IntSeq
+     */
+    ReactiveSeq<Integer> boxed();
+
+    void forEach(IntConsumer action);
+
+    int reduce(int identity, IntBinaryOperator accumulator);
+
+    int sum();
+
+    long count();
+
+    OptionalInt min();
+
+    OptionalInt max();
+
+    OptionalDouble average();
+
+    int[] toArray();
+}
@@ -0,0 +1,87 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.LongStreamX;
+import com.oath.cyclops.internal.stream.spliterators.longs.ReversingLongArraySpliterator;
+import com.oath.cyclops.internal.stream.spliterators.longs.ReversingRangeLongSpliterator;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequence of unboxed longs, each operator in the chain passes primitive values directly to the next so no Long is
+ * allocated until the sequence is explicitly converted back via boxed or mapToObj.
+ *
+ * Synchronous LongSeqs are created via the static factory methods here or ReactiveSeq#mapToLongSeq, push based
+ * (reactive) LongSeqs via Spouts#rangeLongs or mapToLongSeq on a Spouts based ReactiveSeq.
+ *
+ * <pre>
+ * {@code
+ *  long total = LongSeq.range(0,1000)
+ *                    .map(i->i*2)
+ *                    .filter(i->i%3==0)
+ *                    .sum();
+ * }
+ * </pre>
+ */
+public interface LongSeq {
+
+    static LongSeq of(long... values){
+        return fromSpliterator(new ReversingLongArraySpliterator<>(values,0,values.length,false));
+    }
+
+    /**
+     * @param start Number of range to skip from
+     * @param end Number for range to take at
+     * @return LongSeq over the range
+     */
+    static LongSeq range(long start, long end){
+        if(start>end)
+            return range(end,start);
+        return fromSpliterator(new ReversingRangeLongSpliterator(start, end, 1,false));
+    }
+
+    static LongSeq fromSpliterator(Spliterator.OfLong spliterator){
+        return new LongStreamX(StreamSupport.longStream(spliterator,false));
+    }
+
+    static LongSeq fromLongStream(LongStream stream){
+        return new LongStreamX(stream);
+    }
+
+    LongSeq map(LongUnaryOperator fn);
+
+    LongSeq filter(LongPredicate predicate);
+
+    LongSeq peek(LongConsumer c);
+
+    <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn);
+
+    /**
+     * @return A ReactiveSeq of the same type (synchronous or push based) as this LongSeq
+     */
+    ReactiveSeq<Long> boxed();
+
+    void forEach(LongConsumer action);
+
+    long reduce(long identity, LongBinaryOperator accumulator);
+
+    long sum();
+
+    long count();
+
+    OptionalLong min();
+
+    OptionalLong max();
+
+    OptionalDouble average();
+
+    long[] toArray();
+}
@@ -12,6 +12,9 @@ import cyclops.control.*;
 
 import cyclops.data.Enumeration;
 
+import com.oath.cyclops.internal.stream.ExternalSort;
+import com.oath.cyclops.internal.stream.spliterators.push.ConcurrentFlatMapper;
+import com.oath.cyclops.internal.stream.Grouping;
 import com.oath.cyclops.internal.stream.OneShotStreamX;
 import com.oath.cyclops.internal.stream.spliterators.doubles.ReversingDoubleArraySpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
@@ -22,6 +25,7 @@ import com.oath.cyclops.types.factory.Unit;
 import com.oath.cyclops.types.foldable.To;
 import com.oath.cyclops.types.futurestream.Continuation;
 import com.oath.cyclops.types.recoverable.OnEmptySwitch;
+import com.oath.cyclops.types.reactive.BoundedBufferPolicy;
 import com.oath.cyclops.types.reactive.QueueBasedSubscriber;
 import com.oath.cyclops.types.reactive.QueueBasedSubscriber.Counter;
 import com.oath.cyclops.types.traversable.IterableX;
@@ -808,6 +812,46 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Convert to an unboxed IntSeq, subsequent operators on the IntSeq work directly with primitive ints
+     *
+     * <pre>
+     * {@code
+     * ReactiveSeq.of("a","bb","ccc")
+     *            .mapToIntSeq(String::length)
+     *            .map(i->i*2)
+     *            .sum();
+     * //12
+     * }
+     * </pre>
+     *
+     * @param fn Conversion function
+     * @return IntSeq of the same type (synchronous or push based) as this ReactiveSeq
+     */
+    default IntSeq mapToIntSeq(ToIntFunction<? super T> fn){
+        return IntSeq.fromIntStream(StreamSupport.stream(this.spliterator(),false).mapToInt(fn));
+    }
+
+    /**
+     * Convert to an unboxed LongSeq, subsequent operators on the LongSeq work directly with primitive longs
+     *
+     * @param fn Conversion function
+     * @return LongSeq of the same type (synchronous or push based) as this ReactiveSeq
+     */
+    default LongSeq mapToLongSeq(ToLongFunction<? super T> fn){
+        return LongSeq.fromLongStream(StreamSupport.stream(this.spliterator(),false).mapToLong(fn));
+    }
+
+    /**
+     * Convert to an unboxed DoubleSeq, subsequent operators on the DoubleSeq work directly with primitive doubles
+     *
+     * @param fn Conversion function
+     * @return DoubleSeq of the same type (synchronous or push based) as this ReactiveSeq
+     */
+    default DoubleSeq mapToDoubleSeq(ToDoubleFunction<? super T> fn){
+        return DoubleSeq.fromDoubleStream(StreamSupport.stream(this.spliterator(),false).mapToDouble(fn));
+    }
+
 
 
     /**
@@ -848,108 +892,53 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     public <T> ReactiveSeq<T> unit(T unit);
 
+    /**
+     * Apply the supplied function to a parallel Stream over the elements of this ReactiveSeq, the results are emitted
+     * in encounter order once the parallel computation has completed.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.range(0, 1000)
+     *             .parallel(s -> s.map(i -> i * 2))
+     *  //[0, 2, 4, ...]
+     * }
+     * </pre>
+     *
+     * @see ReactiveSeq#foldParallel(Function)
+     * @param fn Function to apply to the parallel Stream
+     * @return ReactiveSeq of the results
+     */
     default <R> ReactiveSeq<R> parallel(Function<? super Stream<T>,? extends Stream<? extends R>> fn){
-        Queue<R> queue = QueueFactories.<R>unboundedNonBlockingQueue()
-                                                                  .build();
-
-        ReactiveSeq<Iterator<? extends R>> stream = ReactiveSeq.<Stream<? extends R>>generate(() -> foldParallel(fn))
-                                                                    .take(1)
-                                                                    .map(s->s.iterator());
-        Iterator[] it = {null};
-        Continuation[] store = {null};
-        Continuation cont =
-                new Continuation(()->{
-                    if(it[0]==null)
-                        it[0] = stream.asFunction().apply(0l);
-                    Iterator<R> local = it[0];
-                    try {
-                        if (!local.hasNext()) {
-                            queue.close();
-                            return Continuation.empty();
-                        } else {
-                            queue.offer(local.next());
-                        }
-                    }catch(Throwable t){
-                        queue.close();
-                        throw ExceptionSoftener.throwSoftenedException(t);
-                    }
-                    return store[0];
-
-
-                });
-        ;
-        store[0]=cont;
-        queue.addContinuation(cont);
-        return queue.stream();
-
-
+        return ReactiveSeq.defer(() -> foldParallel(s -> fn.apply(s).collect(Collectors.<R>toList())));
     }
-    default <R> ReactiveSeq<R> parallel(ForkJoinPool fj,Function<? super Stream<T>,? extends Stream<? extends R>> fn){
-        Queue<R> queue = QueueFactories.<R>unboundedNonBlockingQueue()
-                .build();
-
-        ReactiveSeq<? extends Iterator<? extends R>> stream = ReactiveSeq.<Stream<? extends R>>generate(() -> foldParallel(fj,fn))
-                .take(1)
-                .map(s->s.iterator());
-        Iterator[] it = {null};
-        Continuation[] store = {null};
-        Continuation cont =
-                new Continuation(()->{
-                    if(it[0]==null)
-                        it[0] = stream.asFunction().apply(0l);
-                    Iterator<R> local = it[0];
-                    try {
-                        if (!local.hasNext()) {
-                            queue.close();
-
-                            return Continuation.empty();
-                        } else {
-
-                            queue.offer(local.next());
-                        }
-                    }catch(Throwable t){
-                        queue.close();
-                        throw ExceptionSoftener.throwSoftenedException(t);
-                    }
-                    return store[0];
-
-
-                });
-        ;
-        store[0]=cont;
-        queue.addContinuation(cont);
-        return queue.stream();
-
 
+    /**
+     * Apply the supplied function to a parallel Stream over the elements of this ReactiveSeq, executing on the supplied
+     * ForkJoinPool
+     *
+     * @see ReactiveSeq#parallel(Function)
+     */
+    default <R> ReactiveSeq<R> parallel(ForkJoinPool fj,Function<? super Stream<T>,? extends Stream<? extends R>> fn){
+        return ReactiveSeq.defer(() -> foldParallel(fj, s -> fn.apply(s).collect(Collectors.<R>toList())));
     }
-    default <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
-
-
-        Queue<T> queue = QueueFactories.<T>unboundedNonBlockingQueue().build().withTimeout(1);
-
-
-        AtomicReference<Continuation> ref = new AtomicReference<>(null);
-        Continuation cont =
-                new Continuation(()->{
-
-                    if(ref.get()==null && ref.compareAndSet(null,Continuation.empty())){
-                        try {
-                            //use the first consuming thread to tell this Stream onto the Queue
-                            this.spliterator().forEachRemaining(queue::offer);
-                        }finally {
-                            queue.close();
-                        }
-
-                    }
-
-
-                        return Continuation.empty();
-                    });
-        ;
-
-        queue.addContinuation(cont);
-        return fn.apply(queue.jdkStream().parallel());
 
+    /**
+     * Apply the supplied function to a parallel Stream over the elements of this ReactiveSeq. Sources that can be split
+     * (arrays, random access Lists, ranges and map stages over them) are split directly into chunks for each ForkJoin
+     * worker, other sources are split into batches sized from the estimated size of the source.
+     *
+     * <pre>
+     * {@code
+     *  int sum = ReactiveSeq.range(0, 1_000_000)
+     *                       .foldParallel(s -> s.mapToInt(i -> i).sum());
+     * }
+     * </pre>
+     *
+     * @param fn Function to apply to the parallel Stream
+     * @return Result of applying the function
+     */
+    default <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
+        return fn.apply(StreamSupport.stream(ParallelSpliterators.splittable(this.spliterator()), true));
     }
     default <R> R foldParallel(ForkJoinPool fj,Function<? super Stream<T>,? extends R> fn){
 
@@ -1663,11 +1652,97 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     @Override
     default <K> HashMap<K, Vector<T>> groupBy(final Function<? super T, ? extends K> classifier) {
-        return this.foldLeft(HashMap.<K, Vector<T>>empty(), (a, b) -> {
-            K k = classifier.apply(b);
-            Vector<T> s = a.getOrElse(k, Vector.empty());
-            return a.put(k, s.plus(b));
-        });
+        return Grouping.groupBy(this, classifier);
+    }
+
+    /**
+     * Use classifier function to group elements in this Sequence into a Map, classification and grouping is performed
+     * in parallel on the common ForkJoinPool. Encounter order is retained within each group.
+     *
+     * <pre>
+     * {@code
+     *  HashMap<Integer, Vector<Integer>> map1 = ReactiveSeq.range(0, 1000).groupByParallel(i -> i % 2);
+     *  //[0 -> [0,2,4...], 1 -> [1,3,5...]]
+     * }
+     * </pre>
+     *
+     * @param classifier Function to compute the group key for each element
+     * @return HashMap of key to the elements in that group
+     */
+    default <K> HashMap<K, Vector<T>> groupByParallel(final Function<? super T, ? extends K> classifier) {
+        return groupByParallel(ForkJoinPool.commonPool(), classifier);
+    }
+
+    /**
+     * Use classifier function to group elements in this Sequence into a Map, classification and grouping is performed
+     * in parallel on the supplied ForkJoinPool
+     *
+     * @param pool ForkJoinPool to group on
+     * @param classifier Function to compute the group key for each element
+     * @return HashMap of key to the elements in that group
+     */
+    default <K> HashMap<K, Vector<T>> groupByParallel(final ForkJoinPool pool, final Function<? super T, ? extends K> classifier) {
+        return Grouping.groupByParallel(this, classifier, pool);
+    }
+
+    /**
+     * Reduce the elements of each group without materializing the groups themselves
+     *
+     * <pre>
+     * {@code
+     *  HashMap<Integer, Integer> sums = ReactiveSeq.of(1, 2, 3, 4).groupingReduce(i -> i % 2, 0, (acc, i) -> acc + i);
+     *  //[0 -> 6, 1 -> 4]
+     * }
+     * </pre>
+     *
+     * @param classifier Function to compute the group key for each element
+     * @param identity Starting value for each group
+     * @param accumulator Function to fold each element into the current value for its group
+     * @return HashMap of key to the reduced value for that group
+     */
+    default <K, R> HashMap<K, R> groupingReduce(final Function<? super T, ? extends K> classifier, final R identity,
+                                                final BiFunction<? super R, ? super T, ? extends R> accumulator) {
+        return Grouping.groupingReduce(this, classifier, identity, accumulator);
+    }
+
+    /**
+     * Reduce the elements of each group without materializing the groups themselves, partial results for the same group
+     * (e.g. from parallel execution) are merged with the supplied combiner
+     *
+     * <pre>
+     * {@code
+     *  HashMap<Integer, Integer> sums = ReactiveSeq.of(1, 2, 3, 4).groupingReduce(i -> i % 2, 0, (acc, i) -> acc + i, Integer::sum);
+     *  //[0 -> 6, 1 -> 4]
+     * }
+     * </pre>
+     *
+     * @param classifier Function to compute the group key for each element
+     * @param identity Starting value for each group
+     * @param accumulator Function to fold each element into the current value for its group
+     * @param combiner Function to merge two partial results for the same group
+     * @return HashMap of key to the reduced value for that group
+     */
+    default <K, R> HashMap<K, R> groupingReduce(final Function<? super T, ? extends K> classifier, final R identity,
+                                                final BiFunction<? super R, ? super T, ? extends R> accumulator,
+                                                final BinaryOperator<R> combiner) {
+        return Grouping.groupingReduce(this, classifier, identity, accumulator, combiner);
+    }
+
+    /**
+     * Count the number of elements per key
+     *
+     * <pre>
+     * {@code
+     *  HashMap<Boolean, Long> counts = ReactiveSeq.of(1, 2, 3, 4, 5).countBy(i -> i > 2);
+     *  //[false -> 2, true -> 3]
+     * }
+     * </pre>
+     *
+     * @param classifier Function to compute the group key for each element
+     * @return HashMap of key to the number of elements with that key
+     */
+    default <K> HashMap<K, Long> countBy(final Function<? super T, ? extends K> classifier) {
+        return Grouping.countBy(this, classifier);
     }
 
     /*
@@ -1792,6 +1867,29 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Sort this Stream without holding all of its elements in memory. Bounded runs are sorted in memory and spilled to
+     * temporary files via the configured Serializer, the sorted runs are then lazily merged back together. The sort is
+     * stable. Spill files are deleted as each run is merged, closing the returned Stream deletes any that remain if it
+     * is not fully consumed.
+     *
+     * <pre>
+     * {@code
+     *  SpillConfig<String> config = SpillConfig.builder(SpillConfig.Serializer.strings())
+     *                                          .runSize(1_000_000)
+     *                                          .build();
+     *  ReactiveSeq<String> sorted = lines.sorted(Comparator.naturalOrder(), config);
+     * }
+     * </pre>
+     *
+     * @param c Comparator to sort with
+     * @param config Run size, spill location, serializer and statistics for the sort
+     * @return Sorted Stream
+     */
+    default ReactiveSeq<T> sorted(Comparator<? super T> c, SpillConfig<T> config){
+        return ExternalSort.sorted(this, c, config);
+    }
+
     /* (non-Javadoc)
      * @see com.oath.cyclops.types.traversable.Traversable#takeWhile(java.util.function.Predicate)
      */
@@ -2589,6 +2687,22 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     <R> ReactiveSeq<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn);
     <R> ReactiveSeq<R> mergeMap(int maxConcurrency, Function<? super T, ? extends Publisher<? extends R>> fn);
+
+    /**
+     * A potentially asynchronous flatMap operation where data from each publisher may arrive out of order. Up to
+     * prefetch elements are requested from each publisher in advance, and demand is replenished in batches as they are
+     * consumed.
+     *
+     * @param maxConcurrency Maximum number of publishers subscribed to at once
+     * @param prefetch Number of elements requested up front from each publisher
+     * @param fn Function that maps each element to a publisher
+     * @return ReactiveSeq merging the elements emitted by each publisher
+     * @throws IllegalArgumentException if prefetch is less than 1
+     */
+    default <R> ReactiveSeq<R> mergeMap(int maxConcurrency, int prefetch, Function<? super T, ? extends Publisher<? extends R>> fn){
+        ConcurrentFlatMapper.checkPrefetch(prefetch);
+        return mergeMap(maxConcurrency, fn);
+    }
     /**
      * flatMap operation
      *
@@ -4695,7 +4809,31 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      * @return List of Streams that recieve data from this Stream
      */
     default Seq<ReactiveSeq<T>> multicast(int num){
-        return Streams.toBufferingCopier(() -> iterator(),num,()->new ArrayDeque<T>(100))
+        return Streams.toBufferingCopier(() -> iterator(),num)
+                .map(ReactiveSeq::fromIterable);
+    }
+
+    /**
+     * Broadcast the contents of this Stream to multiple downstream Streams, limiting the number of elements the fastest
+     * downstream Stream may be ahead of the slowest. Elements are buffered once and shared by all downstream Streams.
+     *
+     * <pre>
+     * {@code
+     *  Seq<ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,1_000_000)
+     *                                                .multicast(2,1000, BoundedBufferPolicy.ERROR);
+     *
+     *  copies.getOrElse(0,ReactiveSeq.empty())
+     *        .zip(copies.getOrElse(1,ReactiveSeq.empty()));
+     * }
+     * </pre>
+     *
+     * @param num Number of downstream Streams to multicast to
+     * @param bound Maximum number of elements buffered between the fastest and slowest downstream Stream
+     * @param policy Whether the fastest Stream blocks (downstream Streams should be consumed on separate threads) or fails fast when the bound is reached
+     * @return List of Streams that recieve data from this Stream
+     */
+    default Seq<ReactiveSeq<T>> multicast(int num, long bound, BoundedBufferPolicy policy){
+        return Streams.toBufferingCopier(() -> iterator(),num,bound,policy)
                 .map(ReactiveSeq::fromIterable);
     }
     default <R1,R2,R3> ReactiveSeq<R3> fanOutZipIn(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R1>> path1,
@@ -4708,7 +4846,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     default <R1,R2,R3> ReactiveSeq<R3> parallelFanOutZipIn(ForkJoinPool fj, Function<? super Stream<T>, ? extends Stream<? extends R1>> path1,
                                                    Function<? super Stream<T>, ? extends Stream<? extends R2>> path2,
                                                    BiFunction<? super R1, ? super R2, ? extends R3> zipFn){
-        Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> d = duplicate(()->new ArrayDeque<T>(100));
+        Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> d = duplicate();
         Tuple2<? extends Stream<? extends R1>, ? extends Stream<? extends R2>> d2 = d.map1(path1).map2(path2);
 
         ReactiveSeq<R1> res1 = d._1().parallel(fj, path1);
@@ -4728,7 +4866,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     default <R> ReactiveSeq<R> parallelFanOut(ForkJoinPool fj,Function<? super Stream<T>, ? extends Stream<? extends R>> path1,
                                       Function<? super Stream<T>, ? extends Stream<? extends R>> path2){
 
-        Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> d = duplicate(()->new ArrayDeque<T>(100));
+        Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> d = duplicate();
         Tuple2<? extends Stream<? extends R>, ? extends Stream<? extends R>> d2 = d.map1(path1).map2(path2);
 
         ReactiveSeq<R> res1 = d._1().parallel(fj, path1);
@@ -4757,7 +4895,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
                                               Function<? super Stream<T>, ? extends Stream<? extends R>> path3){
 
 
-        Tuple3<ReactiveSeq<T>, ReactiveSeq<T>,ReactiveSeq<T>> d = triplicate(()->new ArrayDeque<T>(100));
+        Tuple3<ReactiveSeq<T>, ReactiveSeq<T>,ReactiveSeq<T>> d = triplicate();
         val res = d.map1(path1).map2(path2).map3(path3);
 
         ReactiveSeq<R> res1 = d._1().parallel(fj, path1);
@@ -4773,7 +4911,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
                                                       Function<? super Stream<T>, ? extends Stream<? extends R3>> path3,
                                                       Function3<? super R1, ? super R2, ? super R3, ? extends R4> zipFn){
 
-        Tuple3<ReactiveSeq<T>, ReactiveSeq<T>,ReactiveSeq<T>> d = triplicate(()->new ArrayDeque<T>(100));
+        Tuple3<ReactiveSeq<T>, ReactiveSeq<T>,ReactiveSeq<T>> d = triplicate();
         ReactiveSeq<R1> res1 = d._1().parallel(fj, path1);
         ReactiveSeq<R2> res2 = d._2().parallel(fj, path2);
         ReactiveSeq<R3> res3 = d._3().parallel(fj, path3);
@@ -4809,7 +4947,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
                                       Function<? super Stream<T>, ? extends Stream<? extends R>> path3,
                                       Function<? super Stream<T>, ? extends Stream<? extends R>> path4){
 
-        val d = quadruplicate(()->new ArrayDeque<T>(100));
+        val d = quadruplicate();
         ReactiveSeq<R> res1 = d._1().parallel(fj, path1);
         ReactiveSeq<R> res2 = d._2().parallel(fj, path2);
         ReactiveSeq<R> res3 = d._3().parallel(fj, path3);
@@ -4839,7 +4977,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
                                                          Function<? super Stream<T>, ? extends Stream<? extends R4>> path4,
                                                          Function4<? super R1, ? super R2, ? super R3, ? super R4, ? extends R5> zipFn){
 
-        val d = quadruplicate(()->new ArrayDeque<T>(100));
+        val d = quadruplicate();
 
         ReactiveSeq<R1> res1 = d._1().parallel(fj, path1);
         ReactiveSeq<R2> res2 = d._2().parallel(fj, path2);
@@ -0,0 +1,241 @@
+package cyclops.reactive;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Configuration for an external (spilling) sort, see {@link ReactiveSeq#sorted(java.util.Comparator, SpillConfig)}.
+ *
+ * Input is sorted in bounded runs of at most runSize elements, every full run is written to a temporary file in the
+ * configured directory via the supplied Serializer and the sorted runs are lazily k-way merged back together. At most
+ * mergeFactor runs are merged at once, if more runs are produced intermediate merge passes combine them into larger
+ * runs first. Input that fits into a single run is sorted entirely in memory.
+ *
+ * <pre>
+ * {@code
+ *  SpillConfig<String> config = SpillConfig.builder(SpillConfig.Serializer.strings())
+ *                                          .runSize(1_000_000)
+ *                                          .directory(Paths.get("/data/tmp"))
+ *                                          .parallelRunSort(true)
+ *                                          .build();
+ *
+ *  ReactiveSeq<String> sorted = lines.sorted(Comparator.naturalOrder(), config);
+ *  SpillConfig.Stats stats = config.stats();
+ * }
+ * </pre>
+ *
+ * Statistics are accumulated across every sort performed with the same SpillConfig.
+ *
+ * @param <T> Type of the elements being sorted
+ */
+@Getter
+public final class SpillConfig<T> {
+
+    private final int runSize;
+    private final int mergeFactor;
+    private final int bufferSize;
+    private final boolean parallelRunSort;
+    private final Path directory;
+    private final Serializer<T> serializer;
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder runsSpilled = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder elementsSpilled = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder bytesSpilled = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder mergePasses = new LongAdder();
+
+    private SpillConfig(Builder<T> builder){
+        this.runSize = builder.runSize;
+        this.mergeFactor = builder.mergeFactor;
+        this.bufferSize = builder.bufferSize;
+        this.parallelRunSort = builder.parallelRunSort;
+        this.directory = builder.directory;
+        this.serializer = builder.serializer;
+    }
+
+    /**
+     * @return SpillConfig with the default settings that spills using Java serialization
+     */
+    public static <T extends Serializable> SpillConfig<T> defaults(){
+        return SpillConfig.<T>builder(Serializer.javaSerialization()).build();
+    }
+
+    public static <T> Builder<T> builder(Serializer<T> serializer){
+        return new Builder<>(serializer);
+    }
+
+    /**
+     * @return Snapshot of the spill statistics recorded by sorts using this config
+     */
+    public Stats stats(){
+        return new Stats(runsSpilled.sum(), elementsSpilled.sum(), bytesSpilled.sum(), mergePasses.sum());
+    }
+
+    /**
+     * Record a run written to disk, used by the sort implementation
+     */
+    public void recordSpill(long elements, long bytes){
+        runsSpilled.increment();
+        elementsSpilled.add(elements);
+        bytesSpilled.add(bytes);
+    }
+
+    /**
+     * Record an intermediate merge pass, used by the sort implementation
+     */
+    public void recordMergePass(){
+        mergePasses.increment();
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Stats {
+        private final long runsSpilled;
+        private final long elementsSpilled;
+        private final long bytesSpilled;
+        private final long mergePasses;
+    }
+
+    /**
+     * Writes and reads elements to / from a spill file
+     *
+     * @param <T> Type of the elements being spilled
+     */
+    public interface Serializer<T> {
+
+        void write(T value, DataOutputStream out) throws IOException;
+
+        T read(DataInputStream in) throws IOException;
+
+        /**
+         * @return Serializer that writes each element as a length prefixed UTF-8 encoded String
+         */
+        static Serializer<String> strings(){
+            return new Serializer<String>() {
+                @Override
+                public void write(String value, DataOutputStream out) throws IOException {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+
+                @Override
+                public String read(DataInputStream in) throws IOException {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+            };
+        }
+
+        /**
+         * @return Serializer that writes each element as a length prefixed, independently Java serialized record
+         */
+        static <T extends Serializable> Serializer<T> javaSerialization(){
+            return new Serializer<T>() {
+                @Override
+                public void write(T value, DataOutputStream out) throws IOException {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try(ObjectOutputStream objects = new ObjectOutputStream(bytes)){
+                        objects.writeObject(value);
+                    }
+                    out.writeInt(bytes.size());
+                    bytes.writeTo(out);
+                }
+
+                @Override
+                public T read(DataInputStream in) throws IOException {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    try(ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes))){
+                        return (T) objects.readObject();
+                    } catch (ClassNotFoundException e) {
+                        throw new IOException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    public static final class Builder<T>{
+        private int runSize = 1_000_000;
+        private int mergeFactor = 64;
+        private int bufferSize = 64 * 1024;
+        private boolean parallelRunSort = false;
+        private Path directory = Paths.get(System.getProperty("java.io.tmpdir"));
+        private final Serializer<T> serializer;
+
+        private Builder(Serializer<T> serializer){
+            this.serializer = serializer;
+        }
+
+        /**
+         * @param runSize Maximum number of elements held and sorted in memory at once
+         */
+        public Builder<T> runSize(int runSize){
+            if(runSize < 1)
+                throw new IllegalArgumentException("runSize must be positive");
+            this.runSize = runSize;
+            return this;
+        }
+
+        /**
+         * @param mergeFactor Maximum number of runs (and open spill files) merged at once
+         */
+        public Builder<T> mergeFactor(int mergeFactor){
+            if(mergeFactor < 2)
+                throw new IllegalArgumentException("mergeFactor must be at least 2");
+            this.mergeFactor = mergeFactor;
+            return this;
+        }
+
+        /**
+         * @param bufferSize Size in bytes of the read and write buffer used per spill file
+         */
+        public Builder<T> bufferSize(int bufferSize){
+            if(bufferSize < 1)
+                throw new IllegalArgumentException("bufferSize must be positive");
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * @param parallelRunSort true if each run should be sorted on the common ForkJoinPool
+         */
+        public Builder<T> parallelRunSort(boolean parallelRunSort){
+            this.parallelRunSort = parallelRunSort;
+            return this;
+        }
+
+        /**
+         * @param directory Directory to create temporary spill files in (java.io.tmpdir by default)
+         */
+        public Builder<T> directory(Path directory){
+            this.directory = directory;
+            return this;
+        }
+
+        public SpillConfig<T> build(){
+            return new SpillConfig<>(this);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.oath.cyclops.types.reactive.BufferOverflowPolicy;
 import com.oath.cyclops.types.reactive.PushSubscriber;
 import com.oath.cyclops.types.traversable.IterableX;
 import cyclops.control.*;
+import com.oath.cyclops.internal.stream.ReactiveIntStreamX;
+import com.oath.cyclops.internal.stream.ReactiveLongStreamX;
 import com.oath.cyclops.internal.stream.ReactiveStreamX;
 import com.oath.cyclops.internal.stream.ReactiveStreamX.Type;
 import com.oath.cyclops.internal.stream.spliterators.UnfoldSpliterator;
@@ -269,6 +271,28 @@ public interface Spouts {
         else
             return new ReactiveStreamX<>(new RangeLongOperator(end,start));
     }
+    /**
+     * @param start Number of range to skip from
+     * @param end Number for range to take at
+     * @return Push based IntSeq over the range, values remain unboxed through subsequent IntSeq operators
+     */
+    public static IntSeq rangeInts(int start, int end){
+        if(start<end)
+            return new ReactiveIntStreamX(new RangeIntOperator(start,end));
+        else
+            return new ReactiveIntStreamX(new RangeIntOperator(end,start));
+    }
+    /**
+     * @param start Number of range to skip from
+     * @param end Number for range to take at
+     * @return Push based LongSeq over the range, values remain unboxed through subsequent LongSeq operators
+     */
+    public static LongSeq rangeLongs(long start, long end){
+        if(start<end)
+            return new ReactiveLongStreamX(new RangeLongOperator(start,end));
+        else
+            return new ReactiveLongStreamX(new RangeLongOperator(end,start));
+    }
     public static  <T> ReactiveSeq<T> of(T value){
         return new ReactiveStreamX<>(new SingleValueOperator<T>(value));
     }
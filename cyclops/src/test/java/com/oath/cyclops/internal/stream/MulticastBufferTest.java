@@ -0,0 +1,112 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.types.reactive.BoundedBufferPolicy;
+import cyclops.data.Seq;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class MulticastBufferTest {
+
+    private <T> List<T> drain(Iterator<T> it){
+        List<T> result = new ArrayList<>();
+        while(it.hasNext())
+            result.add(it.next());
+        return result;
+    }
+
+    private Iterator<Integer> range(int size, AtomicInteger pulled){
+        return ReactiveSeq.range(0, size).peek(i -> pulled.incrementAndGet()).iterator();
+    }
+
+    @Test
+    public void everyReaderSeesEveryElement(){
+        AtomicInteger pulled = new AtomicInteger();
+        Seq<Iterator<Integer>> readers = MulticastBuffer.readers(range(10_000, pulled), 3);
+        List<Integer> expected = ReactiveSeq.range(0, 10_000).toList();
+
+        assertThat(drain(readers.getOrElse(0, null)), equalTo(expected));
+        assertThat(drain(readers.getOrElse(2, null)), equalTo(expected));
+        assertThat(drain(readers.getOrElse(1, null)), equalTo(expected));
+        assertThat(pulled.get(), equalTo(10_000));
+    }
+
+    @Test
+    public void interleavedReaders(){
+        Seq<Iterator<Integer>> readers = MulticastBuffer.readers(Arrays.asList(1, 2, 3, 4, 5).iterator(), 2);
+        Iterator<Integer> a = readers.getOrElse(0, null);
+        Iterator<Integer> b = readers.getOrElse(1, null);
+        assertThat(a.next(), equalTo(1));
+        assertThat(a.next(), equalTo(2));
+        assertThat(b.next(), equalTo(1));
+        assertThat(a.next(), equalTo(3));
+        assertThat(drain(b), equalTo(Arrays.asList(2, 3, 4, 5)));
+        assertThat(drain(a), equalTo(Arrays.asList(4, 5)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void boundedErrorFailsFast(){
+        Seq<Iterator<Integer>> readers = MulticastBuffer.readers(range(100, new AtomicInteger()), 2, 10, BoundedBufferPolicy.ERROR);
+        drain(readers.getOrElse(0, null));
+    }
+
+    @Test
+    public void boundedWithinLimit(){
+        Seq<Iterator<Integer>> readers = MulticastBuffer.readers(range(100, new AtomicInteger()), 2, 10, BoundedBufferPolicy.ERROR);
+        Iterator<Integer> a = readers.getOrElse(0, null);
+        Iterator<Integer> b = readers.getOrElse(1, null);
+        int sum = 0;
+        while(a.hasNext()){
+            sum += a.next() - b.next();
+        }
+        assertThat(sum, equalTo(0));
+    }
+
+    @Test
+    public void boundedBlockOnSeparateThreads(){
+        Seq<Iterator<Integer>> readers = MulticastBuffer.readers(range(100_000, new AtomicInteger()), 2, 100, BoundedBufferPolicy.BLOCK);
+        CompletableFuture<List<Integer>> a = CompletableFuture.supplyAsync(() -> drain(readers.getOrElse(0, null)));
+        CompletableFuture<List<Integer>> b = CompletableFuture.supplyAsync(() -> drain(readers.getOrElse(1, null)));
+        List<Integer> expected = ReactiveSeq.range(0, 100_000).toList();
+        assertThat(a.join(), equalTo(expected));
+        assertThat(b.join(), equalTo(expected));
+    }
+
+    @Test
+    public void iterablesShareSinglePass(){
+        AtomicInteger pulled = new AtomicInteger();
+        Seq<Iterable<Integer>> copies = MulticastBuffer.iterables(() -> range(100, pulled), 2, Long.MAX_VALUE, BoundedBufferPolicy.BLOCK);
+        drain(copies.getOrElse(0, null).iterator());
+        drain(copies.getOrElse(1, null).iterator());
+        assertThat(pulled.get(), equalTo(100));
+
+        //traversing a copy again starts a new pass
+        assertThat(drain(copies.getOrElse(0, null).iterator()).size(), equalTo(100));
+        assertThat(pulled.get(), equalTo(200));
+    }
+
+    @Test
+    public void duplicate(){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.of(1, 2, 3).duplicate();
+        assertThat(copies._1().zip(copies._2()).map(t -> t._1() + t._2()).toList(), equalTo(Arrays.asList(2, 4, 6)));
+    }
+
+    @Test
+    public void multicastBounded(){
+        Seq<ReactiveSeq<Integer>> copies = ReactiveSeq.range(0, 10_000).multicast(3, 10, BoundedBufferPolicy.ERROR);
+        ReactiveSeq<Integer> zipped = copies.getOrElse(0, null)
+                                            .zip3(copies.getOrElse(1, null), copies.getOrElse(2, null))
+                                            .map(t -> t._1() + t._2() + t._3());
+        assertThat(zipped.count(), equalTo(10_000l));
+    }
+}
@@ -0,0 +1,57 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import cyclops.data.Seq;
+import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class ParallelSpliteratorsTest {
+
+    @Test
+    public void vectorSplitsDirectly(){
+        Vector<Integer> vector = Vector.fromStream(ReactiveSeq.range(0, 10_000));
+        Spliterator<Integer> split = ParallelSpliterators.splittable(vector.stream().spliterator());
+        assertThat(split, not(instanceOf(ParallelSpliterators.BatchingSpliterator.class)));
+        Spliterator<Integer> prefix = split.trySplit();
+        assertThat(prefix.estimateSize(), equalTo(5_000l));
+        assertThat(split.estimateSize(), equalTo(5_000l));
+    }
+
+    @Test
+    public void seqSplitsDirectly(){
+        Seq<Integer> seq = Seq.fromStream(ReactiveSeq.range(0, 10_001));
+        Spliterator<Integer> split = ParallelSpliterators.splittable(seq.stream().spliterator());
+        assertThat(split, instanceOf(SeqSpliterator.class));
+        Spliterator<Integer> prefix = split.trySplit();
+        assertThat(prefix.estimateSize(), equalTo(5_000l));
+        assertThat(split.estimateSize(), equalTo(5_001l));
+        int[] first = {-1};
+        split.tryAdvance(i -> first[0] = i);
+        assertThat(first[0], equalTo(5_000));
+    }
+
+    @Test
+    public void batchesGrowArithmetically(){
+        Spliterator<Integer> source = Spliterators.spliteratorUnknownSize(IntStream.range(0, 1_000_000).iterator(), 0);
+        Spliterator<Integer> split = new ParallelSpliterators.BatchingSpliterator<>(source);
+        assertThat(split.trySplit().estimateSize(), equalTo((long) ParallelSpliterators.BATCH_UNIT));
+        assertThat(split.trySplit().estimateSize(), equalTo(2l * ParallelSpliterators.BATCH_UNIT));
+    }
+
+    @Test
+    public void batchesAreCappedByEstimate(){
+        Spliterator<Integer> source = Spliterators.spliterator(IntStream.range(0, 10).iterator(), 10, 0);
+        Spliterator<Integer> split = new ParallelSpliterators.BatchingSpliterator<>(source);
+        assertThat(split.trySplit().estimateSize(), equalTo(10l));
+        assertThat(split.trySplit(), equalTo(null));
+    }
+}
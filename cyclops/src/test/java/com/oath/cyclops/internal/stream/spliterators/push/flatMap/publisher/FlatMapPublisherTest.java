@@ -644,6 +644,74 @@ public class FlatMapPublisherTest {
         }
 
     }
+    @Test
+    public void mergeMapPrefetch(){
+        for(int prefetch : new int[]{1,4,32,256}) {
+            List<Integer> res = Spouts.range(0, 20)
+                                      .mergeMap(4, prefetch, i -> Spouts.range(i * 500, (i + 1) * 500))
+                                      .toList();
+            assertThat(res.size(), equalTo(10_000));
+            assertThat(res.stream().mapToInt(i -> i).sum(), equalTo(49_995_000));
+        }
+    }
+
+    @Test
+    public void mergeMapLargePrefetch(){
+        //the inner queues are capped independently of the demand requested from each Publisher
+        List<Integer> res = Spouts.range(0, 4)
+                                  .mergeMap(4, Integer.MAX_VALUE, i -> Spouts.range(i * 5000, (i + 1) * 5000))
+                                  .toList();
+        assertThat(res.size(), equalTo(20_000));
+        assertThat(res.stream().mapToLong(i -> i).sum(), equalTo(199_990_000l));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergeMapZeroPrefetch(){
+        Spouts.range(0, 4).mergeMap(4, 0, i -> Spouts.of(i));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergeMapNegativePrefetch(){
+        ReactiveSeq.range(0, 4).mergeMap(4, -1, i -> Spouts.of(i));
+    }
+
+    @Test
+    public void mergeMapPrefetchAsync(){
+        for(int k=0;k<100;k++) {
+            List<Integer> res = Flux.from(Spouts.of(1, 2, 3)
+                                                .mergeMap(3, 2, i -> flux(1, 2, 3, 4, 5)))
+                                    .collect(Collectors.toList())
+                                    .block();
+            assertThat(res.size(), equalTo(15));
+        }
+    }
+
+    @Test
+    public void mergeMapIgnoringBackpressureIsLossless(){
+        //each inner Publisher emits far more than it was asked for, beyond any prefetch sized queue
+        List<Integer> res = Spouts.of(1, 2, 3)
+                                  .<Integer>mergeMap(3, 4, i -> s -> {
+                                      AtomicBoolean emitted = new AtomicBoolean(false);
+                                      s.onSubscribe(new Subscription() {
+                                          @Override
+                                          public void request(long n) {
+                                              if (emitted.compareAndSet(false, true)) {
+                                                  for (int j = 0; j < 5000; j++)
+                                                      s.onNext(i);
+                                                  s.onComplete();
+                                              }
+                                          }
+
+                                          @Override
+                                          public void cancel() {
+
+                                          }
+                                      });
+                                  })
+                                  .toList();
+        assertThat(res.size(), equalTo(15_000));
+    }
+
     AtomicInteger start= new AtomicInteger(0);
 
     private ReactiveSeq<Integer> nextAsync() {
@@ -0,0 +1,67 @@
+package com.oath.cyclops.internal.stream.spliterators.push.fused;
+
+import com.oath.cyclops.internal.stream.spliterators.push.*;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public class FusedOperatorTest extends AbstractOperatorTest {
+
+
+    private Operator<Integer> chain(Operator<Integer> source){
+        Operator<Integer> doubled = FusedOperator.map(source, i -> i * 2);
+        Operator<Integer> positive = FusedOperator.filter(doubled, i -> i > 0);
+        return FusedOperator.map(FusedOperator.skip(positive, 0), i -> i);
+    }
+
+    public Operator<Integer> createEmpty(){
+       return FusedOperator.skip(chain(new ArrayOfValuesOperator<>(1,2)), 2);
+    }
+    public Operator<Integer> createOne(){
+        return chain(new SingleValueOperator<>(1));
+    }
+
+    public Operator<Integer> createThree(){
+        Operator<Integer> skipped = FusedOperator.skip(FusedOperator.filter(chain(new ArrayOfValuesOperator<>(1,2,3,4,5)), i -> i > 2), 1);
+        return FusedOperator.limitWhile(skipped, i -> i < 100);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return chain(Fixtures.twoAndErrorSource);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return chain(Fixtures.threeErrorsSource);
+    }
+
+    @Test
+    public void adjacentStagesFused(){
+        assertThat(createThree(), instanceOf(FusedOperator.class));
+    }
+
+    @Test
+    public void fusedChainMatchesUnfused(){
+        assertThat(Spouts.range(0, 100)
+                         .map(i -> i + 1)
+                         .filter(i -> i % 2 == 0)
+                         .skip(5)
+                         .peek(i -> { })
+                         .takeWhile(i -> i < 50)
+                         .map(i -> i * 10)
+                         .toList(),
+                   equalTo(Arrays.asList(120, 140, 160, 180, 200, 220, 240, 260, 280, 300,
+                                         320, 340, 360, 380, 400, 420, 440, 460, 480)));
+    }
+
+    @Test
+    public void fusedStreamReusable(){
+        ReactiveSeq<Integer> base = Spouts.of(1, 2, 3, 4).map(i -> i * 2);
+        assertThat(base.filter(i -> i > 4).toList(), equalTo(Arrays.asList(6, 8)));
+        assertThat(base.skip(1).toList(), equalTo(Arrays.asList(4, 6, 8)));
+        assertThat(base.toList(), equalTo(Arrays.asList(2, 4, 6, 8)));
+    }
+}
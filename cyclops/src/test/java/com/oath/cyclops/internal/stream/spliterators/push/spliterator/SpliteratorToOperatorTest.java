@@ -187,4 +187,33 @@ public class SpliteratorToOperatorTest {
 
 
     }
+
+    @Test
+    public void requestInBatches(){
+        Subscription sub = new SpliteratorToOperator<Integer>(ReactiveSeq.range(0,1000).spliterator())
+                .subscribe(values::add,errors::add,()->onComplete=true);
+        for(int i=1;i<=7;i++){
+            sub.request(128l);
+            assertThat(values.size(),equalTo(128*i));
+        }
+        assertFalse(onComplete);
+        sub.request(128l);
+        assertThat(values,equalTo(ReactiveSeq.range(0,1000).toList()));
+        assertTrue(onComplete);
+    }
+
+    @Test
+    public void requestFromOnNext(){
+        Subscription[] sub = {null};
+        sub[0] = new SpliteratorToOperator<Integer>(ReactiveSeq.range(0,1000).spliterator())
+                .subscribe(i->{
+                    values.add(i);
+                    if(values.size()%10==0)
+                        sub[0].request(10l);
+                },errors::add,()->onComplete=true);
+        sub[0].request(10l);
+        assertThat(values,equalTo(ReactiveSeq.range(0,1000).toList()));
+        assertThat(errors.size(),equalTo(0));
+        assertTrue(onComplete);
+    }
 }
@@ -0,0 +1,114 @@
+package com.oath.cyclops.react;
+
+import cyclops.control.Future;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class HashedWheelSchedulerTest {
+
+    HashedWheelScheduler wheel = HashedWheelScheduler.create(5, TimeUnit.MILLISECONDS);
+
+    @After
+    public void shutdown(){
+        wheel.shutdownNow();
+    }
+
+    @Test
+    public void scheduleCallable() throws Exception {
+        long start = System.nanoTime();
+        assertThat(wheel.schedule(() -> "hello", 50, TimeUnit.MILLISECONDS).get(), equalTo("hello"));
+        assertThat(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50), equalTo(true));
+    }
+
+    @Test
+    public void delayLongerThanOneRotation() throws Exception {
+        long start = System.nanoTime();
+        assertThat(wheel.schedule(() -> 1, 200, TimeUnit.MILLISECONDS).get(), equalTo(1));
+        assertThat(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200), equalTo(true));
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> task = wheel.schedule(count::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        assertThat(task.cancel(false), equalTo(true));
+        Thread.sleep(100);
+        assertThat(count.get(), equalTo(0));
+    }
+
+    @Test
+    public void fixedRate() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> task = wheel.scheduleAtFixedRate(count::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+        Thread.sleep(200);
+        task.cancel(false);
+        int runs = count.get();
+        assertThat(runs > 5, equalTo(true));
+        Thread.sleep(50);
+        assertThat(count.get(), equalTo(runs));
+    }
+
+    @Test
+    public void manyTimers() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        for(int i = 0; i < 10_000; i++){
+            ScheduledFuture<?> task = wheel.schedule(count::incrementAndGet, 20 + i % 100, TimeUnit.MILLISECONDS);
+            if(i % 2 == 0)
+                task.cancel(false);
+        }
+        Thread.sleep(500);
+        assertThat(count.get(), equalTo(5_000));
+    }
+
+    @Test
+    public void executorFailureDoesNotStopTimer() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        HashedWheelScheduler failing = HashedWheelScheduler.create(5, TimeUnit.MILLISECONDS, 512, task -> {
+            if(executions.incrementAndGet() == 1)
+                throw new IllegalStateException("boom");
+            task.run();
+        });
+        try {
+            ScheduledFuture<String> first = failing.schedule(() -> "first", 10, TimeUnit.MILLISECONDS);
+            ScheduledFuture<String> second = failing.schedule(() -> "second", 50, TimeUnit.MILLISECONDS);
+            try {
+                first.get(1, TimeUnit.SECONDS);
+                fail("executor failure should complete the task exceptionally");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause() instanceof IllegalStateException, equalTo(true));
+            }
+            assertThat(second.get(1, TimeUnit.SECONDS), equalTo("second"));
+        } finally {
+            failing.shutdownNow();
+        }
+    }
+
+    @Test
+    public void futureSchedule(){
+        assertThat(Future.schedule(20, wheel, () -> "hello").toOptional().get(), equalTo("hello"));
+    }
+
+    @Test
+    public void spoutsInterval(){
+        assertThat(Spouts.interval(10, wheel).limit(3).toList().size(), equalTo(3));
+    }
+
+    @Test
+    public void scheduleFixedDelayStopsWhenExhausted() throws Exception {
+        ReactiveSeq.of(1, 2, 3).scheduleFixedDelay(5, wheel);
+        Thread.sleep(100);
+        wheel.shutdown();
+        assertThat(wheel.shutdownNow().size(), equalTo(0));
+    }
+}
@@ -0,0 +1,88 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class CompiledCronExpressionTest {
+
+    static final String[] expressions = {"* * * * * ?", "0 0 12 * * ?", "0 0/5 14,18 * * ?", "0 10,44 14 ? 3 WED",
+                                         "0 15 10 ? * MON-FRI", "0 15 10 L * ?", "0 15 10 L-2 * ?", "0 15 10 ? * 6L",
+                                         "0 15 10 ? * 6#3", "0 0 12 1/5 * ?", "0 0 0 LW * ?", "0 0 0 15W * ?",
+                                         "0 0 0 1W * ?", "0 0 0 31 * ?", "0 0 0 29 2 ?", "*/7 */13 */5 * * ?",
+                                         "0 30 2 * * ?", "0 0 23-2 * * ?", "0 0 0 1 1 ? 2030"};
+
+    @Test
+    public void matchesCronExpression() throws ParseException {
+        Random random = new Random(7);
+        for(String zone : new String[]{"UTC", "Europe/London", "America/New_York"}){
+            for(String expression : expressions){
+                CronExpression cron = new CronExpression(expression);
+                cron.setTimeZone(TimeZone.getTimeZone(zone));
+                CompiledCronExpression compiled = CompiledCronExpression.compile(cron);
+                for(int i = 0; i < 200; i++){
+                    Date after = new Date(1_500_000_000_000L + (long) (random.nextDouble() * 400_000_000_000L));
+                    assertThat(zone + " " + expression + " " + after.toInstant(),
+                               compiled.getNextValidTimeAfter(after), equalTo(cron.getNextValidTimeAfter(after)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void matchesCronExpressionAcrossDaylightSavingTransitions() throws ParseException {
+        Random random = new Random(11);
+        Instant end = Instant.parse("2024-01-01T00:00:00Z");
+        for(String zone : new String[]{"Europe/London", "America/New_York", "Australia/Lord_Howe", "America/Sao_Paulo"}){
+            ZoneRules rules = ZoneId.of(zone).getRules();
+            for(String expression : new String[]{"* * * * * ?", "0 0 23-2 * * ?", "0 30 1 * * ?", "0 */20 * * * ?", "0 0 2 * * ?"}){
+                CronExpression cron = new CronExpression(expression);
+                cron.setTimeZone(TimeZone.getTimeZone(zone));
+                CompiledCronExpression compiled = CompiledCronExpression.compile(cron);
+                ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("2017-01-01T00:00:00Z"));
+                while(transition != null && transition.getInstant().isBefore(end)){
+                    for(int i = 0; i < 20; i++){
+                        //within a few hours either side of the transition
+                        long offset = (long) ((random.nextDouble() - 0.5) * 6 * 3600_000L);
+                        Date after = new Date(transition.getInstant().toEpochMilli() + offset);
+                        assertThat(zone + " " + expression + " " + after.toInstant(),
+                                   compiled.getNextValidTimeAfter(after), equalTo(cron.getNextValidTimeAfter(after)));
+                    }
+                    transition = rules.nextTransition(transition.getInstant());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void repeatedHourResolvesToLaterOccurrence() throws ParseException {
+        CronExpression cron = new CronExpression("0 0 23-2 * * ?");
+        cron.setTimeZone(TimeZone.getTimeZone("Europe/London"));
+        Date after = Date.from(Instant.parse("2018-10-27T23:17:32.938Z"));
+        assertThat(CompiledCronExpression.compile(cron).getNextValidTimeAfter(after),
+                   equalTo(Date.from(Instant.parse("2018-10-28T01:00:00Z"))));
+    }
+
+    @Test
+    public void neverFiresAgain() throws ParseException {
+        CompiledCronExpression compiled = CompiledCronExpression.compile("0 0 0 1 1 ? 2000");
+        assertThat(compiled.nextFireTimeAfter(System.currentTimeMillis()), equalTo(-1l));
+    }
+
+    @Test
+    public void strictlyAfter() throws ParseException {
+        CompiledCronExpression everySecond = CompiledCronExpression.compile("* * * * * ?");
+        assertThat(everySecond.nextFireTimeAfter(1000l), equalTo(2000l));
+        assertThat(everySecond.nextFireTimeAfter(1999l), equalTo(2000l));
+    }
+}
@@ -50,6 +50,53 @@ public class EvalTest {
         assertThat(times,equalTo(1));
     }
 
+    @Test
+    public void laterMapChainEvaluatesEachStageOnce(){
+        int[] calls = new int[4];
+        Eval<Integer> first = Eval.later(()->{ calls[0]++; return 1;});
+        Eval<Integer> second = first.map(i->{ calls[1]++; return i+1;});
+        Eval<Integer> third = second.map(i->{ calls[2]++; return i+1;});
+        Eval<Integer> fourth = third.map(i->{ calls[3]++; return i*10;});
+        assertThat(fourth.get(),equalTo(30));
+        assertThat(fourth.get(),equalTo(30));
+        assertThat(second.get(),equalTo(2));
+        assertThat(third.map(i->i+1).get(),equalTo(4));
+        assertThat(calls[0]+calls[1]+calls[2]+calls[3],equalTo(4));
+    }
+    @Test
+    public void laterMapAfterFlatMap(){
+        int[] calls = {0};
+        Eval<Integer> eval = Eval.later(()->1)
+                                 .map(i->i+1)
+                                 .flatMap(i->Eval.later(()->{ calls[0]++; return i*2;}))
+                                 .map(i->i+1);
+        assertThat(eval.get(),equalTo(5));
+        assertThat(eval.get(),equalTo(5));
+        assertThat(calls[0],equalTo(1));
+    }
+    @Test
+    public void laterDeepMapChain(){
+        Eval<Integer> eval = Eval.later(()->0);
+        for(int i=0;i<100_000;i++)
+            eval = eval.map(x->x+1);
+        assertThat(eval.get(),equalTo(100_000));
+    }
+    private Eval<Integer> loop(int n){
+        return Eval.later(()->n).flatMap(i -> i==0 ? Eval.now(0) : loop(i-1));
+    }
+    @Test
+    public void laterDeepRecursiveFlatMap(){
+        assertThat(loop(100_000).get(),equalTo(0));
+        assertThat(loop(100_000).toTrampoline().get(),equalTo(0));
+    }
+    @Test
+    public void laterDeepMapChainToTrampoline(){
+        Eval<Integer> eval = Eval.later(()->0);
+        for(int i=0;i<100_000;i++)
+            eval = eval.map(x->x+1);
+        assertThat(eval.toTrampoline().get(),equalTo(100_000));
+        assertThat(eval.get(),equalTo(100_000));
+    }
     @Test
     public void laterExample(){
 
@@ -40,6 +40,46 @@ public class TrampolineTest {
   }
 
 
+  @Test
+  public void deepLeftAssociatedFlatMap(){
+    Trampoline<Integer> t = Trampoline.done(0);
+    for(int i=0;i<1_000_000;i++)
+      t = t.flatMap(x->Trampoline.done(x+1));
+    assertThat(t.get(),equalTo(1_000_000));
+  }
+  @Test
+  public void deepRightAssociatedFlatMap(){
+    assertThat(countDown(1_000_000).get(),equalTo(1_000_000));
+  }
+  @Test
+  public void deepMap(){
+    Trampoline<Integer> t = Trampoline.more(()->Trampoline.done(0));
+    for(int i=0;i<1_000_000;i++)
+      t = t.map(x->x+1);
+    assertThat(t.get(),equalTo(1_000_000));
+  }
+  @Test
+  public void mapIsLazy(){
+    int[] calls = {0};
+    Trampoline<Integer> t = Trampoline.done(10).map(i->++calls[0]);
+    assertThat(calls[0],equalTo(0));
+    assertThat(t.get(),equalTo(1));
+  }
+  @Test
+  public void bounceFlatMap(){
+    Trampoline<Integer> t = Trampoline.done(0);
+    for(int i=0;i<1000;i++)
+      t = t.map(x->x+1);
+    while(!t.complete())
+      t = t.bounce();
+    assertThat(t.get(),equalTo(1000));
+  }
+  Trampoline<Integer> countDown(int n){
+    if(n==0)
+      return Trampoline.done(0);
+    return Trampoline.done(n).flatMap(x->countDown(x-1).map(r->r+1));
+  }
+
 	@Test @Ignore
 	public void trampolineTest1(){
 
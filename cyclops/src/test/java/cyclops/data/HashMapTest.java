@@ -81,4 +81,31 @@ public class HashMapTest {
   public void removeMissingKey(){
     MatcherAssert.assertThat(HashMap.of(1,"a",2,"b").removeAll(0),equalTo(HashMap.of(1,"a",2,"b")));
   }
+  @Test
+  public void removeAllRemovesEveryKey(){
+    MatcherAssert.assertThat(HashMap.of(1,"a",2,"b").removeAll(1,2),equalTo(HashMap.empty()));
+    MatcherAssert.assertThat(HashMap.of(1,"a",2,"b").removeAllKeys(Seq.of(1,2)),equalTo(HashMap.empty()));
+  }
+  @Test
+  public void union(){
+    HashMap<Integer,String> a = HashMap.of(1,"a",2,"b");
+    HashMap<Integer,String> b = HashMap.of(2,"c",3,"d");
+    MatcherAssert.assertThat(a.union(b),equalTo(HashMap.of(1,"a",2,"c").put(3,"d")));
+    MatcherAssert.assertThat(a.putAll(b),equalTo(HashMap.of(1,"a",2,"c").put(3,"d")));
+    MatcherAssert.assertThat(a.union(a)==a,equalTo(true));
+  }
+  @Test
+  public void mergeWith(){
+    HashMap<Integer,String> a = HashMap.of(1,"a",2,"b");
+    HashMap<Integer,String> b = HashMap.of(2,"c",3,"d");
+    MatcherAssert.assertThat(a.mergeWith(b,(x,y)->x+y),equalTo(HashMap.of(1,"a",2,"bc").put(3,"d")));
+  }
+  @Test
+  public void intersectionAndDifference(){
+    HashMap<Integer,String> a = HashMap.of(1,"a",2,"b");
+    HashMap<Integer,String> b = HashMap.of(2,"c",3,"d");
+    MatcherAssert.assertThat(a.intersection(b),equalTo(HashMap.of(2,"b")));
+    MatcherAssert.assertThat(a.difference(b),equalTo(HashMap.of(1,"a")));
+    MatcherAssert.assertThat(a.difference(a),equalTo(HashMap.empty()));
+  }
 }
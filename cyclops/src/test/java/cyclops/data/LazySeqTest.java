@@ -257,5 +257,48 @@ public class LazySeqTest extends BaseImmutableListTest {
         assertThat(of(1).toString(),equalTo("{1...}"));
     }
 
+    @Test
+    public void chunkedMatchesPerElement(){
+        for(int size : new int[]{0, 1, 31, 32, 33, 64, 1000}) {
+            LazySeq<Integer> chunked = LazySeq.fromIterator(ReactiveSeq.range(0, size).iterator(), 32);
+            LazySeq<Integer> perElement = LazySeq.fromIterator(ReactiveSeq.range(0, size).iterator());
+            assertThat(chunked, equalTo(perElement));
+            assertThat(chunked.size(), equalTo(size));
+            assertThat(chunked.prepend(-1).size(), equalTo(size + 1));
+            assertThat(chunked.map(i -> i * 2).toList(), equalTo(perElement.map(i -> i * 2).toList()));
+            assertThat(chunked.drop(size / 2).toList(), equalTo(perElement.drop(size / 2).toList()));
+        }
+    }
+
+    @Test
+    public void chunksForcedTogether(){
+        count = 0;
+        LazySeq<Integer> seq = LazySeq.fromIterator(ReactiveSeq.range(0, 100).peek(i -> count++).iterator(), 32);
+        assertThat(count, equalTo(32));
+        assertThat(seq.getOrElse(31, -1), equalTo(31));
+        assertThat(count, equalTo(32));
+        assertThat(seq.getOrElse(32, -1), equalTo(32));
+        assertThat(count, equalTo(64));
+        assertThat(seq.size(), equalTo(100));
+        assertThat(count, equalTo(100));
+    }
+
+    @Test
+    public void largeChunkedSize(){
+        LazySeq<Integer> seq = LazySeq.range(0, 1_000_000);
+        assertThat(seq.size(), equalTo(1_000_000));
+        assertThat(seq.size(), equalTo(1_000_000));
+        assertThat(seq.foldLeft(0l, (a, b) -> a + b), equalTo(499_999_500_000l));
+    }
+
+    @Test
+    public void tailMemoized(){
+        count = 0;
+        LazySeq.Cons<Integer> cons = (LazySeq.Cons<Integer>) LazySeq.fromIterator(ReactiveSeq.range(0, 10).peek(i -> count++).iterator());
+        cons.tail();
+        cons.tail();
+        assertThat(count, equalTo(2));
+    }
+
 
 }
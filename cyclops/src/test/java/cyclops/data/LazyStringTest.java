@@ -0,0 +1,88 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class LazyStringTest {
+
+    @Test
+    public void positional(){
+        LazyString hello = LazyString.of("hello world");
+        assertThat(hello.length(),equalTo(11));
+        assertThat(hello.take(5).toString(),equalTo("hello"));
+        assertThat(hello.drop(6).toString(),equalTo("world"));
+        assertThat(hello.substring(3,8).toString(),equalTo("lo wo"));
+        assertThat(hello.charAt(4),equalTo('o'));
+        assertThat(hello.get(4),equalTo(Option.some('o')));
+        assertThat(hello.get(11),equalTo(Option.none()));
+        assertThat(hello.get(-1),equalTo(Option.none()));
+        assertThat(hello.getOrElse(20,'?'),equalTo('?'));
+        assertThat(hello.takeRight(5).toString(),equalTo("world"));
+        assertThat(hello.dropRight(6).toString(),equalTo("hello"));
+        assertThat(hello.slice(-2,5).toString(),equalTo("hello"));
+    }
+
+    @Test
+    public void edits(){
+        LazyString hello = LazyString.of("hello");
+        assertThat(hello.append(" world").toString(),equalTo("hello world"));
+        assertThat(hello.append('!').prepend('>').toString(),equalTo(">hello!"));
+        assertThat(hello.prependAll(LazyString.of("oh ")).toString(),equalTo("oh hello"));
+        assertThat(hello.appendAll(Arrays.asList('!','!')).toString(),equalTo("hello!!"));
+        assertThat(hello.insertAt(2,'-').toString(),equalTo("he-llo"));
+        assertThat(hello.updateAt(0,'j').toString(),equalTo("jello"));
+        assertThat(hello.updateAt(10,'j').toString(),equalTo("hello"));
+        assertThat(hello.removeAt(1).toString(),equalTo("hllo"));
+        assertThat(hello.removeAt(10).toString(),equalTo("hello"));
+        assertThat(hello.deleteBetween(1,3).toString(),equalTo("hlo"));
+        assertThat(hello.reverse().toString(),equalTo("olleh"));
+    }
+
+    @Test
+    public void perCharOperations(){
+        LazyString hello = LazyString.of("hello world");
+        assertThat(hello.toUpperCase().toString(),equalTo("HELLO WORLD"));
+        assertThat(hello.filter(c->c!='l').toString(),equalTo("heo word"));
+        assertThat(hello.words().map(LazyString::toString).toList(),equalTo(Arrays.asList("hello","world")));
+        assertThat(LazyString.fromLazySeq(LazySeq.of('a','b')).toString(),equalTo("ab"));
+    }
+
+    @Test
+    public void empty(){
+        assertTrue(LazyString.empty().isEmpty());
+        assertFalse(LazyString.of("a").isEmpty());
+        assertThat(LazyString.empty().onEmpty('x').toString(),equalTo("x"));
+    }
+
+    @Test
+    public void streaming(){
+        LazyString lines = LazyString.fromReader(new StringReader("first\nsecond"));
+        assertThat(lines.take(5).toString(),equalTo("first"));
+        assertThat(lines.lines().map(LazyString::toString).toList(),equalTo(Arrays.asList("first","second")));
+        assertThat(LazyString.fromCharBuffer(CharBuffer.wrap("buffered")).drop(3).toString(),equalTo("fered"));
+    }
+
+    @Test
+    public void deepDropChain(){
+        StringBuilder builder = new StringBuilder();
+        for(int i=0;i<20_000;i++)
+            builder.append((char)('a'+i%26));
+        String value = builder.toString();
+        LazyString fromSeq = LazyString.fromLazySeq(LazySeq.fromIterable(LazyString.of(value)));
+        LazyString fromReader = LazyString.fromReader(new StringReader(value));
+        for(int i=0;i<10_000;i++){
+            fromSeq = fromSeq.drop(1);
+            fromReader = fromReader.tailOrElse(LazyString.empty());
+        }
+        assertThat(fromSeq.toString(),equalTo(value.substring(10_000)));
+        assertThat(fromReader.toString(),equalTo(value.substring(10_000)));
+        assertThat(LazyString.empty().tailOrElse(LazyString.of("else")).toString(),equalTo("else"));
+    }
+}
@@ -1,10 +1,15 @@
 package cyclops.data;
 
 
+import cyclops.data.tuple.Tuple;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Test;
 
 import java.util.Comparator;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
 /**
  * Created by johnmcclean on 02/09/2017.
  */
@@ -22,4 +27,13 @@ public class TreeMapTest {
 
         System.out.println(map.put(10,"boo!").elementAt(10).orElse(null));
     }
+
+    @Test
+    public void largeOrderedInsertStaysBalanced(){
+        TreeMap<Integer,Integer> map = TreeMap.fromStream(ReactiveSeq.range(0,100_000).map(i-> Tuple.tuple(i,i)),Comparator.<Integer>naturalOrder());
+
+        assertThat(map.size(),equalTo(100_000));
+        assertThat(map.getOrElse(99_999,-1),equalTo(99_999));
+        assertThat(map.remove(50_000).size(),equalTo(99_999));
+    }
 }
@@ -5,6 +5,7 @@ import cyclops.data.base.BAMT;
 import cyclops.data.tuple.Tuple2;
 import cyclops.control.Option;
 import cyclops.data.basetests.BaseImmutableListTest;
+import cyclops.reactive.ReactiveSeq;
 import org.hamcrest.MatcherAssert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -98,6 +99,121 @@ public class VectorTest extends BaseImmutableListTest {
         assertThat(ints.get(900),equalTo(Option.some(900)));
     }
 
+    @Test
+    public void builder(){
+        for(int size : new int[]{0,1,31,32,33,64,65,1024,1025,1056,32*32*32+7}){
+            Vector.Builder<Integer> builder = Vector.builder();
+            Vector<Integer> plus = Vector.empty();
+            for(int i=0;i<size;i++){
+                builder.append(i);
+                plus = plus.plus(i);
+            }
+            Vector<Integer> built = builder.build();
+            assertThat(built.size(),equalTo(size));
+            assertThat(built,equalTo(plus));
+            for(int i=0;i<size;i++){
+                assertThat(built.getOrElse(i,-1),equalTo(i));
+            }
+            assertThat(built.plus(-1).getOrElse(size,null),equalTo(-1));
+        }
+    }
+    @Test
+    public void builderReuseDoesNotAffectBuiltVectors(){
+        Vector.Builder<Integer> builder = Vector.builder();
+        for(int i=0;i<1030;i++){
+            builder.append(i);
+        }
+        Vector<Integer> first = builder.build();
+        for(int i=1030;i<2000;i++){
+            builder.append(i);
+        }
+        Vector<Integer> second = builder.build();
+
+        assertThat(first,equalTo(Vector.range(0,1030)));
+        assertThat(second,equalTo(Vector.range(0,2000)));
+    }
+    @Test
+    public void toBuilderSharesStructure(){
+        Vector<Integer> base = Vector.range(0,1030);
+        Vector<Integer> appended = base.appendAll(Vector.range(1030,5000));
+        Vector<Integer> other = base.appendAll(Vector.range(0,10));
+
+        assertThat(base,equalTo(Vector.range(0,1030)));
+        assertThat(appended,equalTo(Vector.range(0,5000)));
+        assertThat(other.size(),equalTo(1040));
+        assertThat(other.getOrElse(1031,-1),equalTo(1));
+        assertThat(appended.getOrElse(1031,-1),equalTo(1031));
+    }
+    @Test
+    public void collector(){
+        assertThat(ReactiveSeq.range(0,2000).collect(Vector.collector()),equalTo(Vector.range(0,2000)));
+    }
+    private static void assertMatches(Vector<Integer> vec, java.util.List<Integer> expected){
+        assertThat(vec.size(),equalTo(expected.size()));
+        for(int i=0;i<expected.size();i++){
+            assertThat(vec.getOrElse(i,null),equalTo(expected.get(i)));
+        }
+        assertThat(vec.stream().toList(),equalTo(expected));
+    }
+    @Test
+    public void concatLarge(){
+        for(int left : new int[]{1,31,33,1000,1024,1025,40000}){
+            for(int right : new int[]{1,33,1000,1025,40000}){
+                java.util.List<Integer> expected = new ArrayList<>();
+                for(int i=0;i<left+right;i++)
+                    expected.add(i);
+                assertMatches(Vector.range(0,left).appendAll(Vector.range(left,left+right)),expected);
+                assertMatches(Vector.range(left,left+right).prependAll(Vector.range(0,left)),expected);
+            }
+        }
+    }
+    @Test
+    public void sliceAndConcatRandomised(){
+        java.util.Random r = new java.util.Random(0);
+        java.util.List<Integer> expected = new ArrayList<>();
+        Vector<Integer> vec = Vector.empty();
+        for(int i=0;i<3000;i++){
+            int op = r.nextInt(6);
+            int pos = expected.size()==0 ? 0 : r.nextInt(expected.size());
+            if(op==0){
+                vec = vec.insertAt(pos,i);
+                expected.add(pos,i);
+            }else if(op==1 && expected.size()>0){
+                vec = vec.removeAt(pos);
+                expected.remove(pos);
+            }else if(op==2 && expected.size()>0){
+                vec = vec.updateAt(pos,-i);
+                expected.set(pos,-i);
+            }else if(op==3){
+                Vector<Integer> values = Vector.range(i,i+r.nextInt(100));
+                vec = vec.insertAt(pos,values);
+                expected.addAll(pos,values.stream().toList());
+            }else if(op==4 && expected.size()>500){
+                int trim = pos/2;
+                vec = vec.drop(trim).take(expected.size()-2*trim);
+                expected = new ArrayList<>(expected.subList(trim,expected.size()-trim));
+            }else{
+                vec = vec.plus(i);
+                expected.add(i);
+            }
+        }
+        assertMatches(vec,expected);
+    }
+    @Test
+    public void updateAtDoesNotMutateOriginal(){
+        Vector<Integer> base = Vector.range(0,40000);
+        Vector<Integer> updated = base.updateAt(35000,-1);
+        assertThat(base.getOrElse(35000,null),equalTo(35000));
+        assertThat(updated.getOrElse(35000,null),equalTo(-1));
+    }
+    @Test
+    public void splitAtLarge(){
+        Vector<Integer> vec = Vector.range(0,100000);
+        Tuple2<ImmutableList<Integer>, ImmutableList<Integer>> split = vec.splitAt(54321);
+        assertThat(split._1(),equalTo(Vector.range(0,54321)));
+        assertThat(split._2(),equalTo(Vector.range(54321,100000)));
+        assertThat(split._1().appendAll(split._2()),equalTo(vec));
+    }
     @Test
     public void last(){
         Object[] array = {"hello","world"};
@@ -0,0 +1,219 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+import cyclops.data.base.CHAMP.Node;
+import cyclops.data.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class CHAMPTest {
+  Integer one = 1;
+  Integer minusOne = -1;
+
+  @Test
+  public void empty() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    assertThat(node.size(),equalTo(0));
+    assertFalse(node.iterator().hasNext());
+    assertThat(node.get(one),equalTo(Option.none()));
+  }
+  @Test
+  public void put1() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty().plus(0,one.hashCode(),one,one);
+    assertThat(node.get(0,one.hashCode(),one),equalTo(Option.some(1)));
+    assertThat(node.size(),equalTo(1));
+  }
+  @Test
+  public void putSameValueReturnsSameNode() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty().put(one,one).put(2,2);
+    assertTrue(node.put(one,one)==node);
+  }
+  @Test
+  public void putMany() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<100_000;i++) {
+      Integer next = i;
+      node = node.plus(0, next.hashCode(), next, next);
+      node = node.plus(0,minusOne.hashCode(),minusOne,minusOne);
+    }
+    assertThat(node.size(),equalTo(100_001));
+    for(int i=0;i<100_000;i++) {
+      assertThat(node.getOrElse(i,null),equalTo(i));
+    }
+    assertTrue(node.get(0,minusOne.hashCode(),minusOne).isPresent());
+  }
+  @Test
+  public void collisions() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<10;i++) {
+      node = node.plus(0, 7, i, i);
+    }
+    assertThat(node.size(),equalTo(10));
+    for(int i=0;i<10;i++) {
+      assertThat(node.getOrElse(0,7,i,null),equalTo(i));
+      assertFalse(node.containsKey(0,8,i));
+    }
+    for(int i=0;i<9;i++) {
+      node = node.minus(0,7,i);
+    }
+    assertThat(node.size(),equalTo(1));
+    assertThat(node.getOrElse(0,7,9,null),equalTo(9));
+    assertThat(node,equalTo(CHAMP.<Integer, Integer>empty().plus(0,7,9,9)));
+  }
+  @Test
+  public void removeToEmpty() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<1000;i++) {
+      node = node.put(i,i);
+    }
+    for(int i=0;i<1000;i++) {
+      node = node.minus(i);
+      assertThat(node.size(),equalTo(999-i));
+    }
+    assertThat(node,equalTo(CHAMP.empty()));
+  }
+  @Test
+  public void canonicalFormIsIndependentOfHistory() throws Exception {
+    List<Integer> keys = new ArrayList<>();
+    for(int i=0;i<5000;i++)
+      keys.add(i*31);
+    Node<Integer, Integer> inOrder = CHAMP.<Integer, Integer>empty();
+    for(Integer next : keys)
+      inOrder = inOrder.put(next,next);
+
+    Collections.shuffle(keys,new Random(42));
+    Node<Integer, Integer> shuffled = CHAMP.<Integer, Integer>empty();
+    for(Integer next : keys)
+      shuffled = shuffled.put(next,next);
+    for(int i=0;i<5000;i++)
+      shuffled = shuffled.put(-i-1,i);
+    for(int i=0;i<5000;i++)
+      shuffled = shuffled.minus(-i-1);
+
+    assertThat(shuffled,equalTo(inOrder));
+    assertThat(shuffled.hashCode(),equalTo(inOrder.hashCode()));
+    assertThat(shuffled.toString(),equalTo(inOrder.toString()));
+  }
+  @Test
+  public void notEqualWithDifferentValue() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<1000;i++)
+      node = node.put(i,i);
+    assertThat(node.put(500,-1),not(node));
+    assertThat(node.minus(500),not(node));
+  }
+  private static <T> org.hamcrest.Matcher<T> not(T value){
+    return org.hamcrest.Matchers.not(equalTo(value));
+  }
+  @Test
+  public void iterate() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<10_000;i++)
+      node = node.plus(0,i%1000,i,i*2);
+    int count = 0;
+    long total = 0;
+    Iterator<Tuple2<Integer,Integer>> it = node.iterator();
+    while(it.hasNext()){
+      Tuple2<Integer,Integer> next = it.next();
+      assertThat(next._2(),equalTo(next._1()*2));
+      count++;
+      total += next._1();
+    }
+    assertThat(count,equalTo(10_000));
+    assertThat(total,equalTo(9999L*10_000/2));
+    assertThat(node.stream().count(),equalTo(10_000L));
+  }
+  @Test
+  public void matchesJavaHashMap() throws Exception {
+    Random r = new Random(0);
+    Map<Integer,Integer> expected = new java.util.HashMap<>();
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<200_000;i++){
+      Integer key = r.nextInt(20_000);
+      //force frequent collisions and shared prefixes
+      int hash = (key % 3 == 0) ? key / 8 : key;
+      if(r.nextInt(3)==0){
+        expected.remove(key);
+        node = node.minus(0,hash,key);
+      }else{
+        expected.put(key,i);
+        node = node.plus(0,hash,key,i);
+      }
+      assertThat(node.size(),equalTo(expected.size()));
+    }
+    for(Map.Entry<Integer,Integer> e : expected.entrySet()){
+      int hash = (e.getKey() % 3 == 0) ? e.getKey() / 8 : e.getKey();
+      assertThat(node.getOrElse(0,hash,e.getKey(),null),equalTo(e.getValue()));
+    }
+    Map<Integer,Integer> iterated = new java.util.HashMap<>();
+    for(Iterator<Tuple2<Integer,Integer>> it = node.iterator();it.hasNext();){
+      Tuple2<Integer,Integer> next = it.next();
+      iterated.put(next._1(),next._2());
+    }
+    assertThat(iterated,equalTo(expected));
+  }
+  private static Node<Integer,Integer> build(Map<Integer,Integer> entries){
+    List<Map.Entry<Integer,Integer>> shuffled = new ArrayList<>(entries.entrySet());
+    Collections.shuffle(shuffled,new Random(1));
+    Node<Integer,Integer> node = CHAMP.empty();
+    for(Map.Entry<Integer,Integer> e : shuffled)
+      node = node.plus(0,e.getKey()%700,e.getKey(),e.getValue());
+    return node;
+  }
+  @Test
+  public void bulkOperationsMatchJavaHashMap() throws Exception {
+    Random r = new Random(0);
+    for(int round=0;round<200;round++){
+      Map<Integer,Integer> left = new java.util.HashMap<>();
+      Map<Integer,Integer> right = new java.util.HashMap<>();
+      for(int i=0;i<r.nextInt(2000);i++){
+        int key = r.nextInt(3000);
+        if(r.nextBoolean())
+          left.put(key,r.nextInt(3));
+        else
+          right.put(key,r.nextInt(3));
+      }
+      Node<Integer,Integer> a = build(left);
+      Node<Integer,Integer> b = build(right);
+
+      Map<Integer,Integer> union = new java.util.HashMap<>(left);
+      union.putAll(right);
+      assertThat(a.union(b),equalTo(build(union)));
+
+      Map<Integer,Integer> merged = new java.util.HashMap<>(left);
+      right.forEach((k,v)->merged.merge(k,v,(x,y)->x*10+y));
+      assertThat(a.mergeWith(b,(x,y)->x*10+y),equalTo(build(merged)));
+
+      Map<Integer,Integer> intersection = new java.util.HashMap<>(left);
+      intersection.keySet().retainAll(right.keySet());
+      assertThat(a.intersection(b),equalTo(build(intersection)));
+
+      Map<Integer,Integer> difference = new java.util.HashMap<>(left);
+      difference.keySet().removeAll(right.keySet());
+      assertThat(a.difference(b),equalTo(build(difference)));
+    }
+  }
+  @Test
+  public void bulkOperationsReuseSharedTries() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<10_000;i++)
+      node = node.put(i,i);
+    Node<Integer, Integer> updated = node.put(500,-1);
+    assertTrue(node.union(node)==node);
+    assertTrue(node.intersection(node)==node);
+    assertTrue(node.union(CHAMP.empty())==node);
+    assertTrue(node.union(updated)==updated);
+    assertTrue(updated.union(node.minus(500))==updated);
+    assertThat(node.difference(node).size(),equalTo(0));
+    assertThat(node.difference(updated.minus(500)).size(),equalTo(1));
+  }
+}
@@ -0,0 +1,200 @@
+package cyclops.data.base;
+
+import org.junit.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class RopeTest {
+
+  Random random = new Random(42);
+
+  private String randomString(int length){
+    StringBuilder builder = new StringBuilder();
+    for(int i=0;i<length;i++)
+      builder.append((char)('a'+random.nextInt(26)));
+    return builder.toString();
+  }
+
+  private Rope rope(String value, int kind){
+    switch(kind){
+      case 0:
+        return Rope.of(value);
+      case 1:
+        return Rope.fromReader(new StringReader(value));
+      case 2:
+        return Rope.fromCharBuffer(CharBuffer.wrap(value));
+      default:
+        List<Character> chars = new ArrayList<>();
+        for(char next : value.toCharArray())
+          chars.add(next);
+        return Rope.fromIterator(chars.iterator());
+    }
+  }
+
+  private void assertRope(Rope rope, String expected){
+    assertThat(rope.length(),equalTo(expected.length()));
+    assertThat(rope.toString(),equalTo(expected));
+    StringBuilder iterated = new StringBuilder();
+    Iterator<Character> it = rope.iterator();
+    while(it.hasNext())
+      iterated.append(it.next());
+    assertThat(iterated.toString(),equalTo(expected));
+    for(int i=0;i<expected.length();i+=Math.max(1,expected.length()/20))
+      assertThat(rope.charAt(i),equalTo(expected.charAt(i)));
+  }
+
+  @Test
+  public void empty(){
+    assertTrue(Rope.empty().isEmpty());
+    assertThat(Rope.empty().length(),equalTo(0));
+    assertFalse(Rope.empty().iterator().hasNext());
+    assertTrue(Rope.fromReader(new StringReader("")).isEmpty());
+  }
+
+  @Test
+  public void matchesString(){
+    for(int round=0;round<500;round++){
+      Rope rope = Rope.empty();
+      String expected = "";
+      for(int op=0;op<20;op++){
+        switch(random.nextInt(5)){
+          case 0: {
+            String next = randomString(random.nextInt(random.nextBoolean() ? 5 : 3000));
+            rope = rope.append(rope(next, random.nextInt(4)));
+            expected = expected + next;
+            break;
+          }
+          case 1: {
+            String next = randomString(random.nextInt(random.nextBoolean() ? 5 : 3000));
+            rope = rope.prepend(rope(next, random.nextInt(4)));
+            expected = next + expected;
+            break;
+          }
+          case 2: {
+            int n = random.nextInt(expected.length() + 2);
+            rope = rope.take(n);
+            expected = expected.substring(0, Math.min(n, expected.length()));
+            break;
+          }
+          case 3: {
+            int n = random.nextInt(expected.length() + 2);
+            rope = rope.drop(n);
+            expected = expected.substring(Math.min(n, expected.length()));
+            break;
+          }
+          default: {
+            int start = random.nextInt(expected.length() + 1);
+            int end = start + random.nextInt(expected.length() - start + 1);
+            rope = rope.substring(start, end);
+            expected = expected.substring(start, end);
+          }
+        }
+      }
+      assertRope(rope, expected);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void charAtOutOfRange(){
+    Rope.of("hello").append(Rope.of(" world")).charAt(11);
+  }
+
+  @Test
+  public void manySmallAppends(){
+    Rope rope = Rope.empty();
+    StringBuilder expected = new StringBuilder();
+    for(int i=0;i<100_000;i++){
+      char next = (char)('a'+i%26);
+      rope = rope.append(Rope.of(String.valueOf(next)));
+      expected.append(next);
+    }
+    assertRope(rope, expected.toString());
+    assertTrue(rope.height() < 40);
+    assertRope(rope.substring(50_000, 50_100), expected.substring(50_000, 50_100));
+  }
+
+  @Test
+  public void readerIsLazy(){
+    int[] reads = {0};
+    Reader reader = new Reader() {
+      int remaining = 1_000_000;
+      @Override
+      public int read(char[] buffer, int offset, int length) {
+        reads[0]++;
+        if(remaining == 0)
+          return -1;
+        int read = Math.min(length, remaining);
+        Arrays.fill(buffer, offset, offset + read, 'x');
+        remaining -= read;
+        return read;
+      }
+      @Override
+      public void close() {
+      }
+    };
+    Rope rope = Rope.fromReader(reader);
+    Rope tail = rope.drop(10).append(Rope.of("!"));
+    assertThat(reads[0],equalTo(0));
+    assertThat(rope.take(5).toString(),equalTo("xxxxx"));
+    assertThat(reads[0],equalTo(1));
+    assertThat(tail.charAt(0),equalTo('x'));
+    assertThat(reads[0],equalTo(1));
+    assertThat(tail.length(),equalTo(1_000_000 - 10 + 1));
+    assertThat(tail.charAt(1_000_000 - 10),equalTo('!'));
+    assertThat(rope.length(),equalTo(1_000_000));
+  }
+
+  @Test
+  public void deepTakeAndDropChains(){
+    String value = randomString(30_000);
+    Rope dropped = Rope.fromReader(new StringReader(value));
+    Rope taken = Rope.fromReader(new StringReader(value));
+    for(int i=0;i<10_000;i++){
+      dropped = dropped.drop(1);
+      taken = taken.take(value.length() - i - 1);
+    }
+    assertRope(dropped, value.substring(10_000));
+    assertRope(taken, value.substring(0, 20_000));
+    Rope sliced = Rope.fromReader(new StringReader(value));
+    for(int i=0;i<10_000;i++){
+      sliced = sliced.drop(1).take(value.length() - 2 * i - 2);
+    }
+    assertRope(sliced, value.substring(10_000, 20_000));
+  }
+
+  @Test
+  public void dropWhileIterating(){
+    String value = randomString(20_000);
+    Rope rope = Rope.fromReader(new StringReader(value));
+    StringBuilder read = new StringBuilder();
+    while(!rope.isEmpty()){
+      read.append(rope.charAt(0));
+      rope = rope.drop(1);
+    }
+    assertThat(read.toString(),equalTo(value));
+  }
+
+  @Test
+  public void charBufferPositionUnchanged(){
+    CharBuffer buffer = CharBuffer.wrap("hello world");
+    buffer.position(6);
+    Rope rope = Rope.fromCharBuffer(buffer);
+    assertThat(rope.toString(),equalTo("world"));
+    assertThat(buffer.position(),equalTo(6));
+  }
+
+  @Test
+  public void reverse(){
+    assertThat(Rope.of("hello").append(Rope.fromReader(new StringReader(" world"))).reverse().toString(),equalTo("dlrow olleh"));
+  }
+}
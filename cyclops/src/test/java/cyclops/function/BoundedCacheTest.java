@@ -0,0 +1,116 @@
+package cyclops.function;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void evictsLeastRecentlyUsed(){
+        BoundedCache<Integer> cache = BoundedCache.lru(2);
+        AtomicInteger called = new AtomicInteger(0);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i->{
+            called.incrementAndGet();
+            return i*10;
+        },cache);
+        fn.apply(1);
+        fn.apply(2);
+        fn.apply(1);
+        fn.apply(3);
+        assertThat(fn.apply(1),equalTo(10));
+        assertThat(called.get(),equalTo(3));
+        assertThat(fn.apply(2),equalTo(20));
+        assertThat(called.get(),equalTo(4));
+        assertThat(cache.size(),equalTo(2l));
+        assertThat(cache.stats().getHitCount(),equalTo(2l));
+        assertThat(cache.stats().getMissCount(),equalTo(4l));
+        assertThat(cache.stats().getEvictionCount(),equalTo(2l));
+    }
+    @Test
+    public void biFunction(){
+        BoundedCache<Integer> cache = BoundedCache.lru(10);
+        Function2<Integer,Integer,Integer> fn = Memoize.memoizeBiFunction((a,b)->a+b,cache);
+        assertThat(fn.apply(1,2),equalTo(3));
+        assertThat(fn.apply(1,2),equalTo(3));
+        assertThat(cache.stats().getHitCount(),equalTo(1l));
+    }
+    @Test
+    public void expireAfterWrite(){
+        long[] now = {0};
+        BoundedCache<Integer> cache = BoundedCache.<Integer>builder()
+                                                  .expireAfterWrite(10, TimeUnit.NANOSECONDS)
+                                                  .ticker(()->now[0])
+                                                  .build();
+        AtomicInteger value = new AtomicInteger(0);
+        Function1<String,Integer> fn = Memoize.memoizeFunction(s->value.incrementAndGet(),cache);
+        assertThat(fn.apply("a"),equalTo(1));
+        now[0]=5;
+        assertThat(fn.apply("a"),equalTo(1));
+        now[0]=10;
+        assertThat(fn.apply("a"),equalTo(2));
+    }
+    @Test
+    public void refreshAfterWrite(){
+        long[] now = {0};
+        BoundedCache<Integer> cache = BoundedCache.<Integer>builder()
+                                                  .refreshAfterWrite(10, TimeUnit.NANOSECONDS)
+                                                  .ticker(()->now[0])
+                                                  .build();
+        AtomicInteger value = new AtomicInteger(0);
+        Function1<String,Integer> fn = Memoize.memoizeFunction(s->value.incrementAndGet(),cache);
+        assertThat(fn.apply("a"),equalTo(1));
+        now[0]=20;
+        assertThat(fn.apply("a"),equalTo(2));
+        assertThat(fn.apply("a"),equalTo(2));
+    }
+    @Test
+    public void failedLoadsAreNotCached(){
+        BoundedCache<Integer> cache = BoundedCache.lru(10);
+        AtomicInteger called = new AtomicInteger(0);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i->{
+            if(called.incrementAndGet()==1)
+                throw new IllegalStateException();
+            return i;
+        },cache);
+        try{
+            fn.apply(1);
+        }catch(IllegalStateException e){
+
+        }
+        assertThat(fn.apply(1),equalTo(1));
+        assertThat(cache.stats().getLoadFailureCount(),equalTo(1l));
+    }
+    @Test
+    public void concurrentLoadsAreCollapsed() throws InterruptedException {
+        BoundedCache<Integer> cache = BoundedCache.lru(10);
+        AtomicInteger loads = new AtomicInteger(0);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService ex = Executors.newFixedThreadPool(8);
+        for(int i=0;i<8;i++){
+            ex.submit(()->{
+                start.await();
+                return cache.computeIfAbsent("key",k->{
+                    loads.incrementAndGet();
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                    }
+                    return 1;
+                });
+            });
+        }
+        start.countDown();
+        ex.shutdown();
+        ex.awaitTermination(10,TimeUnit.SECONDS);
+        assertThat(loads.get(),equalTo(1));
+        assertThat(cache.stats().getMissCount(),equalTo(1l));
+    }
+}
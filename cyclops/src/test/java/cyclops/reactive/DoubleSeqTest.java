@@ -0,0 +1,28 @@
+package cyclops.reactive;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class DoubleSeqTest {
+
+    private void check(DoubleSeq seq){
+        assertThat(seq.map(d->d*2).filter(d->d>4).sum(),equalTo(12d));
+    }
+    @Test
+    public void mapFilterSum(){
+        check(DoubleSeq.of(1.5,2.5,3.5));
+        check(Spouts.of(1.5,2.5,3.5).mapToDoubleSeq(d->d));
+        check(ReactiveSeq.of(1.5,2.5,3.5).mapToDoubleSeq(d->d));
+    }
+    @Test
+    public void terminalOperations(){
+        assertThat(Spouts.of(1.5,2.5,3.5).mapToDoubleSeq(d->d).min(),equalTo(OptionalDouble.of(1.5)));
+        assertThat(Spouts.of(1.5,2.5,3.5).mapToDoubleSeq(d->d).average(),equalTo(OptionalDouble.of(2.5)));
+        assertThat(Spouts.of(1.5,2.5).mapToDoubleSeq(d->d).boxed().toList(),equalTo(Arrays.asList(1.5,2.5)));
+    }
+}
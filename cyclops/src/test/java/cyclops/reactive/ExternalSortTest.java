@@ -0,0 +1,124 @@
+package cyclops.reactive;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ExternalSortTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SpillConfig<Integer> config(int runSize, int mergeFactor, boolean parallel) throws IOException {
+        return SpillConfig.<Integer>builder(SpillConfig.Serializer.javaSerialization())
+                          .runSize(runSize)
+                          .mergeFactor(mergeFactor)
+                          .parallelRunSort(parallel)
+                          .directory(folder.getRoot().toPath())
+                          .build();
+    }
+
+    private long spillFiles() throws IOException {
+        try(java.util.stream.Stream<Path> files = Files.list(folder.getRoot().toPath())){
+            return files.count();
+        }
+    }
+
+    @Test
+    public void inMemoryWhenInputFitsInOneRun() throws IOException {
+        SpillConfig<Integer> config = config(10, 2, false);
+        assertThat(ReactiveSeq.of(4, 3, 6, 7).sorted(Comparator.naturalOrder(), config).toList(),
+                   equalTo(ReactiveSeq.of(3, 4, 6, 7).toList()));
+        assertThat(config.stats().getRunsSpilled(), equalTo(0l));
+    }
+
+    @Test
+    public void empty() throws IOException {
+        assertThat(ReactiveSeq.<Integer>empty().sorted(Comparator.naturalOrder(), config(10, 2, false)).count(), equalTo(0l));
+    }
+
+    @Test
+    public void spillsAndMerges() throws IOException {
+        List<Integer> input = new Random(1).ints(10_000, 0, 1000).boxed().collect(Collectors.toList());
+        SpillConfig<Integer> config = config(100, 4, false);
+
+        List<Integer> sorted = ReactiveSeq.fromList(input).sorted(Comparator.naturalOrder(), config).toList();
+
+        assertThat(sorted, equalTo(ReactiveSeq.fromList(input).sorted().toList()));
+        assertThat(config.stats().getRunsSpilled() >= 100, equalTo(true));
+        assertThat(config.stats().getMergePasses() > 0, equalTo(true));
+        assertThat(spillFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void partiallyConsumedSortDeletesSpillFilesOnClose() throws IOException {
+        List<Integer> input = new Random(3).ints(10_000, 0, 1000).boxed().collect(Collectors.toList());
+        List<Integer> expected = ReactiveSeq.fromList(input).sorted().limit(10).toList();
+
+        try(ReactiveSeq<Integer> sorted = ReactiveSeq.fromList(input).sorted(Comparator.naturalOrder(), config(100, 4, false))){
+            assertThat(sorted.limit(10).toList(), equalTo(expected));
+            assertThat(spillFiles() > 0, equalTo(true));
+        }
+        assertThat(spillFiles(), equalTo(0l));
+
+        ReactiveSeq<Integer> limited = Spouts.fromIterable(input).sorted(Comparator.naturalOrder(), config(100, 4, false)).limit(10);
+        assertThat(limited.toList(), equalTo(expected));
+        assertThat(spillFiles() > 0, equalTo(true));
+        limited.close();
+        assertThat(spillFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void failedSortDeletesSpillFiles() throws IOException {
+        ReactiveSeq<Integer> failing = ReactiveSeq.range(0, 10_000).map(i -> {
+            if(i == 5_000)
+                throw new IllegalStateException("boom");
+            return i;
+        });
+        try {
+            failing.sorted(Comparator.naturalOrder(), config(100, 4, false)).toList();
+            fail("sort should fail");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("boom"));
+        }
+        assertThat(spillFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void parallelRunSort() throws IOException {
+        List<Integer> input = new Random(2).ints(10_000, 0, 1000).boxed().collect(Collectors.toList());
+        List<Integer> sorted = ReactiveSeq.fromList(input).sorted(Comparator.reverseOrder(), config(1000, 64, true)).toList();
+        assertThat(sorted, equalTo(ReactiveSeq.fromList(input).sorted(Comparator.reverseOrder()).toList()));
+    }
+
+    @Test
+    public void stable() throws IOException {
+        SpillConfig<String> config = SpillConfig.builder(SpillConfig.Serializer.strings())
+                                                .runSize(2)
+                                                .mergeFactor(2)
+                                                .directory(folder.getRoot().toPath())
+                                                .build();
+        List<String> sorted = ReactiveSeq.of("b1", "a1", "b2", "a2", "b3", "a3", "c1")
+                                         .sorted(Comparator.comparing(s -> s.charAt(0)), config)
+                                         .toList();
+        assertThat(sorted, equalTo(ReactiveSeq.of("a1", "a2", "a3", "b1", "b2", "b3", "c1").toList()));
+    }
+
+    @Test
+    public void reactiveStream() throws IOException {
+        assertThat(Spouts.of(5, 1, 4, 2, 3).sorted(Comparator.naturalOrder(), config(2, 2, false)).toList(),
+                   equalTo(ReactiveSeq.of(1, 2, 3, 4, 5).toList()));
+    }
+}
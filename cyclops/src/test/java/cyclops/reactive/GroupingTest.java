@@ -0,0 +1,67 @@
+package cyclops.reactive;
+
+import cyclops.data.HashMap;
+import cyclops.data.Vector;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class GroupingTest {
+
+    @Test
+    public void groupByRetainsOrder(){
+        HashMap<Integer, Vector<Integer>> map = ReactiveSeq.of(1, 2, 3, 4, 5).groupBy(i -> i % 2);
+        assertThat(map.size(), equalTo(2));
+        assertThat(map.getOrElse(0, Vector.empty()), equalTo(Vector.of(2, 4)));
+        assertThat(map.getOrElse(1, Vector.empty()), equalTo(Vector.of(1, 3, 5)));
+    }
+
+    @Test
+    public void groupByReactive(){
+        HashMap<Integer, Vector<Integer>> map = Spouts.of(1, 2, 3, 4, 5).groupBy(i -> i % 2);
+        assertThat(map.getOrElse(0, Vector.empty()), equalTo(Vector.of(2, 4)));
+        assertThat(map.getOrElse(1, Vector.empty()), equalTo(Vector.of(1, 3, 5)));
+    }
+
+    @Test
+    public void groupByEmpty(){
+        assertThat(ReactiveSeq.<Integer>empty().groupBy(i -> i % 2), equalTo(HashMap.empty()));
+        assertThat(ReactiveSeq.<Integer>empty().groupByParallel(i -> i % 2), equalTo(HashMap.empty()));
+    }
+
+    @Test
+    public void groupByParallelMatchesSequential(){
+        HashMap<Integer, Vector<Integer>> sequential = ReactiveSeq.range(0, 100_000).groupBy(i -> i % 97);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            HashMap<Integer, Vector<Integer>> parallel = ReactiveSeq.range(0, 100_000).groupByParallel(pool, i -> i % 97);
+            assertThat(parallel, equalTo(sequential));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void groupingReduce(){
+        HashMap<Integer, Integer> sums = ReactiveSeq.of(1, 2, 3, 4).groupingReduce(i -> i % 2, 0, (acc, i) -> acc + i);
+        assertThat(sums, equalTo(HashMap.of(0, 6, 1, 4)));
+        assertThat(Spouts.of(1, 2, 3, 4).groupingReduce(i -> i % 2, 0, (acc, i) -> acc + i), equalTo(HashMap.of(0, 6, 1, 4)));
+    }
+
+    @Test
+    public void groupingReduceParallel(){
+        HashMap<Integer, Long> sums = ReactiveSeq.range(0, 100_000).foldParallel(s -> ReactiveSeq.fromStream(s).groupingReduce(i -> i % 10, 0l, (acc, i) -> acc + i, Long::sum));
+        assertThat(sums.size(), equalTo(10));
+        assertThat(sums.getOrElse(3, -1l), equalTo(ReactiveSeq.range(0, 100_000).filter(i -> i % 10 == 3).mapToLong(i -> i).sum()));
+    }
+
+    @Test
+    public void countBy(){
+        HashMap<Boolean, Long> counts = ReactiveSeq.of(1, 2, 3, 4, 5).countBy(i -> i > 2);
+        assertThat(counts, equalTo(HashMap.of(false, 2l, true, 3l)));
+        assertThat(ReactiveSeq.range(0, 1000).countBy(i -> i % 10).getOrElse(3, -1l), equalTo(100l));
+    }
+}
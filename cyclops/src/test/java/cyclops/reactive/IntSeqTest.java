@@ -0,0 +1,72 @@
+package cyclops.reactive;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class IntSeqTest {
+
+    private void check(IntSeq seq){
+        assertThat(seq.map(i->i*2).filter(i->i%3==0).sum(),equalTo(2*(0+3+6+9)));
+    }
+    @Test
+    public void mapFilterSum(){
+        check(IntSeq.range(0,10));
+        check(IntSeq.of(0,1,2,3,4,5,6,7,8,9));
+        check(Spouts.rangeInts(0,10));
+        check(Spouts.range(0,10).mapToIntSeq(i->i));
+        check(ReactiveSeq.range(0,10).mapToIntSeq(i->i));
+    }
+    @Test
+    public void reverseRange(){
+        assertThat(IntSeq.range(10,0).count(),equalTo(10l));
+        assertThat(Spouts.rangeInts(10,0).count(),equalTo(10l));
+    }
+    @Test
+    public void terminalOperations(){
+        for(IntSeq seq : Arrays.asList(IntSeq.of(3,1,2),Spouts.of(3,1,2).mapToIntSeq(i->i))){
+            assertThat(Arrays.toString(seq.toArray()),equalTo("[3, 1, 2]"));
+        }
+        assertThat(Spouts.of(3,1,2).mapToIntSeq(i->i).min(),equalTo(OptionalInt.of(1)));
+        assertThat(Spouts.of(3,1,2).mapToIntSeq(i->i).max(),equalTo(OptionalInt.of(3)));
+        assertThat(Spouts.of(3,1,2).mapToIntSeq(i->i).average(),equalTo(OptionalDouble.of(2)));
+        assertThat(Spouts.of(3,1,2).mapToIntSeq(i->i).reduce(1,(a,b)->a*b),equalTo(6));
+        assertThat(Spouts.<Integer>of().mapToIntSeq(i->i).min(),equalTo(OptionalInt.empty()));
+        assertThat(IntSeq.of().average(),equalTo(OptionalDouble.empty()));
+    }
+    @Test
+    public void largeToArray(){
+        assertThat(Spouts.rangeInts(0,1000).toArray().length,equalTo(1000));
+        assertThat(Spouts.rangeInts(0,1000).toArray()[999],equalTo(999));
+    }
+    @Test
+    public void peek(){
+        AtomicInteger count = new AtomicInteger(0);
+        Spouts.rangeInts(0,100).peek(i->count.incrementAndGet()).forEach(i->{});
+        assertThat(count.get(),equalTo(100));
+    }
+    @Test
+    public void boxed(){
+        assertThat(IntSeq.range(0,3).boxed().toList(),equalTo(Arrays.asList(0,1,2)));
+        assertThat(Spouts.rangeInts(0,3).boxed().toList(),equalTo(Arrays.asList(0,1,2)));
+        assertThat(Spouts.rangeInts(0,3).mapToObj(i->"x"+i).toList(),equalTo(Arrays.asList("x0","x1","x2")));
+    }
+    @Test
+    public void boxedIsBackpressured(){
+        assertThat(Spouts.rangeInts(0,1000).filter(i->i%2==0).boxed().limit(5).toList(),equalTo(Arrays.asList(0,2,4,6,8)));
+    }
+    @Test(expected = IllegalStateException.class)
+    public void errorsPropagate(){
+        Spouts.rangeInts(0,10).map(i->{
+            if(i==5)
+                throw new IllegalStateException();
+            return i;
+        }).sum();
+    }
+}
@@ -0,0 +1,30 @@
+package cyclops.reactive;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LongSeqTest {
+
+    private void check(LongSeq seq){
+        assertThat(seq.map(i->i*2).filter(i->i%3==0).sum(),equalTo(2l*(0+3+6+9)));
+    }
+    @Test
+    public void mapFilterSum(){
+        check(LongSeq.range(0,10));
+        check(LongSeq.of(0,1,2,3,4,5,6,7,8,9));
+        check(Spouts.rangeLongs(0,10));
+        check(Spouts.rangeLong(0,10).mapToLongSeq(i->i));
+        check(ReactiveSeq.rangeLong(0,10).mapToLongSeq(i->i));
+    }
+    @Test
+    public void terminalOperations(){
+        assertThat(Spouts.rangeLongs(0,4).max(),equalTo(OptionalLong.of(3)));
+        assertThat(Spouts.rangeLongs(0,4).toArray().length,equalTo(4));
+        assertThat(Spouts.rangeLongs(0,3).boxed().toList(),equalTo(Arrays.asList(0l,1l,2l)));
+    }
+}
@@ -0,0 +1,123 @@
+package cyclops.reactive;
+
+import cyclops.data.Seq;
+import cyclops.data.Vector;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ParallelTest {
+
+    private List<Integer> expected(int size){
+        List<Integer> list = new ArrayList<>();
+        for(int i = 0; i < size; i++){
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    public void range(){
+        assertThat(ReactiveSeq.range(0, 100_000).foldParallel(s -> s.mapToLong(i -> i).sum()), equalTo(4_999_950_000l));
+        assertThat(ReactiveSeq.range(0, 100_000).foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected(100_000)));
+    }
+
+    @Test
+    public void longRange(){
+        assertThat(ReactiveSeq.rangeLong(0, 100_000).foldParallel(s -> s.count()), equalTo(100_000l));
+    }
+
+    @Test
+    public void rangeLargerThanIntMax(){
+        assertThat(ReactiveSeq.range(-2_000_000_000, 2_000_000_000).foldParallel(s -> s.findFirst()),
+                   equalTo(Optional.of(-2_000_000_000)));
+        assertThat(ReactiveSeq.range(-2_000_000_000, 2_000_000_000).foldParallel(s -> s.count()), equalTo(4_000_000_000l));
+    }
+
+    @Test
+    public void longRangeLargerThanLongMax(){
+        assertThat(ReactiveSeq.rangeLong(Long.MIN_VALUE, Long.MAX_VALUE).foldParallel(s -> s.findFirst()),
+                   equalTo(Optional.of(Long.MIN_VALUE)));
+    }
+
+    @Test
+    public void array(){
+        Integer[] array = expected(10_000).toArray(new Integer[0]);
+        assertThat(ReactiveSeq.of(array).foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected(10_000)));
+    }
+
+    @Test
+    public void randomAccessList(){
+        assertThat(ReactiveSeq.fromList(expected(10_000)).foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected(10_000)));
+    }
+
+    @Test
+    public void linkedList(){
+        List<Integer> list = new LinkedList<>(expected(10_000));
+        assertThat(ReactiveSeq.fromList(list).foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected(10_000)));
+    }
+
+    @Test
+    public void vector(){
+        Vector<Integer> vector = Vector.fromIterable(expected(10_000));
+        assertThat(vector.stream().foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected(10_000)));
+        assertThat(vector.stream().map(i -> i * 2).foldParallel(s -> s.mapToLong(i -> i).sum()), equalTo(99_990_000l));
+    }
+
+    @Test
+    public void seq(){
+        Seq<Integer> seq = Seq.fromIterable(expected(10_000));
+        assertThat(seq.stream().foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected(10_000)));
+        assertThat(seq.stream().foldParallel(s -> s.count()), equalTo(10_000l));
+    }
+
+    @Test
+    public void mapOverRange(){
+        assertThat(ReactiveSeq.range(0, 10_000).map(i -> i * 2).foldParallel(s -> s.collect(Collectors.toList())),
+                   equalTo(ReactiveSeq.range(0, 10_000).map(i -> i * 2).toList()));
+    }
+
+    @Test
+    public void unsized(){
+        assertThat(ReactiveSeq.iterate(0, i -> i + 1).limit(10_000).foldParallel(s -> s.collect(Collectors.toList())),
+                   equalTo(expected(10_000)));
+        assertThat(ReactiveSeq.range(0, 10_000).filter(i -> i % 2 == 0).foldParallel(s -> s.count()), equalTo(5_000l));
+    }
+
+    @Test
+    public void reactiveStream(){
+        assertThat(Spouts.range(0, 10_000).foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected(10_000)));
+    }
+
+    @Test
+    public void parallelPreservesOrder(){
+        assertThat(ReactiveSeq.range(0, 10_000).parallel(s -> s.map(i -> i + 1)).toList(),
+                   equalTo(ReactiveSeq.range(1, 10_001).toList()));
+    }
+
+    @Test
+    public void parallelIsLazy(){
+        int[] calls = {0};
+        ReactiveSeq<Integer> seq = ReactiveSeq.range(0, 10).parallel(s -> s.peek(i -> calls[0]++));
+        assertThat(calls[0], equalTo(0));
+        assertThat(seq.count(), equalTo(10l));
+    }
+
+    @Test
+    public void forkJoinPool(){
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThat(ReactiveSeq.range(0, 10_000).parallel(pool, s -> s.map(i -> i)).toList(), equalTo(expected(10_000)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}